@@ -1,6 +1,7 @@
 package controllers;
 
 import entities.Dica;
+import entities.Sessao;
 import entities.Usuario;
 import repositories.DicaRepository;
 
@@ -29,51 +30,99 @@ public class DicaController {
      * @param cpf o cpf do usuário autor da dica
      * @param senha a senha do usuário autor da dica
      * @param tema o tema da nova dica
-     * @return o índice da dica adicionada, ou 0 se a dica não foi criada
+     * @return o identificador da dica adicionada, ou 0 se a dica não foi criada
      */
 	public int criarDica(String cpf, String senha, String tema) {
-		Usuario autor = usuarioController.buscaEstudante(cpf, senha);
-		return dicaRepository.adicionaDica(new Dica(autor, tema));
+		return criaDica(usuarioController.buscaEstudante(cpf, senha), tema);
+	}
+	
+	/**
+     * Cria uma nova dica associada ao usuário dono da sessão fornecida.
+     *
+     * @param sessao a sessão aberta pelo usuário
+     * @param tema o tema da nova dica
+     * @return o identificador da dica adicionada, ou 0 se a dica não foi criada
+     */
+	public int criarDica(Sessao sessao, String tema) {
+		return criaDica(usuarioController.buscaEstudante(sessao), tema);
 	}
 	
 	/**
-     * Adiciona um elemento texto à dica na posição especificada.
+     * Adiciona um elemento texto à dica com o identificador especificado.
      *
      * @param cpf o cpf do usuário autor do texto
      * @param senha a senha do usuário autor do texto
-     * @param posicao a posição da dica a ser atualizada (1-based)
+     * @param idDica o identificador da dica a ser atualizada
+     * @param texto o texto a ser adicionado
+     * @return true se o texto foi adicionado com sucesso, false caso contrário
+     */
+	public boolean adicionarTextoDica(String cpf, String senha, int idDica, String texto) {
+		return adicionaTexto(usuarioController.buscaEstudante(cpf, senha), idDica, texto);
+	}
+	
+	/**
+     * Adiciona um elemento texto à dica com o identificador especificado.
+     *
+     * @param sessao a sessão aberta pelo usuário
+     * @param idDica o identificador da dica a ser atualizada
      * @param texto o texto a ser adicionado
      * @return true se o texto foi adicionado com sucesso, false caso contrário
      */
-	public boolean adicionarTextoDica(String cpf, String senha, int posicao, String texto) {
-		Usuario autor = usuarioController.buscaEstudante(cpf, senha);
-		Dica dicaProcurada = dicaRepository.buscaDica(posicao);
-		return dicaProcurada.adicionaTexto(autor, texto);
+	public boolean adicionarTextoDica(Sessao sessao, int idDica, String texto) {
+		return adicionaTexto(usuarioController.buscaEstudante(sessao), idDica, texto);
 	}
 	
 	/**
-     * Adiciona um elemento multimídia à dica na posição especificada.
+     * Adiciona um elemento multimídia à dica com o identificador especificado.
      *
      * @param cpf o cpf do usuário autor da multimídia
      * @param senha a senha do usuário autor da multimídia
-     * @param posicao a posição da dica a ser atualizada (1-based)
+     * @param idDica o identificador da dica a ser atualizada
+     * @param link o link para a multimídia
+     * @param cabecalho o cabeçalho descritivo da multimídia
+     * @param tempo a duração da multimídia em segundos
+     * @return true se a multimídia foi adicionada com sucesso, false caso contrário
+     */
+	public boolean adicionarMultimidiaDica(String cpf, String senha, int idDica, String link, String cabecalho, int tempo) {
+		return adicionaMultimidia(usuarioController.buscaEstudante(cpf, senha), idDica, link, cabecalho, tempo);
+	}
+	
+	/**
+     * Adiciona um elemento multimídia à dica com o identificador especificado.
+     *
+     * @param sessao a sessão aberta pelo usuário
+     * @param idDica o identificador da dica a ser atualizada
      * @param link o link para a multimídia
      * @param cabecalho o cabeçalho descritivo da multimídia
      * @param tempo a duração da multimídia em segundos
      * @return true se a multimídia foi adicionada com sucesso, false caso contrário
      */
-	public boolean adicionarMultimidiaDica(String cpf, String senha, int posicao, String link, String cabecalho, int tempo) {
-		Usuario autor = usuarioController.buscaEstudante(cpf, senha);
-		Dica dicaProcurada = dicaRepository.buscaDica(posicao);
-		return dicaProcurada.adicionaMultimidia(autor, link, cabecalho, tempo);
+	public boolean adicionarMultimidiaDica(Sessao sessao, int idDica, String link, String cabecalho, int tempo) {
+		return adicionaMultimidia(usuarioController.buscaEstudante(sessao), idDica, link, cabecalho, tempo);
 	}
 	
 	/**
-     * Adiciona um elemento referência à dica na posição especificada.
+     * Adiciona um elemento referência à dica com o identificador especificado.
      *
      * @param cpf o cpf do usuário autor da referência
      * @param senha a senha do usuário autor da referência
-     * @param posicao a posição da dica a ser atualizada (1-based)
+     * @param idDica o identificador da dica a ser atualizada
+     * @param titulo o título da referência
+     * @param fonte a fonte da referência
+     * @param ano o ano de publicação da referência
+     * @param conferida indica se a referência foi conferida
+     * @param importancia um valor que indica a importância da referência
+     * @return true se a referência foi adicionada com sucesso, false caso contrário
+     */
+	public boolean adicionarReferenciaDica(String cpf, String senha, int idDica, String titulo, String fonte, int ano, boolean conferida, int importancia) {
+		return adicionaReferencia(usuarioController.buscaEstudante(cpf, senha), idDica, titulo, fonte, ano, conferida, importancia);
+	}
+	
+	/**
+     * Adiciona um elemento referência à dica com o identificador especificado.
+     *
+     * @param sessao a sessão aberta pelo usuário
+     * @param idDica o identificador da dica a ser atualizada
      * @param titulo o título da referência
      * @param fonte a fonte da referência
      * @param ano o ano de publicação da referência
@@ -81,10 +130,8 @@ public class DicaController {
      * @param importancia um valor que indica a importância da referência
      * @return true se a referência foi adicionada com sucesso, false caso contrário
      */
-	public boolean adicionarReferenciaDica(String cpf, String senha, int posicao, String titulo, String fonte, int ano, boolean conferida, int importancia) {
-		Usuario autor = usuarioController.buscaEstudante(cpf, senha);
-		Dica dicaProcurada = dicaRepository.buscaDica(posicao);
-		return dicaProcurada.adicionaReferencia(autor, titulo, fonte, ano, conferida, importancia);
+	public boolean adicionarReferenciaDica(Sessao sessao, int idDica, String titulo, String fonte, int ano, boolean conferida, int importancia) {
+		return adicionaReferencia(usuarioController.buscaEstudante(sessao), idDica, titulo, fonte, ano, conferida, importancia);
 	}
 	
 	/**
@@ -126,4 +173,105 @@ public class DicaController {
 	public String listarDicaDetalhes(int posicao) {
 		return dicaRepository.listaDicaDetalhes(posicao);
 	}
+	
+	/**
+	 * Lista uma página das dicas de um tema, em ordem de identificador.
+	 *
+	 * @param tema o tema das dicas
+	 * @param idUltimo o identificador da última dica da página anterior, ou 0 para a primeira página
+	 * @param limite a quantidade máxima de dicas retornadas
+	 * @return um array de strings representando as dicas da página
+	 * @throws IllegalArgumentException se o tema for inválido ou se o limite não for positivo
+	 */
+	public String[] listarDicasPorTema(String tema, int idUltimo, int limite) {
+		return dicaRepository.listaDicasPorTema(tema, idUltimo, limite);
+	}
+	
+	/**
+	 * Lista uma página das dicas de um autor, em ordem de identificador.
+	 *
+	 * @param cpfAutor o CPF do autor das dicas
+	 * @param idUltimo o identificador da última dica da página anterior, ou 0 para a primeira página
+	 * @param limite a quantidade máxima de dicas retornadas
+	 * @return um array de strings representando as dicas da página
+	 * @throws IllegalArgumentException se o limite não for positivo
+	 */
+	public String[] listarDicasPorAutor(String cpfAutor, int idUltimo, int limite) {
+		return dicaRepository.listaDicasPorAutor(cpfAutor, idUltimo, limite);
+	}
+	
+	/**
+	 * Busca as dicas que contêm os termos da consulta, da mais para a menos relevante.
+	 *
+	 * @param consulta os termos procurados
+	 * @param limite a quantidade máxima de dicas retornadas
+	 * @return um array de strings representando as dicas encontradas
+	 * @throws NullPointerException se a consulta for nula
+	 * @throws IllegalArgumentException se a consulta for vazia ou se o limite não for positivo
+	 */
+	public String[] buscarDicas(String consulta, int limite) {
+		return dicaRepository.buscaDicas(consulta, limite);
+	}
+	
+	/**
+	 * Lista as dicas de maior pontuação de um tema, em ordem decrescente de pontuação.
+	 *
+	 * @param tema o tema das dicas
+	 * @param quantidade a quantidade máxima de dicas retornadas
+	 * @return um array de strings representando as dicas
+	 * @throws IllegalArgumentException se o tema for inválido ou se a quantidade não for positiva
+	 */
+	public String[] listarMelhoresDicas(String tema, int quantidade) {
+		return dicaRepository.listaMelhoresDicas(tema, quantidade);
+	}
+	
+	/**
+     * Lista os lançamentos de bonificação do usuário identificado pelo CPF e senha fornecidos.
+     *
+     * @param cpf o cpf do usuário
+     * @param senha a senha do usuário
+     * @return um array de strings representando os lançamentos, na ordem em que foram feitos
+     */
+	public String[] listarBonificacoes(String cpf, String senha) {
+		return listaBonificacoes(usuarioController.buscaEstudante(cpf, senha));
+	}
+	
+	/**
+     * Lista os lançamentos de bonificação do usuário dono da sessão fornecida.
+     *
+     * @param sessao a sessão aberta pelo usuário
+     * @return um array de strings representando os lançamentos, na ordem em que foram feitos
+     */
+	public String[] listarBonificacoes(Sessao sessao) {
+		return listaBonificacoes(usuarioController.buscaEstudante(sessao));
+	}
+	
+	/**
+     * Recalcula a bonificação de todos os autores com as regras atuais dos elementos.
+     *
+     * @return a quantidade de lançamentos de correção feitos
+     */
+	public int recalcularBonificacoes() {
+		return dicaRepository.recalculaBonificacoes();
+	}
+	
+	private int criaDica(Usuario autor, String tema) {
+		return dicaRepository.adicionaDica(new Dica(autor, tema));
+	}
+	
+	private boolean adicionaTexto(Usuario autor, int idDica, String texto) {
+		return dicaRepository.buscaDicaPorId(idDica).adicionaTexto(autor, texto);
+	}
+	
+	private boolean adicionaMultimidia(Usuario autor, int idDica, String link, String cabecalho, int tempo) {
+		return dicaRepository.buscaDicaPorId(idDica).adicionaMultimidia(autor, link, cabecalho, tempo);
+	}
+	
+	private boolean adicionaReferencia(Usuario autor, int idDica, String titulo, String fonte, int ano, boolean conferida, int importancia) {
+		return dicaRepository.buscaDicaPorId(idDica).adicionaReferencia(autor, titulo, fonte, ano, conferida, importancia);
+	}
+	
+	private String[] listaBonificacoes(Usuario autor) {
+		return dicaRepository.listaBonificacoes(autor);
+	}
 }
@@ -1,5 +1,15 @@
 package controllers;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import entities.ResultadoImportacao;
+import entities.Sessao;
 import enums.TipoAtividadeComplementar;
 
 /**
@@ -31,6 +41,56 @@ public class FacadeController {
 		return this.usuarioController.criarEstudante(nome, cpf, senha, matricula);
 	}
 	
+	/**
+     * Importa estudantes em lote a partir de um arquivo CSV, com uma linha por estudante
+     * no formato {@code nome,cpf,senha,matricula}.
+     *
+     * @param caminhoArquivo o caminho do arquivo CSV, codificado em UTF-8
+     * @return o resultado da importação, com a quantidade de estudantes importados e os erros por linha
+     * @throws UncheckedIOException se não for possível ler o arquivo
+     */
+	public ResultadoImportacao importarEstudantes(String caminhoArquivo) {
+		try (BufferedReader leitor = Files.newBufferedReader(Path.of(caminhoArquivo), StandardCharsets.UTF_8)) {
+			return this.usuarioController.importarEstudantes(leitor);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	/**
+     * Importa estudantes em lote a partir de um arquivo CSV no formato {@code nome,cpf,senha,matricula},
+     * com cada senha já na forma protegida pelo verificador de senhas.
+     *
+     * @param caminhoArquivo o caminho do arquivo CSV, codificado em UTF-8
+     * @return o resultado da importação, com a quantidade de estudantes importados e os erros por linha
+     * @throws UncheckedIOException se não for possível ler o arquivo
+     */
+	public ResultadoImportacao importarEstudantesComSenhaProtegida(String caminhoArquivo) {
+		try (BufferedReader leitor = Files.newBufferedReader(Path.of(caminhoArquivo), StandardCharsets.UTF_8)) {
+			return this.usuarioController.importarEstudantesComSenhaProtegida(leitor);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	/**
+     * Importa atividades complementares em lote a partir de um arquivo CSV, com uma linha por atividade
+     * no formato {@code cpf,tipo,descricao,link,unidade,especificidade}. Exige a senha de administrador.
+     *
+     * @param senhaAdministrador a senha de administrador
+     * @param caminhoArquivo o caminho do arquivo CSV, codificado em UTF-8
+     * @return o resultado da importação, com a quantidade de atividades importadas e os erros por linha
+     * @throws IllegalArgumentException se a senha de administrador não conferir
+     * @throws UncheckedIOException se não for possível ler o arquivo
+     */
+	public ResultadoImportacao importarAtividades(String senhaAdministrador, String caminhoArquivo) {
+		try (BufferedReader leitor = Files.newBufferedReader(Path.of(caminhoArquivo), StandardCharsets.UTF_8)) {
+			return this.usuarioController.importarAtividades(senhaAdministrador, leitor);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+	
 	/**
      * Lista todos os estudantes no repositório como um array de strings.
      *
@@ -49,6 +109,114 @@ public class FacadeController {
 		return this.usuarioController.listarEstudantesRankingDicas();
 	}
 	
+	/**
+	 * Lista uma página dos estudantes, em ordem de nome.
+	 *
+	 * @param cpfUltimo o CPF do último estudante da página anterior, ou null para a primeira página
+	 * @param limite a quantidade máxima de estudantes retornados
+	 * @return um array de String contendo a representação dos estudantes da página
+	 */
+	public String[] listarEstudantes(String cpfUltimo, int limite) {
+		return this.usuarioController.listarEstudantes(cpfUltimo, limite);
+	}
+	
+	/**
+	 * Percorre os estudantes em ordem de nome, gerando a representação de cada um apenas quando consumida.
+	 *
+	 * @return um Stream com a representação dos estudantes
+	 */
+	public Stream<String> listarEstudantesStream() {
+		return this.usuarioController.listarEstudantesStream();
+	}
+	
+	/**
+	 * Percorre os estudantes em ordem decrescente de bonificação, gerando a representação
+	 * de cada um apenas quando consumida.
+	 *
+	 * @return um Stream com a representação dos estudantes, ordenados pela bonificação
+	 */
+	public Stream<String> listarEstudantesRankingDicasStream() {
+		return this.usuarioController.listarEstudantesRankingDicasStream();
+	}
+	
+	/**
+	 * Lista os estudantes com as maiores bonificações, em ordem decrescente.
+	 *
+	 * @param quantidade a quantidade de estudantes do topo do ranking
+	 * @return um array de String contendo a representação dos estudantes do topo do ranking
+	 */
+	public String[] listarTopEstudantesRankingDicas(int quantidade) {
+		return this.usuarioController.listarEstudantesRankingDicas(1, quantidade);
+	}
+	
+	/**
+	 * Lista uma página do ranking de estudantes por bonificação, em ordem decrescente.
+	 *
+	 * @param posicaoInicial a posição (1-based) do primeiro estudante da página
+	 * @param quantidade a quantidade máxima de estudantes na página
+	 * @return um array de String contendo a representação dos estudantes da página
+	 */
+	public String[] listarEstudantesRankingDicas(int posicaoInicial, int quantidade) {
+		return this.usuarioController.listarEstudantesRankingDicas(posicaoInicial, quantidade);
+	}
+	
+	/**
+	 * Retorna a posição de um estudante no ranking de bonificação.
+	 *
+	 * @param cpf o cpf do estudante
+	 * @return a posição (1-based) do estudante no ranking
+	 */
+	public int posicaoEstudanteRankingDicas(String cpf) {
+		return this.usuarioController.posicaoEstudanteRankingDicas(cpf);
+	}
+	
+	/**
+	 * Busca, em ordem de nome, os estudantes cujo nome começa com o prefixo informado.
+	 *
+	 * @param prefixoNome o início do nome dos estudantes procurados
+	 * @param cpfUltimo o CPF do último estudante da página anterior, ou null para a primeira página
+	 * @param limite a quantidade máxima de estudantes retornados
+	 * @return um array de String com a representação dos estudantes encontrados
+	 */
+	public String[] buscarEstudantesPorPrefixo(String prefixoNome, String cpfUltimo, int limite) {
+		return this.usuarioController.buscarEstudantesPorPrefixo(prefixoNome, cpfUltimo, limite);
+	}
+	
+	/**
+	 * Busca, em ordem de nome, os estudantes cujo nome está entre os dois nomes informados, inclusive.
+	 *
+	 * @param nomeInicial o início do intervalo de nomes
+	 * @param nomeFinal o fim do intervalo de nomes
+	 * @param cpfUltimo o CPF do último estudante da página anterior, ou null para a primeira página
+	 * @param limite a quantidade máxima de estudantes retornados
+	 * @return um array de String com a representação dos estudantes encontrados
+	 */
+	public String[] buscarEstudantesPorIntervalo(String nomeInicial, String nomeFinal, String cpfUltimo, int limite) {
+		return this.usuarioController.buscarEstudantesPorIntervalo(nomeInicial, nomeFinal, cpfUltimo, limite);
+	}
+	
+	/**
+     * Autentica um estudante e abre uma sessão para ele.
+     * A sessão pode ser usada no lugar do CPF e senha nas demais operações, sem nova autenticação.
+     *
+     * @param cpf o cpf do estudante
+     * @param senha a senha do estudante
+     * @return a sessão aberta para o estudante
+     */
+	public Sessao login(String cpf, String senha) {
+		return this.usuarioController.login(cpf, senha);
+	}
+	
+	/**
+     * Encerra a sessão de um estudante.
+     *
+     * @param sessao a sessão a ser encerrada
+     * @return true se a sessão estava aberta, false caso contrário
+     */
+	public boolean logout(Sessao sessao) {
+		return this.usuarioController.logout(sessao);
+	}
+	
 	/**
      * Altera a senha de um estudante.
      *
@@ -61,52 +229,101 @@ public class FacadeController {
 		return this.usuarioController.alterarSenhaEstudante(cpf, senhaAntiga, novaSenha);
 	}
 	
+	/**
+     * Altera a senha de um estudante.
+     *
+     * @param sessao a sessão aberta pelo estudante
+     * @param senhaAntiga a senha atual do estudante
+     * @param novaSenha a nova senha que será definida
+     * @return true se a senha foi alterada com sucesso, false caso contrário
+     */
+	public boolean alterarSenhaEstudante(Sessao sessao, String senhaAntiga, String novaSenha) {
+		return this.usuarioController.alterarSenhaEstudante(sessao, senhaAntiga, novaSenha);
+	}
+	
 	/**
      * Cria uma nova dica associada ao usuário identificado pelo CPF e senha fornecidos.
      *
      * @param cpf o cpf do usuário autor da dica
      * @param senha a senha do usuário autor da dica
      * @param tema o tema da nova dica
-     * @return o índice da dica adicionada, ou 0 se a dica não foi criada
+     * @return o identificador da dica adicionada, ou 0 se a dica não foi criada
      */
 	public int adicionarDica(String cpf, String senha, String tema) {
 		return this.dicaController.criarDica(cpf, senha, tema);
 	}
 	
 	/**
-     * Adiciona um elemento texto à dica na posição especificada.
+     * Cria uma nova dica associada ao usuário dono da sessão fornecida.
+     *
+     * @param sessao a sessão aberta pelo usuário
+     * @param tema o tema da nova dica
+     * @return o identificador da dica adicionada, ou 0 se a dica não foi criada
+     */
+	public int adicionarDica(Sessao sessao, String tema) {
+		return this.dicaController.criarDica(sessao, tema);
+	}
+	
+	/**
+     * Adiciona um elemento texto à dica com o identificador especificado.
      *
      * @param cpf o cpf do usuário autor do texto
      * @param senha a senha do usuário autor do texto
-     * @param posicao a posição da dica a ser atualizada (1-based)
+     * @param idDica o identificador da dica a ser atualizada
      * @param texto o texto a ser adicionado
      * @return true se o texto foi adicionado com sucesso, false caso contrário
      */
-	public boolean adicionarElementoTextoDica(String cpf, int senha, int posicaoDica, String texto) {
-		return this.dicaController.adicionarTextoDica(cpf, cpf, posicaoDica, texto);
+	public boolean adicionarElementoTextoDica(String cpf, String senha, int idDica, String texto) {
+		return this.dicaController.adicionarTextoDica(cpf, senha, idDica, texto);
 	}
 	
 	/**
-     * Adiciona um elemento multimídia à dica na posição especificada.
+     * Adiciona um elemento texto à dica com o identificador especificado.
+     *
+     * @param sessao a sessão aberta pelo usuário
+     * @param idDica o identificador da dica a ser atualizada
+     * @param texto o texto a ser adicionado
+     * @return true se o texto foi adicionado com sucesso, false caso contrário
+     */
+	public boolean adicionarElementoTextoDica(Sessao sessao, int idDica, String texto) {
+		return this.dicaController.adicionarTextoDica(sessao, idDica, texto);
+	}
+	
+	/**
+     * Adiciona um elemento multimídia à dica com o identificador especificado.
      *
      * @param cpf o cpf do usuário autor da multimídia
      * @param senha a senha do usuário autor da multimídia
-     * @param posicao a posição da dica a ser atualizada (1-based)
+     * @param idDica o identificador da dica a ser atualizada
+     * @param link o link para a multimídia
+     * @param cabecalho o cabeçalho descritivo da multimídia
+     * @param tempo a duração da multimídia em segundos
+     * @return true se a multimídia foi adicionada com sucesso, false caso contrário
+     */
+	public boolean adicionarElementoMultimidiaDica(String cpf, String senha, int idDica, String link, String cabecalho, int tempo) {
+		return this.dicaController.adicionarMultimidiaDica(cpf, senha, idDica, link, cabecalho, tempo);
+	}
+	
+	/**
+     * Adiciona um elemento multimídia à dica com o identificador especificado.
+     *
+     * @param sessao a sessão aberta pelo usuário
+     * @param idDica o identificador da dica a ser atualizada
      * @param link o link para a multimídia
      * @param cabecalho o cabeçalho descritivo da multimídia
      * @param tempo a duração da multimídia em segundos
      * @return true se a multimídia foi adicionada com sucesso, false caso contrário
      */
-	public boolean adicionarElementoMultimidiaDica(String cpf, int senha, int posicaoDica, String link, String cabecalho, int tempo) {
-		return this.dicaController.adicionarMultimidiaDica(cpf, cpf, posicaoDica, link, cabecalho, tempo);
+	public boolean adicionarElementoMultimidiaDica(Sessao sessao, int idDica, String link, String cabecalho, int tempo) {
+		return this.dicaController.adicionarMultimidiaDica(sessao, idDica, link, cabecalho, tempo);
 	}
 	
 	/**
-     * Adiciona um elemento referência à dica na posição especificada.
+     * Adiciona um elemento referência à dica com o identificador especificado.
      *
      * @param cpf o cpf do usuário autor da referência
      * @param senha a senha do usuário autor da referência
-     * @param posicao a posição da dica a ser atualizada (1-based)
+     * @param idDica o identificador da dica a ser atualizada
      * @param titulo o título da referência
      * @param fonte a fonte da referência
      * @param ano o ano de publicação da referência
@@ -114,8 +331,24 @@ public class FacadeController {
      * @param importancia um valor que indica a importância da referência
      * @return true se a referência foi adicionada com sucesso, false caso contrário
      */
-	public boolean adicionarElementoReferenciaDica(String cpf, int senha, int posicaoDica, String titulo, String fonte, int ano, boolean conferida, int importancia) {
-		return this.dicaController.adicionarReferenciaDica(cpf, cpf, posicaoDica, titulo, fonte, ano, conferida, importancia);
+	public boolean adicionarElementoReferenciaDica(String cpf, String senha, int idDica, String titulo, String fonte, int ano, boolean conferida, int importancia) {
+		return this.dicaController.adicionarReferenciaDica(cpf, senha, idDica, titulo, fonte, ano, conferida, importancia);
+	}
+	
+	/**
+     * Adiciona um elemento referência à dica com o identificador especificado.
+     *
+     * @param sessao a sessão aberta pelo usuário
+     * @param idDica o identificador da dica a ser atualizada
+     * @param titulo o título da referência
+     * @param fonte a fonte da referência
+     * @param ano o ano de publicação da referência
+     * @param conferida indica se a referência foi conferida
+     * @param importancia um valor que indica a importância da referência
+     * @return true se a referência foi adicionada com sucesso, false caso contrário
+     */
+	public boolean adicionarElementoReferenciaDica(Sessao sessao, int idDica, String titulo, String fonte, int ano, boolean conferida, int importancia) {
+		return this.dicaController.adicionarReferenciaDica(sessao, idDica, titulo, fonte, ano, conferida, importancia);
 	}
 	
 	/**
@@ -155,6 +388,87 @@ public class FacadeController {
 	public String listarDicaDetalhes(int posicao) {
 		return this.dicaController.listarDicaDetalhes(posicao);
 	}
+	
+	/**
+	 * Lista uma página das dicas de um tema, em ordem de identificador.
+	 *
+	 * @param tema o tema das dicas
+	 * @param idUltimo o identificador da última dica da página anterior, ou 0 para a primeira página
+	 * @param limite a quantidade máxima de dicas retornadas
+	 * @return um array de strings representando as dicas da página
+	 * @throws IllegalArgumentException se o tema for inválido ou se o limite não for positivo
+	 */
+	public String[] listarDicasPorTema(String tema, int idUltimo, int limite) {
+		return this.dicaController.listarDicasPorTema(tema, idUltimo, limite);
+	}
+	
+	/**
+	 * Lista uma página das dicas de um autor, em ordem de identificador.
+	 *
+	 * @param cpfAutor o CPF do autor das dicas
+	 * @param idUltimo o identificador da última dica da página anterior, ou 0 para a primeira página
+	 * @param limite a quantidade máxima de dicas retornadas
+	 * @return um array de strings representando as dicas da página
+	 * @throws IllegalArgumentException se o limite não for positivo
+	 */
+	public String[] listarDicasPorAutor(String cpfAutor, int idUltimo, int limite) {
+		return this.dicaController.listarDicasPorAutor(cpfAutor, idUltimo, limite);
+	}
+	
+	/**
+	 * Busca as dicas que contêm os termos da consulta, da mais para a menos relevante.
+	 *
+	 * @param consulta os termos procurados
+	 * @param limite a quantidade máxima de dicas retornadas
+	 * @return um array de strings representando as dicas encontradas
+	 * @throws NullPointerException se a consulta for nula
+	 * @throws IllegalArgumentException se a consulta for vazia ou se o limite não for positivo
+	 */
+	public String[] buscarDicas(String consulta, int limite) {
+		return this.dicaController.buscarDicas(consulta, limite);
+	}
+	
+	/**
+	 * Lista as dicas de maior pontuação de um tema, em ordem decrescente de pontuação.
+	 *
+	 * @param tema o tema das dicas
+	 * @param quantidade a quantidade máxima de dicas retornadas
+	 * @return um array de strings representando as dicas
+	 * @throws IllegalArgumentException se o tema for inválido ou se a quantidade não for positiva
+	 */
+	public String[] listarMelhoresDicas(String tema, int quantidade) {
+		return this.dicaController.listarMelhoresDicas(tema, quantidade);
+	}
+	
+	/**
+     * Lista os lançamentos de bonificação do estudante, com o tema da dica, o elemento e os pontos.
+     *
+     * @param cpf o cpf do estudante
+     * @param senha a senha do estudante
+     * @return um array de strings representando os lançamentos, na ordem em que foram feitos
+     */
+	public String[] listarBonificacoesEstudante(String cpf, String senha) {
+		return this.dicaController.listarBonificacoes(cpf, senha);
+	}
+	
+	/**
+     * Lista os lançamentos de bonificação do estudante dono da sessão.
+     *
+     * @param sessao a sessão aberta pelo estudante
+     * @return um array de strings representando os lançamentos, na ordem em que foram feitos
+     */
+	public String[] listarBonificacoesEstudante(Sessao sessao) {
+		return this.dicaController.listarBonificacoes(sessao);
+	}
+	
+	/**
+     * Recalcula a bonificação de todos os estudantes com as regras atuais dos elementos das dicas.
+     *
+     * @return a quantidade de lançamentos de correção feitos
+     */
+	public int recalcularBonificacoes() {
+		return this.dicaController.recalcularBonificacoes();
+	}
 
 	/**
      * Cria uma atividade complementar do tipo Pesquisa e Extensão para o estudante.
@@ -172,6 +486,22 @@ public class FacadeController {
 		String tipoAtividade = TipoAtividadeComplementar.PESQUISAEXTENSAO.getTipo();
 		return this.usuarioController.criarAtividadeComplementarEstudante(cpf, senha, tipoAtividade, descricao, linkDocumentacao, unidadeAcumulada, subtipo);
 	}
+	
+	/**
+     * Cria uma atividade complementar do tipo Pesquisa e Extensão para o estudante.
+     *
+     * @param sessao a sessão aberta pelo estudante
+     * @param tipoAtividade o tipo da atividade complementar
+     * @param descricao uma descrição da atividade
+     * @param linkDocumentacao um link para a documentação da atividade
+     * @param unidadeAcumulada a quantidade de unidades acumuladas pela atividade
+     * @param especificidade informações adicionais sobre a atividade
+     * @return o código da atividade
+     */
+	public String criarAtividadePesquisaExtensaoEmEstudante(Sessao sessao, String descricao, String linkDocumentacao, int unidadeAcumulada, String subtipo) {
+		String tipoAtividade = TipoAtividadeComplementar.PESQUISAEXTENSAO.getTipo();
+		return this.usuarioController.criarAtividadeComplementarEstudante(sessao, tipoAtividade, descricao, linkDocumentacao, unidadeAcumulada, subtipo);
+	}
 
 	/**
      * Cria uma atividade complementar do tipo Monitoria para o estudante.
@@ -186,9 +516,25 @@ public class FacadeController {
      * @return o código da atividade
      */
 	public String criarAtividadeMonitoriaEmEstudante(String cpf, String senha, String descricao, String linkDocumentacao, int unidadeAcumulada, String disciplina) {
-		String tipoAtividade = TipoAtividadeComplementar.PESQUISAEXTENSAO.getTipo();
+		String tipoAtividade = TipoAtividadeComplementar.MONITORIA.getTipo();
 		return this.usuarioController.criarAtividadeComplementarEstudante(cpf, senha, tipoAtividade, descricao, linkDocumentacao, unidadeAcumulada, disciplina);
 	}
+	
+	/**
+     * Cria uma atividade complementar do tipo Monitoria para o estudante.
+     *
+     * @param sessao a sessão aberta pelo estudante
+     * @param tipoAtividade o tipo da atividade complementar
+     * @param descricao uma descrição da atividade
+     * @param linkDocumentacao um link para a documentação da atividade
+     * @param unidadeAcumulada a quantidade de unidades acumuladas pela atividade
+     * @param especificidade informações adicionais sobre a atividade
+     * @return o código da atividade
+     */
+	public String criarAtividadeMonitoriaEmEstudante(Sessao sessao, String descricao, String linkDocumentacao, int unidadeAcumulada, String disciplina) {
+		String tipoAtividade = TipoAtividadeComplementar.MONITORIA.getTipo();
+		return this.usuarioController.criarAtividadeComplementarEstudante(sessao, tipoAtividade, descricao, linkDocumentacao, unidadeAcumulada, disciplina);
+	}
 
 	/**
      * Cria uma atividade complementar do tipo Estágio para o estudante.
@@ -203,10 +549,26 @@ public class FacadeController {
      * @return o código da atividade
      */
 	public String criarAtividadeEstagioEmEstudante(String cpf, String senha, String descricao, String linkDocumentacao, int unidadeAcumulada, String nomeEmpresa) {
-		String tipoAtividade = TipoAtividadeComplementar.PESQUISAEXTENSAO.getTipo();
+		String tipoAtividade = TipoAtividadeComplementar.ESTAGIO.getTipo();
 		return this.usuarioController.criarAtividadeComplementarEstudante(cpf, senha, tipoAtividade, descricao, linkDocumentacao, unidadeAcumulada, nomeEmpresa);
 	}
 	
+	/**
+     * Cria uma atividade complementar do tipo Estágio para o estudante.
+     *
+     * @param sessao a sessão aberta pelo estudante
+     * @param tipoAtividade o tipo da atividade complementar
+     * @param descricao uma descrição da atividade
+     * @param linkDocumentacao um link para a documentação da atividade
+     * @param unidadeAcumulada a quantidade de unidades acumuladas pela atividade
+     * @param especificidade informações adicionais sobre a atividade
+     * @return o código da atividade
+     */
+	public String criarAtividadeEstagioEmEstudante(Sessao sessao, String descricao, String linkDocumentacao, int unidadeAcumulada, String nomeEmpresa) {
+		String tipoAtividade = TipoAtividadeComplementar.ESTAGIO.getTipo();
+		return this.usuarioController.criarAtividadeComplementarEstudante(sessao, tipoAtividade, descricao, linkDocumentacao, unidadeAcumulada, nomeEmpresa);
+	}
+	
 	/**
      * Cria uma atividade complementar do tipo Representação Estudantil para o estudante.
      *
@@ -220,10 +582,47 @@ public class FacadeController {
      * @return o código da atividade
      */
 	public String criarAtividadeRepresentacaoEstudantil(String cpf, String senha, String descricao, String linkDocumentacao, int unidadeAcumulada, String subtipo) {
-		String tipoAtividade = TipoAtividadeComplementar.PESQUISAEXTENSAO.getTipo();
+		String tipoAtividade = TipoAtividadeComplementar.REPRESENTACAOESTUDANTIL.getTipo();
 		return this.usuarioController.criarAtividadeComplementarEstudante(cpf, senha, tipoAtividade, descricao, linkDocumentacao, unidadeAcumulada, subtipo);
 	}
 	
+	/**
+     * Cria uma atividade complementar do tipo Representação Estudantil para o estudante.
+     *
+     * @param sessao a sessão aberta pelo estudante
+     * @param tipoAtividade o tipo da atividade complementar
+     * @param descricao uma descrição da atividade
+     * @param linkDocumentacao um link para a documentação da atividade
+     * @param unidadeAcumulada a quantidade de unidades acumuladas pela atividade
+     * @param especificidade informações adicionais sobre a atividade
+     * @return o código da atividade
+     */
+	public String criarAtividadeRepresentacaoEstudantil(Sessao sessao, String descricao, String linkDocumentacao, int unidadeAcumulada, String subtipo) {
+		String tipoAtividade = TipoAtividadeComplementar.REPRESENTACAOESTUDANTIL.getTipo();
+		return this.usuarioController.criarAtividadeComplementarEstudante(sessao, tipoAtividade, descricao, linkDocumentacao, unidadeAcumulada, subtipo);
+	}
+	
+	/**
+     * Define a senha de administrador, exigida para exibir atividades de qualquer estudante.
+     *
+     * @param senha a nova senha de administrador
+     */
+	public void defineSenhaAdministrador(String senha) {
+		this.usuarioController.defineSenhaAdministrador(senha);
+	}
+	
+	/**
+     * Exibe uma atividade complementar de qualquer estudante, a partir do seu código.
+     * Destinado à consulta administrativa, exige a senha de administrador no lugar da senha do dono da atividade.
+     *
+     * @param senhaAdministrador a senha de administrador
+     * @param codigoAtividade o código da atividade
+     * @return a apresentação do estudante dono da atividade, seguida da atividade
+     */
+	public String exibirAtividade(String senhaAdministrador, String codigoAtividade) {
+		return this.usuarioController.exibirAtividade(senhaAdministrador, codigoAtividade);
+	}
+	
 	/**
      * Altera a descrição de uma atividade complementar existente.
      *
@@ -237,6 +636,18 @@ public class FacadeController {
 		return this.usuarioController.alterarDescricaoAtividadeEstudante(cpf, senha, codigoAtividade, descricao);
 	}
 	
+	/**
+     * Altera a descrição de uma atividade complementar existente.
+     *
+     * @param sessao a sessão aberta pelo estudante
+     * @param codigoAtividade o código da atividade a ser alterada
+     * @param descricao a nova descrição da atividade
+     * @return true se a descrição foi alterada com sucesso, false caso contrário
+     */
+	public boolean alterarDescricaoAtividadeEstudante(Sessao sessao, String codigoAtividade, String descricao) {
+		return this.usuarioController.alterarDescricaoAtividadeEstudante(sessao, codigoAtividade, descricao);
+	}
+	
 	/**
      * Altera o link de documentação de uma atividade complementar existente.
      *
@@ -250,6 +661,18 @@ public class FacadeController {
 		return this.usuarioController.alterarLinkAtividadeEstudante(cpf, senha, codigoAtividade, linkDocumentacao);
 	}
 	
+	/**
+     * Altera o link de documentação de uma atividade complementar existente.
+     *
+     * @param sessao a sessão aberta pelo estudante
+     * @param codigoAtividade o código da atividade a ser alterada
+     * @param descricao o novo link de documentação da atividade
+     * @return true se o link foi alterado com sucesso, false caso contrário
+     */
+	public boolean alterarLinkDocumentacaoAtividadeEstudante(Sessao sessao, String codigoAtividade, String linkDocumentacao) {
+		return this.usuarioController.alterarLinkAtividadeEstudante(sessao, codigoAtividade, linkDocumentacao);
+	}
+	
 	/**
      * Calcula os créditos acumulados por um estudante para um tipo de atividade específico.
      *
@@ -262,6 +685,17 @@ public class FacadeController {
 		return this.usuarioController.calcularCreditosAtividadeEstudante(cpf, senha, tipoAtividade);
 	}
 	
+	/**
+     * Calcula os créditos acumulados por um estudante para um tipo de atividade específico.
+     *
+     * @param sessao a sessão aberta pelo estudante
+     * @param tipoAtividade o tipo da atividade cujos créditos devem ser calculados
+     * @return o número de créditos acumulados para a atividade especificada
+     */
+	public int creditosAtividadeEstudante(Sessao sessao, String tipoAtividade) {
+		return this.usuarioController.calcularCreditosAtividadeEstudante(sessao, tipoAtividade);
+	}
+	
 	/**
      * Gera um mapa de créditos das atividades complementares do estudante.
      *
@@ -273,6 +707,16 @@ public class FacadeController {
 		return this.usuarioController.gerarMapaCreditosEstudante(cpf, senha);
 	}
 	
+	/**
+     * Gera um mapa de créditos das atividades complementares do estudante.
+     *
+     * @param sessao a sessão aberta pelo estudante
+     * @return uma string representando o mapa de créditos
+     */
+	public String gerarMapaCreditosAtividadesEstudante(Sessao sessao) {
+		return this.usuarioController.gerarMapaCreditosEstudante(sessao);
+	}
+	
 	/**
      * Verifica se o estudante atingiu a meta de atividades complementares.
      *
@@ -283,6 +727,16 @@ public class FacadeController {
 	public boolean verificarMetaEstudante(String cpf, String senha) {
 		return this.usuarioController.verificarMetaEstudante(cpf, senha);
 	}
+	
+	/**
+     * Verifica se o estudante atingiu a meta de atividades complementares.
+     *
+     * @param sessao a sessão aberta pelo estudante
+     * @return true se o estudante atingiu a meta, false caso contrário
+     */
+	public boolean verificarMetaEstudante(Sessao sessao) {
+		return this.usuarioController.verificarMetaEstudante(sessao);
+	}
 
 	/**
 	 * Gera um relatório final contendo informações sobre o usuário e os créditos totais acumulados.
@@ -297,6 +751,18 @@ public class FacadeController {
 		return this.usuarioController.gerarRelatorioFinalEstudante(cpf, senha);
 	}
 	
+	/**
+	 * Gera um relatório final contendo informações sobre o usuário e os créditos totais acumulados.
+	 * Se o usuário não atingiu a meta de créditos, uma mensagem informando isso será retornada.
+	 *
+	 * @param sessao a sessão aberta pelo estudante
+	 * @return uma String representando o relatório final gerado, ou uma mensagem informando que 
+	 *         a meta de créditos não foi atingida
+	 */
+	public String gerarRelatorioFinalEstudante(Sessao sessao) {
+		return this.usuarioController.gerarRelatorioFinalEstudante(sessao);
+	}
+	
 	/**
 	 * Gera um relatório final para um tipo específico de atividade, contendo informações sobre 
 	 * o usuário e a quantidade de créditos acumulados para essa atividade. Se o usuário não 
@@ -312,6 +778,20 @@ public class FacadeController {
 		return this.usuarioController.gerarRelatorioFinalEstudante(cpf, senha, tipoAtividade);
 	}
 	
+	/**
+	 * Gera um relatório final para um tipo específico de atividade, contendo informações sobre 
+	 * o usuário e a quantidade de créditos acumulados para essa atividade. Se o usuário não 
+	 * atingiu a meta de créditos para esse tipo, uma mensagem informando isso será retornada.
+	 *
+	 * @param sessao a sessão aberta pelo estudante
+	 * @param tipoAtividade o tipo de atividade para a qual o relatório final é gerado
+	 * @return uma String representando o relatório final gerado para o tipo de atividade, ou uma 
+	 *         mensagem informando que a meta não foi atingida
+	 */
+	public String gerarRelatorioFinalEstudante(Sessao sessao, String tipoAtividade) {
+		return this.usuarioController.gerarRelatorioFinalEstudante(sessao, tipoAtividade);
+	}
+	
 	/**
 	 * Gera um relatório parcial contendo informações sobre o usuário e a quantidade de créditos 
 	 * acumulados, com a opção de salvar esse relatório no histórico.
@@ -325,6 +805,18 @@ public class FacadeController {
 		return this.usuarioController.gerarRelatorioParcialEstudante(cpf, senha, salvar);
 	}
 	
+	/**
+	 * Gera um relatório parcial contendo informações sobre o usuário e a quantidade de créditos 
+	 * acumulados, com a opção de salvar esse relatório no histórico.
+	 *
+	 * @param sessao a sessão aberta pelo estudante
+	 * @param salvar indica se o relatório deve ser salvo no histórico ou não
+	 * @return uma String representando o relatório parcial gerado
+	 */
+	public String gerarRelatorioParcialEstudante(Sessao sessao, boolean salvar) {
+		return this.usuarioController.gerarRelatorioParcialEstudante(sessao, salvar);
+	}
+	
 	/**
 	 * Gera um relatório parcial para um tipo específico de atividade, contendo informações sobre 
 	 * o usuário e a quantidade de créditos acumulados para essa atividade, com a opção de 
@@ -340,6 +832,20 @@ public class FacadeController {
 		return this.usuarioController.gerarRelatorioParcialEstudante(cpf, senha, salvar, tipoAtividade);
 	}
 	
+	/**
+	 * Gera um relatório parcial para um tipo específico de atividade, contendo informações sobre 
+	 * o usuário e a quantidade de créditos acumulados para essa atividade, com a opção de 
+	 * salvar esse relatório no histórico
+	 *
+	 * @param sessao a sessão aberta pelo estudante
+	 * @param tipoAtividade o tipo de atividade para a qual o relatório é gerado
+	 * @param salvar indica se o relatório deve ser salvo no históricoou não
+	 * @return uma String representando o relatório parcial gerado para o tipo de atividade
+	 */
+	public String gerarRelatorioParcialEstudante(Sessao sessao, boolean salvar, String tipoAtividade) {
+		return this.usuarioController.gerarRelatorioParcialEstudante(sessao, salvar, tipoAtividade);
+	}
+	
 	/**
 	 * Retorna uma lista de todos os relatórios salvos no histórico, formatada como uma única 
 	 * String, onde cada relatório é separado por uma nova linha.
@@ -352,6 +858,17 @@ public class FacadeController {
 		return this.usuarioController.listarHistoricoEstudante(cpf, senha);
 	}
 	
+	/**
+	 * Retorna uma lista de todos os relatórios salvos no histórico, formatada como uma única 
+	 * String, onde cada relatório é separado por uma nova linha.
+	 *
+	 * @param sessao a sessão aberta pelo estudante
+	 * @return uma String contendo todos os relatórios salvos no histórico
+	 */
+	public String listarHistoricoEstudante(Sessao sessao) {
+		return this.usuarioController.listarHistoricoEstudante(sessao);
+	}
+	
 	/**
 	 * Exclui um relatório do histórico com base na data fornecida.
 	 *
@@ -363,4 +880,15 @@ public class FacadeController {
 	public boolean excluirItemHistoricoEstudante(String cpf, String senha, String data) {
 		return this.usuarioController.excluirItemHistoricoEstudante(cpf, senha, data);
 	}
+	
+	/**
+	 * Exclui um relatório do histórico com base na data fornecida.
+	 *
+	 * @param sessao a sessão aberta pelo estudante
+	 * @param data a data do relatório a ser excluído
+	 * @return true se o relatório foi excluído com sucesso, false caso contrário
+	 */
+	public boolean excluirItemHistoricoEstudante(Sessao sessao, String data) {
+		return this.usuarioController.excluirItemHistoricoEstudante(sessao, data);
+	}
 }
@@ -0,0 +1,69 @@
+package controllers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Separa uma linha CSV em campos, seguindo a RFC 4180: os campos são separados por vírgula e um campo
+ * entre aspas duplas pode conter vírgulas e aspas, estas escritas em dobro ({@code ""}).
+ *
+ * Cada linha é tratada isoladamente, então um campo entre aspas não pode conter quebras de linha.
+ */
+
+final class SeparadorCsv {
+
+	private static final char SEPARADOR = ',';
+	private static final char ASPAS = '"';
+
+	private SeparadorCsv() {
+	}
+
+	/**
+	 * Separa a linha em campos. Os campos entre aspas são devolvidos sem as aspas externas
+	 * e com as aspas internas já desdobradas.
+	 *
+	 * @param linha a linha a ser separada
+	 * @return os campos da linha, na ordem em que aparecem
+	 * @throws IllegalArgumentException se um campo entre aspas não for fechado
+	 *         ou se houver texto entre as aspas de fechamento e a vírgula seguinte
+	 */
+	static String[] separa(String linha) {
+		List<String> campos = new ArrayList<>();
+		StringBuilder campo = new StringBuilder();
+		int i = 0;
+		int tamanho = linha.length();
+		while (true) {
+			if (i < tamanho && linha.charAt(i) == ASPAS) {
+				i++;
+				while (true) {
+					if (i >= tamanho) {
+						throw new IllegalArgumentException("Campo entre aspas não foi fechado");
+					}
+					char caractere = linha.charAt(i++);
+					if (caractere != ASPAS) {
+						campo.append(caractere);
+					} else if (i < tamanho && linha.charAt(i) == ASPAS) {
+						campo.append(ASPAS);
+						i++;
+					} else {
+						break;
+					}
+				}
+				if (i < tamanho && linha.charAt(i) != SEPARADOR) {
+					throw new IllegalArgumentException("Campo entre aspas deve ser seguido por uma vírgula");
+				}
+			} else {
+				int fim = linha.indexOf(SEPARADOR, i);
+				fim = (fim < 0) ? tamanho : fim;
+				campo.append(linha, i, fim);
+				i = fim;
+			}
+			campos.add(campo.toString());
+			campo.setLength(0);
+			if (i >= tamanho) {
+				return campos.toArray(new String[0]);
+			}
+			i++;
+		}
+	}
+}
@@ -1,7 +1,24 @@
 package controllers;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import entities.RegistroTiposAtividade;
+import entities.ResultadoImportacao;
+import entities.Sessao;
+import entities.TipoAtividadeRegistrado;
 import entities.Usuario;
+import interfaces.Atividade;
+import repositories.SessaoRepository;
 import repositories.UsuarioRepository;
+import repositories.UsuarioRepositoryCompacto;
 
 /**
  * Classe responsável por gerenciar as interações entre os usuários externos e o repositório de usuários.
@@ -9,13 +26,21 @@ import repositories.UsuarioRepository;
 
 public class UsuarioController {
 	
+	private static final String CABECALHO_IMPORTACAO = "nome,cpf,senha,matricula";
+	private static final String CABECALHO_IMPORTACAO_ATIVIDADES = "cpf,tipo,descricao,link,unidade,especificidade";
+	private static final int TAMANHO_LOTE_IMPORTACAO = 10_000;
+	
 	private UsuarioRepository usuarioRepository;
+	private SessaoRepository sessaoRepository;
 	
 	/**
-     * Cria um novo controlador de usuário.
+     * Cria um novo controlador de usuário. Os estudantes ficam no repositório compacto se a propriedade
+     * de sistema {@value UsuarioRepositoryCompacto#PROPRIEDADE_ATIVACAO} valer {@code true}.
      */
 	public UsuarioController() {
-		this.usuarioRepository = new UsuarioRepository();
+		this.usuarioRepository = Boolean.getBoolean(UsuarioRepositoryCompacto.PROPRIEDADE_ATIVACAO)
+				? new UsuarioRepositoryCompacto() : new UsuarioRepository();
+		this.sessaoRepository = new SessaoRepository();
 	}
 	
 	/**
@@ -28,7 +53,143 @@ public class UsuarioController {
      * @return true se o estudante foi criado com sucesso, false caso contrário
      */
 	public boolean criarEstudante(String nome, String cpf, String senha, String matricula) {
-		return this.usuarioRepository.adicionaEstudante(cpf, new Usuario(nome, cpf, senha, matricula));
+		return this.usuarioRepository.adicionaEstudante(new Usuario(nome, cpf, senha, matricula));
+	}
+	
+	/**
+     * Importa estudantes em lote a partir de um texto CSV, com uma linha por estudante
+     * no formato {@code nome,cpf,senha,matricula}. Um cabeçalho com esses nomes na primeira linha é ignorado.
+     * 
+     * Os campos seguem a RFC 4180 e podem vir entre aspas, para conter vírgulas.
+     * 
+     * As linhas são lidas em lotes e cada lote é validado em paralelo. Linhas inválidas ou com CPF
+     * já cadastrado são registradas como erro sem interromper a importação, e os estudantes válidos
+     * são adicionados ao repositório de uma só vez, ao final.
+     * 
+     * Cada senha é protegida com o PBKDF2 do verificador de senhas, que domina o tempo da importação:
+     * com as 600.000 iterações padrão, cada núcleo importa cerca de 3 estudantes por segundo.
+     * Para volumes grandes, use {@link #importarEstudantesComSenhaProtegida(BufferedReader)}.
+     *
+     * @param leitor o leitor do texto CSV
+     * @return o resultado da importação, com a quantidade de estudantes importados e os erros por linha
+     * @throws UncheckedIOException se não for possível ler o texto
+     */
+	public ResultadoImportacao importarEstudantes(BufferedReader leitor) {
+		return importaEstudantes(leitor, false);
+	}
+	
+	/**
+     * Importa estudantes em lote como {@link #importarEstudantes(BufferedReader)}, mas com a senha
+     * de cada linha já na forma protegida pelo verificador de senhas, como a exportada por outro sistema.
+     * As senhas são guardadas como vieram, sem uma nova derivação, e a importação fica limitada
+     * pela leitura e validação das linhas. Uma senha fora do formato do verificador de senhas,
+     * ou com uma quantidade de iterações fora do intervalo aceito, é registrada como erro da sua linha.
+     *
+     * @param leitor o leitor do texto CSV
+     * @return o resultado da importação, com a quantidade de estudantes importados e os erros por linha
+     * @throws UncheckedIOException se não for possível ler o texto
+     */
+	public ResultadoImportacao importarEstudantesComSenhaProtegida(BufferedReader leitor) {
+		return importaEstudantes(leitor, true);
+	}
+	
+	private ResultadoImportacao importaEstudantes(BufferedReader leitor, boolean senhasProtegidas) {
+		ResultadoImportacao resultado = new ResultadoImportacao();
+		List<Usuario> validos = new ArrayList<>();
+		List<Integer> linhasValidas = new ArrayList<>();
+		List<String> lote = new ArrayList<>(TAMANHO_LOTE_IMPORTACAO);
+		int numeroLinha = 0;
+		int primeiraLinhaDoLote = 1;
+		
+		try {
+			String linha;
+			while ((linha = leitor.readLine()) != null) {
+				numeroLinha++;
+				if (numeroLinha == 1 && linha.trim().equalsIgnoreCase(CABECALHO_IMPORTACAO)) {
+					primeiraLinhaDoLote = 2;
+					continue;
+				}
+				lote.add(linha);
+				if (lote.size() == TAMANHO_LOTE_IMPORTACAO) {
+					validaLote(lote, primeiraLinhaDoLote, senhasProtegidas, validos, linhasValidas, resultado);
+					primeiraLinhaDoLote = numeroLinha + 1;
+					lote.clear();
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		validaLote(lote, primeiraLinhaDoLote, senhasProtegidas, validos, linhasValidas, resultado);
+		
+		boolean[] adicionados = this.usuarioRepository.adicionaEstudantes(validos);
+		for (int i = 0; i < adicionados.length; i++) {
+			if (adicionados[i]) {
+				resultado.registraImportado();
+			} else {
+				resultado.registraErro(linhasValidas.get(i), "Já existe um estudante com este CPF");
+			}
+		}
+		return resultado;
+	}
+	
+	/**
+     * Importa atividades complementares em lote a partir de um texto CSV, com uma linha por atividade
+     * no formato {@code cpf,tipo,descricao,link,unidade,especificidade}. Um cabeçalho com esses nomes
+     * na primeira linha é ignorado. Não exige a senha dos estudantes, mas exige a senha de administrador,
+     * conferida antes da leitura da primeira linha.
+     * 
+     * Os campos seguem a RFC 4180 e podem vir entre aspas, para conter vírgulas.
+     * 
+     * As linhas são lidas em lotes e cada lote é validado em paralelo. As atividades válidas de todo o texto
+     * são agrupadas por estudante, e ao final cada grupo é adicionado ao seu estudante de uma só vez, com uma
+     * única atualização dos créditos. Linhas inválidas ou de estudantes não cadastrados são registradas
+     * como erro sem interromper a importação.
+     *
+     * @param senhaAdministrador a senha de administrador
+     * @param leitor o leitor do texto CSV
+     * @return o resultado da importação, com a quantidade de atividades importadas e os erros por linha
+     * @throws IllegalArgumentException se a senha de administrador não conferir
+     * @throws UncheckedIOException se não for possível ler o texto
+     */
+	public ResultadoImportacao importarAtividades(String senhaAdministrador, BufferedReader leitor) {
+		this.usuarioRepository.autenticaAdministrador(senhaAdministrador);
+		ResultadoImportacao resultado = new ResultadoImportacao();
+		Map<String, GrupoAtividades> grupos = new LinkedHashMap<>();
+		List<String> lote = new ArrayList<>(TAMANHO_LOTE_IMPORTACAO);
+		int numeroLinha = 0;
+		int primeiraLinhaDoLote = 1;
+		
+		try {
+			String linha;
+			while ((linha = leitor.readLine()) != null) {
+				numeroLinha++;
+				if (numeroLinha == 1 && linha.trim().equalsIgnoreCase(CABECALHO_IMPORTACAO_ATIVIDADES)) {
+					primeiraLinhaDoLote = 2;
+					continue;
+				}
+				lote.add(linha);
+				if (lote.size() == TAMANHO_LOTE_IMPORTACAO) {
+					validaLoteAtividades(lote, primeiraLinhaDoLote, grupos, resultado);
+					primeiraLinhaDoLote = numeroLinha + 1;
+					lote.clear();
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		validaLoteAtividades(lote, primeiraLinhaDoLote, grupos, resultado);
+		
+		grupos.entrySet().parallelStream().forEach(grupo -> grupo.getValue().aplica(this.usuarioRepository, senhaAdministrador, grupo.getKey()));
+		for (GrupoAtividades grupo : grupos.values()) {
+			for (int linha : grupo.linhas) {
+				if (grupo.erro == null) {
+					resultado.registraImportado();
+				} else {
+					resultado.registraErro(linha, grupo.erro);
+				}
+			}
+		}
+		return resultado;
 	}
 	
 	/**
@@ -50,7 +211,93 @@ public class UsuarioController {
 	}
 	
 	/**
-     * Altera a senha de um estudante.
+	 * Lista uma página dos estudantes, em ordem de nome.
+	 *
+	 * @param cpfUltimo o CPF do último estudante da página anterior, ou null para a primeira página
+	 * @param limite a quantidade máxima de estudantes retornados
+	 * @return um array de String contendo a representação dos estudantes da página
+	 */
+	public String[] listarEstudantes(String cpfUltimo, int limite) {
+		return this.usuarioRepository.listaEstudantes(cpfUltimo, limite);
+	}
+	
+	/**
+	 * Percorre os estudantes em ordem de nome, gerando a representação de cada um apenas quando consumida.
+	 *
+	 * @return um Stream com a representação dos estudantes
+	 */
+	public Stream<String> listarEstudantesStream() {
+		return this.usuarioRepository.listaEstudantesStream();
+	}
+	
+	/**
+	 * Percorre os estudantes em ordem decrescente de bonificação, gerando a representação
+	 * de cada um apenas quando consumida.
+	 *
+	 * @return um Stream com a representação dos estudantes, ordenados pela bonificação
+	 */
+	public Stream<String> listarEstudantesRankingDicasStream() {
+		return this.usuarioRepository.listaEstudantesRankingDicasStream();
+	}
+	
+	/**
+	 * Lista os estudantes com as maiores bonificações, em ordem decrescente.
+	 *
+	 * @param quantidade a quantidade de estudantes do topo do ranking
+	 * @return um array de String contendo a representação dos estudantes do topo do ranking
+	 */
+	public String[] listarTopEstudantesRankingDicas(int quantidade) {
+		return this.usuarioRepository.listaEstudantesRankingDicas(1, quantidade);
+	}
+	
+	/**
+	 * Lista uma página do ranking de estudantes por bonificação, em ordem decrescente.
+	 *
+	 * @param posicaoInicial a posição (1-based) do primeiro estudante da página
+	 * @param quantidade a quantidade máxima de estudantes na página
+	 * @return um array de String contendo a representação dos estudantes da página
+	 */
+	public String[] listarEstudantesRankingDicas(int posicaoInicial, int quantidade) {
+		return this.usuarioRepository.listaEstudantesRankingDicas(posicaoInicial, quantidade);
+	}
+	
+	/**
+	 * Retorna a posição de um estudante no ranking de bonificação.
+	 *
+	 * @param cpf o cpf do estudante
+	 * @return a posição (1-based) do estudante no ranking
+	 */
+	public int posicaoEstudanteRankingDicas(String cpf) {
+		return this.usuarioRepository.posicaoEstudanteRankingDicas(cpf);
+	}
+	
+	/**
+	 * Busca, em ordem de nome, os estudantes cujo nome começa com o prefixo informado.
+	 *
+	 * @param prefixoNome o início do nome dos estudantes procurados
+	 * @param cpfUltimo o CPF do último estudante da página anterior, ou null para a primeira página
+	 * @param limite a quantidade máxima de estudantes retornados
+	 * @return um array de String com a representação dos estudantes encontrados
+	 */
+	public String[] buscarEstudantesPorPrefixo(String prefixoNome, String cpfUltimo, int limite) {
+		return this.usuarioRepository.buscaEstudantesPorPrefixo(prefixoNome, cpfUltimo, limite);
+	}
+	
+	/**
+	 * Busca, em ordem de nome, os estudantes cujo nome está entre os dois nomes informados, inclusive.
+	 *
+	 * @param nomeInicial o início do intervalo de nomes
+	 * @param nomeFinal o fim do intervalo de nomes
+	 * @param cpfUltimo o CPF do último estudante da página anterior, ou null para a primeira página
+	 * @param limite a quantidade máxima de estudantes retornados
+	 * @return um array de String com a representação dos estudantes encontrados
+	 */
+	public String[] buscarEstudantesPorIntervalo(String nomeInicial, String nomeFinal, String cpfUltimo, int limite) {
+		return this.usuarioRepository.buscaEstudantesPorIntervalo(nomeInicial, nomeFinal, cpfUltimo, limite);
+	}
+	
+	/**
+     * Altera a senha de um estudante e encerra todas as suas sessões abertas.
      *
      * @param cpf o cpf do estudante
      * @param senhaAntiga a senha atual do estudante
@@ -58,7 +305,19 @@ public class UsuarioController {
      * @return true se a senha foi alterada com sucesso, false caso contrário
      */
 	public boolean alterarSenhaEstudante(String cpf, String senhaAntiga, String novaSenha) {
-		return buscaEstudante(cpf, senhaAntiga).alteraSenha(senhaAntiga, novaSenha);
+		return alteraSenha(buscaEstudante(cpf, senhaAntiga), senhaAntiga, novaSenha);
+	}
+	
+	/**
+     * Altera a senha de um estudante e encerra todas as suas sessões abertas.
+     *
+     * @param sessao a sessão aberta pelo estudante
+     * @param senhaAntiga a senha atual do estudante
+     * @param novaSenha a nova senha que será definida
+     * @return true se a senha foi alterada com sucesso, false caso contrário
+     */
+	public boolean alterarSenhaEstudante(Sessao sessao, String senhaAntiga, String novaSenha) {
+		return alteraSenha(buscaEstudante(sessao), senhaAntiga, novaSenha);
 	}
 	
 	/**
@@ -74,7 +333,43 @@ public class UsuarioController {
      * @return o código da atividade
      */
 	public String criarAtividadeComplementarEstudante(String cpf, String senha, String tipoAtividade, String descricao, String linkDocumentacao, int unidadeAcumulada, String especificidade) {
-		return buscaEstudante(cpf, senha).criaAtividadeComplementar(tipoAtividade, descricao, linkDocumentacao, unidadeAcumulada, especificidade);
+		return criaAtividadeComplementar(buscaEstudante(cpf, senha), tipoAtividade, descricao, linkDocumentacao, unidadeAcumulada, especificidade);
+	}
+	
+	/**
+     * Cria uma atividade complementar para o estudante.
+     *
+     * @param sessao a sessão aberta pelo estudante
+     * @param tipoAtividade o tipo da atividade complementar
+     * @param descricao uma descrição da atividade
+     * @param linkDocumentacao um link para a documentação da atividade
+     * @param unidadeAcumulada a quantidade de unidades acumuladas pela atividade
+     * @param especificidade informações adicionais sobre a atividade
+     * @return o código da atividade
+     */
+	public String criarAtividadeComplementarEstudante(Sessao sessao, String tipoAtividade, String descricao, String linkDocumentacao, int unidadeAcumulada, String especificidade) {
+		return criaAtividadeComplementar(buscaEstudante(sessao), tipoAtividade, descricao, linkDocumentacao, unidadeAcumulada, especificidade);
+	}
+	
+	/**
+     * Define a senha de administrador, exigida para exibir atividades de qualquer estudante.
+     *
+     * @param senha a nova senha de administrador
+     */
+	public void defineSenhaAdministrador(String senha) {
+		this.usuarioRepository.defineSenhaAdministrador(senha);
+	}
+	
+	/**
+     * Exibe uma atividade complementar de qualquer estudante, a partir do seu código.
+     * Destinado à consulta administrativa, exige a senha de administrador no lugar da senha do dono da atividade.
+     *
+     * @param senhaAdministrador a senha de administrador
+     * @param codigoAtividade o código da atividade
+     * @return a apresentação do estudante dono da atividade, seguida da atividade
+     */
+	public String exibirAtividade(String senhaAdministrador, String codigoAtividade) {
+		return this.usuarioRepository.buscaAtividade(senhaAdministrador, codigoAtividade);
 	}
 	
 	/**
@@ -87,7 +382,19 @@ public class UsuarioController {
      * @return true se a descrição foi alterada com sucesso, false caso contrário
      */
 	public boolean alterarDescricaoAtividadeEstudante(String cpf, String senha, String codigoAtividade, String descricao) {
-		return buscaEstudante(cpf, senha).alteraDescricaoAtividade(codigoAtividade, descricao);
+		return alteraDescricaoAtividade(buscaEstudante(cpf, senha), codigoAtividade, descricao);
+	}
+	
+	/**
+     * Altera a descrição de uma atividade complementar existente.
+     *
+     * @param sessao a sessão aberta pelo estudante
+     * @param codigoAtividade o código da atividade a ser alterada
+     * @param descricao a nova descrição da atividade
+     * @return true se a descrição foi alterada com sucesso, false caso contrário
+     */
+	public boolean alterarDescricaoAtividadeEstudante(Sessao sessao, String codigoAtividade, String descricao) {
+		return alteraDescricaoAtividade(buscaEstudante(sessao), codigoAtividade, descricao);
 	}
 	
 	/**
@@ -96,11 +403,23 @@ public class UsuarioController {
      * @param cpf o cpf do estudante
      * @param senha a senha do estudante
      * @param codigoAtividade o código da atividade a ser alterada
-     * @param descricao o novo link de documentação da atividade
+     * @param linkDocumentacao o novo link de documentação da atividade
+     * @return true se o link foi alterado com sucesso, false caso contrário
+     */
+	public boolean alterarLinkAtividadeEstudante(String cpf, String senha, String codigoAtividade, String linkDocumentacao) {
+		return alteraLinkAtividade(buscaEstudante(cpf, senha), codigoAtividade, linkDocumentacao);
+	}
+	
+	/**
+     * Altera o link de documentação de uma atividade complementar existente.
+     *
+     * @param sessao a sessão aberta pelo estudante
+     * @param codigoAtividade o código da atividade a ser alterada
+     * @param linkDocumentacao o novo link de documentação da atividade
      * @return true se o link foi alterado com sucesso, false caso contrário
      */
-	public boolean alterarLinkAtividadeEstudante(String cpf, String senha, String codigoAtividade, String descricao) {
-		return buscaEstudante(cpf, senha).alteraLinkAtividade(codigoAtividade, descricao);
+	public boolean alterarLinkAtividadeEstudante(Sessao sessao, String codigoAtividade, String linkDocumentacao) {
+		return alteraLinkAtividade(buscaEstudante(sessao), codigoAtividade, linkDocumentacao);
 	}
 	
 	/**
@@ -112,7 +431,18 @@ public class UsuarioController {
      * @return o número de créditos acumulados para a atividade especificada
      */
 	public int calcularCreditosAtividadeEstudante(String cpf, String senha, String tipoAtividade) {
-		return buscaEstudante(cpf, senha).calculaCreditos(tipoAtividade);
+		return calculaCreditos(buscaEstudante(cpf, senha), tipoAtividade);
+	}
+	
+	/**
+     * Calcula os créditos acumulados por um estudante para um tipo de atividade específico.
+     *
+     * @param sessao a sessão aberta pelo estudante
+     * @param tipoAtividade o tipo da atividade cujos créditos devem ser calculados
+     * @return o número de créditos acumulados para a atividade especificada
+     */
+	public int calcularCreditosAtividadeEstudante(Sessao sessao, String tipoAtividade) {
+		return calculaCreditos(buscaEstudante(sessao), tipoAtividade);
 	}
 	
 	/**
@@ -123,7 +453,17 @@ public class UsuarioController {
      * @return uma string representando o mapa de créditos
      */
 	public String gerarMapaCreditosEstudante(String cpf, String senha) {
-		return buscaEstudante(cpf, senha).geraMapaCreditos();
+		return geraMapaCreditos(buscaEstudante(cpf, senha));
+	}
+	
+	/**
+     * Gera um mapa de créditos das atividades complementares do estudante.
+     *
+     * @param sessao a sessão aberta pelo estudante
+     * @return uma string representando o mapa de créditos
+     */
+	public String gerarMapaCreditosEstudante(Sessao sessao) {
+		return geraMapaCreditos(buscaEstudante(sessao));
 	}
 	
 	/**
@@ -134,7 +474,50 @@ public class UsuarioController {
      * @return true se o estudante atingiu a meta, false caso contrário
      */
 	public boolean verificarMetaEstudante(String cpf, String senha) {
-		return buscaEstudante(cpf, senha).atingiuMeta();
+		return atingiuMeta(buscaEstudante(cpf, senha));
+	}
+	
+	/**
+     * Verifica se o estudante atingiu a meta de atividades complementares.
+     *
+     * @param sessao a sessão aberta pelo estudante
+     * @return true se o estudante atingiu a meta, false caso contrário
+     */
+	public boolean verificarMetaEstudante(Sessao sessao) {
+		return atingiuMeta(buscaEstudante(sessao));
+	}
+	
+	/**
+     * Autentica um estudante e abre uma sessão para ele.
+     * A sessão pode ser usada no lugar do CPF e senha nas demais operações, sem nova autenticação.
+     *
+     * @param cpf o cpf do estudante
+     * @param senha a senha do estudante
+     * @return a sessão aberta para o estudante
+     */
+	public Sessao login(String cpf, String senha) {
+		return this.sessaoRepository.abreSessao(buscaEstudante(cpf, senha));
+	}
+	
+	/**
+     * Encerra a sessão de um estudante.
+     *
+     * @param sessao a sessão a ser encerrada
+     * @return true se a sessão estava aberta, false caso contrário
+     */
+	public boolean logout(Sessao sessao) {
+		return this.sessaoRepository.encerraSessao(sessao);
+	}
+	
+	/**
+     * Busca o estudante dono de uma sessão aberta.
+     *
+     * @param sessao a sessão aberta pelo estudante
+     * @return o usuário dono da sessão
+     * @throws IllegalArgumentException se a sessão não existir ou estiver expirada
+     */
+	public Usuario buscaEstudante(Sessao sessao) {
+		return this.sessaoRepository.buscaUsuario(sessao);
 	}
 	
 	/**
@@ -142,7 +525,8 @@ public class UsuarioController {
      *
      * @param cpf o cpf do estudante
      * @param senha a senha do estudante
-     * @return o usuário correspondente ao CPF e senha, ou null se não encontrado
+     * @return o usuário correspondente ao CPF e senha
+     * @throws IllegalArgumentException se o estudante não for encontrado ou se a senha não conferir
      */
 	public Usuario buscaEstudante(String cpf, String senha) {
 		return this.usuarioRepository.buscaEstudante(cpf, senha);
@@ -152,11 +536,25 @@ public class UsuarioController {
 	 * Gera um relatório final contendo informações sobre o usuário e os créditos totais acumulados.
 	 * Se o usuário não atingiu a meta de créditos, uma mensagem informando isso será retornada.
 	 *
+	 * @param cpf o cpf do estudante
+	 * @param senha a senha do estudante
 	 * @return uma String representando o relatório final gerado, ou uma mensagem informando que 
 	 *         a meta de créditos não foi atingida
 	 */
 	public String gerarRelatorioFinalEstudante(String cpf, String senha) {
-		return buscaEstudante(cpf, senha).relatorioFinal();
+		return relatorioFinal(buscaEstudante(cpf, senha));
+	}
+	
+	/**
+	 * Gera um relatório final contendo informações sobre o usuário e os créditos totais acumulados.
+	 * Se o usuário não atingiu a meta de créditos, uma mensagem informando isso será retornada.
+	 *
+	 * @param sessao a sessão aberta pelo estudante
+	 * @return uma String representando o relatório final gerado, ou uma mensagem informando que 
+	 *         a meta de créditos não foi atingida
+	 */
+	public String gerarRelatorioFinalEstudante(Sessao sessao) {
+		return relatorioFinal(buscaEstudante(sessao));
 	}
 	
 	/**
@@ -165,13 +563,27 @@ public class UsuarioController {
 	 * atingiu a meta de créditos para esse tipo, uma mensagem informando isso será retornada.
 	 *
 	 * @param cpf o cpf do estudante
-     * @param senha a senha do estudante
+	 * @param senha a senha do estudante
 	 * @param tipoAtividade o tipo de atividade para a qual o relatório final é gerado
 	 * @return uma String representando o relatório final gerado para o tipo de atividade, ou uma 
 	 *         mensagem informando que a meta não foi atingida
 	 */
 	public String gerarRelatorioFinalEstudante(String cpf, String senha, String tipoAtividade) {
-		return buscaEstudante(cpf, senha).relatorioFinal(tipoAtividade);
+		return relatorioFinal(buscaEstudante(cpf, senha), tipoAtividade);
+	}
+	
+	/**
+	 * Gera um relatório final para um tipo específico de atividade, contendo informações sobre 
+	 * o usuário e a quantidade de créditos acumulados para essa atividade. Se o usuário não 
+	 * atingiu a meta de créditos para esse tipo, uma mensagem informando isso será retornada.
+	 *
+	 * @param sessao a sessão aberta pelo estudante
+	 * @param tipoAtividade o tipo de atividade para a qual o relatório final é gerado
+	 * @return uma String representando o relatório final gerado para o tipo de atividade, ou uma 
+	 *         mensagem informando que a meta não foi atingida
+	 */
+	public String gerarRelatorioFinalEstudante(Sessao sessao, String tipoAtividade) {
+		return relatorioFinal(buscaEstudante(sessao), tipoAtividade);
 	}
 	
 	/**
@@ -179,12 +591,24 @@ public class UsuarioController {
 	 * acumulados, com a opção de salvar esse relatório no histórico.
 	 *
 	 * @param cpf o cpf do estudante
-     * @param senha a senha do estudante
+	 * @param senha a senha do estudante
 	 * @param salvar indica se o relatório deve ser salvo no histórico ou não
 	 * @return uma String representando o relatório parcial gerado
 	 */
 	public String gerarRelatorioParcialEstudante(String cpf, String senha, boolean salvar) {
-		return buscaEstudante(cpf, senha).relatorioParcial(salvar);
+		return relatorioParcial(buscaEstudante(cpf, senha), salvar);
+	}
+	
+	/**
+	 * Gera um relatório parcial contendo informações sobre o usuário e a quantidade de créditos 
+	 * acumulados, com a opção de salvar esse relatório no histórico.
+	 *
+	 * @param sessao a sessão aberta pelo estudante
+	 * @param salvar indica se o relatório deve ser salvo no histórico ou não
+	 * @return uma String representando o relatório parcial gerado
+	 */
+	public String gerarRelatorioParcialEstudante(Sessao sessao, boolean salvar) {
+		return relatorioParcial(buscaEstudante(sessao), salvar);
 	}
 	
 	/**
@@ -193,13 +617,27 @@ public class UsuarioController {
 	 * salvar esse relatório no histórico
 	 *
 	 * @param cpf o cpf do estudante
-     * @param senha a senha do estudante
+	 * @param senha a senha do estudante
 	 * @param tipoAtividade o tipo de atividade para a qual o relatório é gerado
-	 * @param salvar indica se o relatório deve ser salvo no históricoou não
+	 * @param salvar indica se o relatório deve ser salvo no histórico ou não
 	 * @return uma String representando o relatório parcial gerado para o tipo de atividade
 	 */
 	public String gerarRelatorioParcialEstudante(String cpf, String senha, boolean salvar, String tipoAtividade) {
-		return buscaEstudante(cpf, senha).relatorioParcial(tipoAtividade, salvar);
+		return relatorioParcial(buscaEstudante(cpf, senha), tipoAtividade, salvar);
+	}
+	
+	/**
+	 * Gera um relatório parcial para um tipo específico de atividade, contendo informações sobre 
+	 * o usuário e a quantidade de créditos acumulados para essa atividade, com a opção de 
+	 * salvar esse relatório no histórico
+	 *
+	 * @param sessao a sessão aberta pelo estudante
+	 * @param tipoAtividade o tipo de atividade para a qual o relatório é gerado
+	 * @param salvar indica se o relatório deve ser salvo no histórico ou não
+	 * @return uma String representando o relatório parcial gerado para o tipo de atividade
+	 */
+	public String gerarRelatorioParcialEstudante(Sessao sessao, boolean salvar, String tipoAtividade) {
+		return relatorioParcial(buscaEstudante(sessao), tipoAtividade, salvar);
 	}
 	
 	/**
@@ -207,22 +645,211 @@ public class UsuarioController {
 	 * String, onde cada relatório é separado por uma nova linha.
 	 *
 	 * @param cpf o cpf do estudante
-     * @param senha a senha do estudante
+	 * @param senha a senha do estudante
 	 * @return uma String contendo todos os relatórios salvos no histórico
 	 */
 	public String listarHistoricoEstudante(String cpf, String senha) {
-		return buscaEstudante(cpf, senha).listaHistorico();
+		return listaHistorico(buscaEstudante(cpf, senha));
+	}
+	
+	/**
+	 * Retorna uma lista de todos os relatórios salvos no histórico, formatada como uma única 
+	 * String, onde cada relatório é separado por uma nova linha.
+	 *
+	 * @param sessao a sessão aberta pelo estudante
+	 * @return uma String contendo todos os relatórios salvos no histórico
+	 */
+	public String listarHistoricoEstudante(Sessao sessao) {
+		return listaHistorico(buscaEstudante(sessao));
 	}
 	
 	/**
 	 * Exclui um relatório do histórico com base na data fornecida.
 	 *
 	 * @param cpf o cpf do estudante
-     * @param senha a senha do estudante
+	 * @param senha a senha do estudante
 	 * @param data a data do relatório a ser excluído
 	 * @return true se o relatório foi excluído com sucesso, false caso contrário
 	 */
 	public boolean excluirItemHistoricoEstudante(String cpf, String senha, String data) {
-		return buscaEstudante(cpf, senha).excluirRelatorio(data);
+		return excluirRelatorio(buscaEstudante(cpf, senha), data);
+	}
+	
+	/**
+	 * Exclui um relatório do histórico com base na data fornecida.
+	 *
+	 * @param sessao a sessão aberta pelo estudante
+	 * @param data a data do relatório a ser excluído
+	 * @return true se o relatório foi excluído com sucesso, false caso contrário
+	 */
+	public boolean excluirItemHistoricoEstudante(Sessao sessao, String data) {
+		return excluirRelatorio(buscaEstudante(sessao), data);
+	}
+	
+	private boolean alteraSenha(Usuario estudante, String senhaAntiga, String novaSenha) {
+		if (!estudante.alteraSenha(senhaAntiga, novaSenha)) {
+			return false;
+		}
+		this.sessaoRepository.encerraSessoes(estudante);
+		return true;
+	}
+	
+	private String criaAtividadeComplementar(Usuario estudante, String tipoAtividade, String descricao, String linkDocumentacao, int unidadeAcumulada, String especificidade) {
+		return estudante.criaAtividadeComplementar(tipoAtividade, descricao, linkDocumentacao, unidadeAcumulada, especificidade);
+	}
+	
+	private boolean alteraDescricaoAtividade(Usuario estudante, String codigoAtividade, String descricao) {
+		return estudante.alteraDescricaoAtividade(codigoAtividade, descricao);
+	}
+	
+	private boolean alteraLinkAtividade(Usuario estudante, String codigoAtividade, String linkDocumentacao) {
+		return estudante.alteraLinkAtividade(codigoAtividade, linkDocumentacao);
+	}
+	
+	private int calculaCreditos(Usuario estudante, String tipoAtividade) {
+		return estudante.calculaCreditos(tipoAtividade);
+	}
+	
+	private String geraMapaCreditos(Usuario estudante) {
+		return estudante.geraMapaCreditos();
+	}
+	
+	private boolean atingiuMeta(Usuario estudante) {
+		return estudante.atingiuMeta();
+	}
+	
+	private String relatorioFinal(Usuario estudante) {
+		return estudante.relatorioFinal();
+	}
+	
+	private String relatorioFinal(Usuario estudante, String tipoAtividade) {
+		return estudante.relatorioFinal(tipoAtividade);
+	}
+	
+	private String relatorioParcial(Usuario estudante, boolean salvar) {
+		return estudante.relatorioParcial(salvar);
+	}
+	
+	private String relatorioParcial(Usuario estudante, String tipoAtividade, boolean salvar) {
+		return estudante.relatorioParcial(tipoAtividade, salvar);
+	}
+	
+	private String listaHistorico(Usuario estudante) {
+		return estudante.listaHistorico();
+	}
+	
+	private boolean excluirRelatorio(Usuario estudante, String data) {
+		return estudante.excluirRelatorio(data);
+	}
+	
+	private void validaLote(List<String> lote, int primeiraLinha, boolean senhasProtegidas, List<Usuario> validos,
+			List<Integer> linhasValidas, ResultadoImportacao resultado) {
+		Object[] convertidos = IntStream.range(0, lote.size()).parallel()
+				.mapToObj(i -> converteLinha(lote.get(i), senhasProtegidas))
+				.toArray();
+		
+		for (int i = 0; i < convertidos.length; i++) {
+			if (convertidos[i] instanceof Usuario) {
+				validos.add((Usuario) convertidos[i]);
+				linhasValidas.add(primeiraLinha + i);
+			} else if (convertidos[i] != null) {
+				resultado.registraErro(primeiraLinha + i, (String) convertidos[i]);
+			}
+		}
+	}
+	
+	private void validaLoteAtividades(List<String> lote, int primeiraLinha, Map<String, GrupoAtividades> grupos,
+			ResultadoImportacao resultado) {
+		Object[] convertidos = IntStream.range(0, lote.size()).parallel()
+				.mapToObj(i -> converteLinhaAtividade(lote.get(i), primeiraLinha + i))
+				.toArray();
+		
+		for (int i = 0; i < convertidos.length; i++) {
+			if (convertidos[i] instanceof AtividadeImportada) {
+				AtividadeImportada importada = (AtividadeImportada) convertidos[i];
+				grupos.computeIfAbsent(importada.cpf, cpf -> new GrupoAtividades()).adiciona(importada);
+			} else if (convertidos[i] != null) {
+				resultado.registraErro(primeiraLinha + i, (String) convertidos[i]);
+			}
+		}
+	}
+	
+	private Object converteLinhaAtividade(String linha, int numeroLinha) {
+		if (linha.isBlank()) {
+			return null;
+		}
+		try {
+			String[] campos = SeparadorCsv.separa(linha);
+			if (campos.length != 6) {
+				return "A linha deve ter os campos cpf, tipo, descrição, link, unidade e especificidade";
+			}
+			int unidadeAcumulada;
+			try {
+				unidadeAcumulada = Integer.parseInt(campos[4].trim());
+			} catch (NumberFormatException e) {
+				return "A unidade acumulada deve ser um número inteiro";
+			}
+			TipoAtividadeRegistrado tipo = RegistroTiposAtividade.padrao().busca(campos[1].trim());
+			Atividade atividade = tipo.cria(campos[2].trim(), campos[3].trim(), unidadeAcumulada, campos[5].trim());
+			return new AtividadeImportada(numeroLinha, campos[0].trim(), tipo, atividade);
+		} catch (RuntimeException e) {
+			return e.getMessage();
+		}
+	}
+	
+	private Object converteLinha(String linha, boolean senhaProtegida) {
+		if (linha.isBlank()) {
+			return null;
+		}
+		try {
+			String[] campos = SeparadorCsv.separa(linha);
+			if (campos.length != 4) {
+				return "A linha deve ter os campos nome, cpf, senha e matrícula";
+			}
+			if (senhaProtegida) {
+				return Usuario.comSenhaProtegida(campos[0].trim(), campos[1].trim(), campos[2].trim(), campos[3].trim());
+			}
+			return new Usuario(campos[0].trim(), campos[1].trim(), campos[2].trim(), campos[3].trim());
+		} catch (RuntimeException e) {
+			return e.getMessage();
+		}
+	}
+	
+	private static class AtividadeImportada {
+		private final int linha;
+		private final String cpf;
+		private final TipoAtividadeRegistrado tipo;
+		private final Atividade atividade;
+		
+		AtividadeImportada(int linha, String cpf, TipoAtividadeRegistrado tipo, Atividade atividade) {
+			this.linha = linha;
+			this.cpf = cpf;
+			this.tipo = tipo;
+			this.atividade = atividade;
+		}
+	}
+	
+	/**
+	 * Atividades de um mesmo estudante na importação, e o erro ao adicioná-las, se houver.
+	 */
+	private static class GrupoAtividades {
+		private final List<Integer> linhas = new ArrayList<>();
+		private final List<TipoAtividadeRegistrado> tipos = new ArrayList<>();
+		private final List<Atividade> atividades = new ArrayList<>();
+		private String erro;
+		
+		void adiciona(AtividadeImportada importada) {
+			this.linhas.add(importada.linha);
+			this.tipos.add(importada.tipo);
+			this.atividades.add(importada.atividade);
+		}
+		
+		void aplica(UsuarioRepository repositorio, String senhaAdministrador, String cpf) {
+			try {
+				repositorio.adicionaAtividades(senhaAdministrador, cpf, this.tipos, this.atividades);
+			} catch (RuntimeException e) {
+				this.erro = e.getMessage();
+			}
+		}
 	}
 }
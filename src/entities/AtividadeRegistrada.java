@@ -0,0 +1,63 @@
+package entities;
+
+import validators.ValidadorAtividade;
+
+/**
+ * Classe que representa uma atividade de um tipo registrado em tempo de execução, cujos créditos
+ * seguem a regra informada no registro do tipo.
+ * 
+ * Esta classe estende AtividadeComplementar.
+ */
+
+public class AtividadeRegistrada extends AtividadeComplementar {
+
+	private String tipo;
+	private double creditosPorUnidade;
+	private int creditosMaximos;
+	private String especificidade;
+	
+	/**
+     * Cria uma nova atividade de um tipo registrado.
+     *
+     * @param tipo o nome do tipo da atividade
+     * @param creditosPorUnidade os créditos concedidos por unidade de tempo
+     * @param creditosMaximos o máximo de créditos que a atividade pode conceder
+     * @param unidadeMinima a unidade de tempo mínima da atividade
+     * @param descricao a descrição da atividade
+     * @param linkDocumentacao o link da documentação da atividade
+     * @param unidadeAcumulada a unidade de tempo acumulada na atividade
+     * @param especificidade o campo específico da atividade
+     * @throws NullPointerException se descricao, linkDocumentacao ou especificidade forem nulos
+     * @throws IllegalArgumentException se descricao, linkDocumentacao, unidadeAcumulada ou especificidade forem inválidos
+     */
+	public AtividadeRegistrada(String tipo, double creditosPorUnidade, int creditosMaximos, int unidadeMinima,
+			String descricao, String linkDocumentacao, int unidadeAcumulada, String especificidade) {
+		super(descricao, linkDocumentacao, unidadeAcumulada);
+		ValidadorAtividade.validaUnidadeAcumulada(unidadeAcumulada, unidadeMinima);
+		ValidadorAtividade.validaEspecificacao(especificidade);
+		this.tipo = tipo;
+		this.creditosPorUnidade = creditosPorUnidade;
+		this.creditosMaximos = creditosMaximos;
+		this.especificidade = especificidade;
+	}
+	
+	@Override
+	public int creditosMaximos() {
+		return this.creditosMaximos;
+	}
+	
+	@Override
+	public double creditosPorUnidade() {
+		return this.creditosPorUnidade;
+	}
+	
+	/**
+     * Retorna uma representação textual da atividade complementar.
+     *
+     * @return uma String com as informações do supertipo, além do tipo e da especificidade
+     */
+	@Override
+	public String toString() {
+		return super.toString() + " unidades. Tipo: " + this.tipo + ", especificidade: " + this.especificidade + "\nCréditos: " + super.creditos();
+	}
+}
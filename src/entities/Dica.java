@@ -1,24 +1,52 @@
 package entities;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.lang.ref.SoftReference;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
 
 import enums.TipoAtividadeComplementar;
 import interfaces.Elemento;
+import interfaces.ObservadorElementos;
+import structures.ArenaTextos;
 import validators.ValidadorUsuario;
 
 /**
  * Representação de uma dica, associa um autor, um tema e uma lista de elementos.
  * As dicas podem conter textos, mídias ou referências, e o autor é bonificado com base nos elementos adicionados.
+ * A dica repassa ao autor os pontos de cada elemento até ser entregue a um livro de bonificações
+ * (veja {@link #entregaBonificacao(ObservadorElementos)}); daí em diante, é o livro que bonifica o autor.
+ * 
+ * Os elementos da dica ficam num retrato imutável, trocado atomicamente a cada elemento adicionado:
+ * várias threads podem adicionar elementos à mesma dica sem travas, e quem lê a dica sempre vê
+ * um retrato completo. Os elementos ficam num armazenamento compacto, em colunas, compartilhado
+ * entre os retratos (veja {@link ElementosDica}), e só são recriados como objetos quando alguém
+ * precisa deles.
+ * 
+ * Adicionar um elemento não monta texto nenhum. As representações textuais são montadas quando
+ * pedidas e guardadas, junto com a quantidade de elementos que cobrem, por referências suaves
+ * ({@link SoftReference}): o próximo pedido devolve a mesma representação ou, se chegaram elementos,
+ * a estende apenas com as linhas dos novos. Se o heap apertar, o coletor pode descartá-las, e elas
+ * são remontadas a partir dos elementos no próximo pedido. Uma representação que inclui um texto longo
+ * não é guardada, para não manter no heap uma cópia do que já está na área de textos da dica: fica
+ * guardada apenas a representação dos elementos anteriores, e o restante é montado a cada pedido.
  * 
  * @author Alana Vanessa Pimentel Toldo de Andrade, matrícula 123210882
  */
 
 public class Dica implements Comparable<Dica> {
 
+	private static final ObservadorElementos[] SEM_OBSERVADORES = new ObservadorElementos[0];
+	private static final int CARACTERES_TEXTO_LONGO = 256;
+	
 	private Usuario autor;
 	private TipoAtividadeComplementar tema;
-	private List<Elemento> elementos;
+	private ArenaTextos textos;
+	private AtomicReference<Conteudo> conteudo;
+	private volatile ObservadorElementos[] observadoresElementos;
+	private volatile boolean bonificacaoEntregue;
+	private volatile SoftReference<Representacao> apresentacao;
+	private volatile SoftReference<Representacao> detalhes;
 	
 	/**
      * Cria uma nova Dica com o autor e tema especificados.
@@ -32,7 +60,57 @@ public class Dica implements Comparable<Dica> {
 		
 		this.autor = autor;
 		this.tema = TipoAtividadeComplementar.fromTipo(tema);
-		this.elementos = new ArrayList<>();
+		this.textos = new ArenaTextos();
+		this.conteudo = new AtomicReference<>(new Conteudo(ElementosDica.vazias(this.textos), 0, 0));
+		this.observadoresElementos = SEM_OBSERVADORES;
+		this.apresentacao = new SoftReference<>(null);
+		this.detalhes = new SoftReference<>(null);
+	}
+	
+	public Usuario getAutor() {
+		return this.autor;
+	}
+	
+	public TipoAtividadeComplementar getTema() {
+		return this.tema;
+	}
+	
+	/**
+	 * Retorna a pontuação da dica, a soma das bonificações de todos os seus elementos.
+	 * 
+	 * @return a pontuação da dica
+	 */
+	public int getPontuacao() {
+		return this.conteudo.get().pontuacao;
+	}
+	
+	/**
+	 * Corrige a pontuação da dica, quando os pontos dos seus elementos são recalculados com outra regra
+	 * de bonificação.
+	 * 
+	 * @param diferenca a diferença entre a pontuação nova e a atual
+	 */
+	public void corrigePontuacao(int diferenca) {
+		if (diferenca == 0) {
+			return;
+		}
+		Conteudo atual;
+		do {
+			atual = this.conteudo.get();
+		} while (!this.conteudo.compareAndSet(atual, new Conteudo(atual.colunas, atual.quantidade, atual.pontuacao + diferenca)));
+	}
+	
+	/**
+	 * Recria o elemento da posição informada, na ordem em que os elementos foram adicionados.
+	 * 
+	 * @param posicao a posição do elemento, a partir de 0
+	 * @return o elemento da posição
+	 * @throws IndexOutOfBoundsException se a dica não tiver elemento na posição
+	 */
+	public Elemento elemento(int posicao) {
+		Conteudo atual = this.conteudo.get();
+		Objects.checkIndex(posicao, atual.quantidade);
+		return atual.colunas.elemento(posicao);
 	}
 	
 	/**
@@ -46,9 +124,8 @@ public class Dica implements Comparable<Dica> {
 		if (!validaAutor(autor)) {
 			return false;
 		}
-		Elemento novoElemento = new Texto(texto);
-		elementos.add(novoElemento);
-		bonificaAutor(novoElemento.valorBonificacao());
+		Elemento novoElemento = new Texto(this.textos, texto);
+		adicionaElemento(novoElemento);
 		return true;
 	}
 	
@@ -66,8 +143,7 @@ public class Dica implements Comparable<Dica> {
 			return false;
 		}
 		Elemento novoElemento = new Multimidia(link, cabecalho, tempo);
-		elementos.add(novoElemento);
-		bonificaAutor(novoElemento.valorBonificacao());
+		adicionaElemento(novoElemento);
 		return true;
 	}
 	
@@ -87,8 +163,7 @@ public class Dica implements Comparable<Dica> {
 			return false;
 		}
 		Elemento novoElemento = new Referencia(titulo, fonte, ano, conferida, importancia);
-		elementos.add(novoElemento);
-		bonificaAutor(novoElemento.valorBonificacao());
+		adicionaElemento(novoElemento);
 		return true;
 	}
 	
@@ -98,11 +173,14 @@ public class Dica implements Comparable<Dica> {
      * @return uma representação em String dos detalhes da dica
      */
 	public String exibeDetalhes() {
-		String apresentacao = "Autor: " + this.autor.getNome();
-		for (Elemento e : elementos) {
-			apresentacao += "\n" + e.exibeDetalhes();
+		Conteudo atual = this.conteudo.get();
+		Representacao anterior = this.detalhes.get();
+		Representacao representacao = estende(anterior, atual, cabecalhoDetalhes(), true);
+		if (representacao.guardavel && representacao != anterior
+				&& (anterior == null || anterior.quantidade < representacao.quantidade)) {
+			this.detalhes = new SoftReference<>(representacao);
 		}
-		return apresentacao;
+		return representacao.texto;
 	}
 	
 	/**
@@ -112,21 +190,141 @@ public class Dica implements Comparable<Dica> {
      */
 	@Override
 	public String toString() {
-		String apresentacao = "Autor: " + this.autor.getNome() + ", tema: " + this.tema.getTipo();
-		for (Elemento e : elementos) {
-			apresentacao += "\n" + e.toString();
+		Conteudo atual = this.conteudo.get();
+		Representacao anterior = this.apresentacao.get();
+		Representacao representacao = estende(anterior, atual, cabecalhoApresentacao(), false);
+		if (representacao.guardavel && representacao != anterior
+				&& (anterior == null || anterior.quantidade < representacao.quantidade)) {
+			this.apresentacao = new SoftReference<>(representacao);
+		}
+		return representacao.texto;
+	}
+	
+	/**
+	 * Monta a representação do retrato. Os elementos só são acrescentados, então uma representação
+	 * de menos elementos é um prefixo da representação do retrato, e basta estendê-la com as linhas
+	 * dos elementos que faltam. Uma representação de mais elementos, montada a partir de um retrato
+	 * mais novo, não serve, e a representação é montada do início. A representação só pode ser guardada
+	 * se nenhum dos seus elementos for um texto longo.
+	 */
+	private static Representacao estende(Representacao anterior, Conteudo atual, String cabecalho, boolean detalhada) {
+		if (anterior != null && anterior.quantidade == atual.quantidade) {
+			return anterior;
+		}
+		int inicio = 0;
+		StringBuilder texto;
+		if (anterior != null && anterior.quantidade < atual.quantidade) {
+			inicio = anterior.quantidade;
+			texto = new StringBuilder(anterior.texto);
+		} else {
+			texto = new StringBuilder(cabecalho);
 		}
-		return apresentacao;
+		boolean guardavel = true;
+		for (int i = inicio; i < atual.quantidade; i++) {
+			Elemento elemento = atual.colunas.elemento(i);
+			texto.append('\n').append(detalhada ? elemento.exibeDetalhes() : elemento.toString());
+			if (elemento instanceof Texto && ((Texto) elemento).getCaracteres() >= CARACTERES_TEXTO_LONGO) {
+				guardavel = false;
+			}
+		}
+		return new Representacao(atual.quantidade, texto.toString(), guardavel);
+	}
+	
+	private String cabecalhoApresentacao() {
+		return "Autor: " + this.autor.getNome() + ", tema: " + this.tema.getTipo();
+	}
+	
+	private String cabecalhoDetalhes() {
+		return "Autor: " + this.autor.getNome();
 	}
 	
 	private boolean validaAutor(Usuario autor) {
 		return this.autor.equals(autor);
 	}
 	
+	/**
+	 * Registra um observador que será avisado a cada elemento adicionado à dica.
+	 * O observador é avisado imediatamente dos elementos que a dica já possui; por isso, o registro
+	 * deve acontecer antes de a dica ser compartilhada com outras threads.
+	 * 
+	 * @param observador o observador a ser registrado
+	 */
+	public synchronized void registraObservadorElementos(ObservadorElementos observador) {
+		ObservadorElementos[] observadores = Arrays.copyOf(this.observadoresElementos, this.observadoresElementos.length + 1);
+		observadores[observadores.length - 1] = observador;
+		this.observadoresElementos = observadores;
+		Elemento[] elementos = this.conteudo.get().elementos();
+		for (int posicao = 0; posicao < elementos.length; posicao++) {
+			observador.elementoAdicionado(this, posicao, elementos[posicao]);
+		}
+	}
+	
+	/**
+	 * Entrega a bonificação do autor a um livro de bonificações. A partir daqui, a dica deixa de repassar
+	 * ao autor os pontos dos elementos adicionados, e o livro, registrado como observador, passa a fazê-lo.
+	 * O livro não é avisado dos elementos que a dica já possui: eles são retornados, e os seus pontos
+	 * já foram repassados ao autor. Como o registro de observadores, a entrega deve acontecer antes
+	 * de a dica ser compartilhada com outras threads.
+	 * 
+	 * @param livro o observador que passa a bonificar o autor
+	 * @return os elementos que a dica já possui
+	 */
+	public synchronized Elemento[] entregaBonificacao(ObservadorElementos livro) {
+		ObservadorElementos[] observadores = Arrays.copyOf(this.observadoresElementos, this.observadoresElementos.length + 1);
+		observadores[observadores.length - 1] = livro;
+		this.observadoresElementos = observadores;
+		this.bonificacaoEntregue = true;
+		return this.conteudo.get().elementos();
+	}
+	
+	private void adicionaElemento(Elemento elemento) {
+		Conteudo atual;
+		Conteudo novo;
+		do {
+			atual = this.conteudo.get();
+			novo = atual.com(elemento);
+		} while (!this.conteudo.compareAndSet(atual, novo));
+		if (!this.bonificacaoEntregue) {
+			bonificaAutor(elemento.valorBonificacao());
+		}
+		for (ObservadorElementos observador : this.observadoresElementos) {
+			observador.elementoAdicionado(this, atual.quantidade, elemento);
+		}
+	}
+	
 	private void bonificaAutor(int bonificacao) {
 		this.autor.recebeBonificacao(bonificacao);
 	}
 
+	/**
+	 * Retorna um código de hash para a dica, baseado no autor e no tema.
+	 *
+	 * @return um valor inteiro representando o código de hash da dica
+	 */
+	@Override
+	public int hashCode() {
+		return Objects.hash(autor, tema);
+	}
+	
+	/**
+	 * Verifica se duas dicas são iguais. Duas dicas são iguais quando têm o mesmo autor e o mesmo tema,
+	 * o mesmo critério usado por {@link #compareTo(Dica)} para considerar duas dicas equivalentes.
+	 *
+	 * @param obj o objeto a ser comparado com a dica
+	 * @return true se as dicas forem iguais, false caso contrário
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof Dica)) {
+			return false;
+		}
+		Dica other = (Dica) obj;
+		return Objects.equals(autor, other.autor) && tema == other.tema;
+	}
+	
 	@Override
 	public int compareTo(Dica obj) {
 		if (this.autor.equals(obj.autor) && this.tema.equals(obj.tema)) return 0; 
@@ -134,5 +332,47 @@ public class Dica implements Comparable<Dica> {
 		return this.autor.compareTo(obj.autor);
 	}
 	
+	/**
+	 * Retrato imutável dos elementos da dica e da sua pontuação: as primeiras posições das colunas
+	 * de elementos, até a quantidade do retrato.
+	 */
+	private static class Conteudo {
+		private final ElementosDica colunas;
+		private final int quantidade;
+		private final int pontuacao;
+		
+		Conteudo(ElementosDica colunas, int quantidade, int pontuacao) {
+			this.colunas = colunas;
+			this.quantidade = quantidade;
+			this.pontuacao = pontuacao;
+		}
+		
+		/**
+		 * Cria o retrato seguinte, com o elemento no final.
+		 */
+		Conteudo com(Elemento elemento) {
+			ElementosDica novasColunas = this.colunas.reservaPosicao(this.quantidade);
+			novasColunas.grava(this.quantidade, elemento);
+			return new Conteudo(novasColunas, this.quantidade + 1, this.pontuacao + elemento.valorBonificacao());
+		}
+		
+		Elemento[] elementos() {
+			return this.colunas.elementos(this.quantidade);
+		}
+	}
 	
+	/**
+	 * Representação textual da dica com os seus primeiros elementos, até a quantidade informada.
+	 */
+	private static class Representacao {
+		private final int quantidade;
+		private final String texto;
+		private final boolean guardavel;
+		
+		Representacao(int quantidade, String texto, boolean guardavel) {
+			this.quantidade = quantidade;
+			this.texto = texto;
+			this.guardavel = guardavel;
+		}
+	}
 }
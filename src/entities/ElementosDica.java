@@ -0,0 +1,154 @@
+package entities;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import interfaces.Elemento;
+import structures.ArenaTextos;
+
+/**
+ * Armazenamento compacto dos elementos de uma dica, em colunas: o tipo de cada elemento num vetor de bytes,
+ * os valores inteiros (caracteres do texto, tempo da mídia ou ano da referência) num vetor de inteiros,
+ * a importância das referências num vetor de bytes, a marca de conferida num conjunto de bits e os textos
+ * em dois vetores de Strings. O texto dos elementos de texto fica na área de textos das colunas, e as
+ * colunas guardam só o seu endereço. Os elementos não ficam guardados como objetos: cada {@link Elemento} é
+ * recriado a partir das colunas quando é pedido.
+ *
+ * As colunas são compartilhadas entre os retratos sucessivos de uma dica. Um retrato com n elementos
+ * só enxerga as n primeiras posições; para adicionar um elemento, ele reserva a posição n, e só o primeiro
+ * a reservá-la grava nas colunas existentes. Quem chega depois, ou encontra as colunas cheias, recebe uma
+ * cópia com as n primeiras posições. Assim, adicionar um elemento custa tempo constante amortizado.
+ * As cópias compartilham a mesma área de textos.
+ */
+
+final class ElementosDica {
+
+	private static final byte TEXTO = 0;
+	private static final byte MULTIMIDIA = 1;
+	private static final byte REFERENCIA = 2;
+
+	private static final int CAPACIDADE_MINIMA = 4;
+
+	private final ArenaTextos textos;
+	private final AtomicInteger reservadas;
+	private final byte[] tipos;
+	private final int[] valores;
+	private final byte[] importancias;
+	private final long[] conferidas;
+	private final long[] enderecos;
+	private final String[] primeiros;
+	private final String[] segundos;
+
+	private ElementosDica(ArenaTextos textos, int capacidade) {
+		this.textos = textos;
+		this.reservadas = new AtomicInteger();
+		this.tipos = new byte[capacidade];
+		this.valores = new int[capacidade];
+		this.importancias = new byte[capacidade];
+		this.conferidas = new long[(capacidade + 63) >>> 6];
+		this.enderecos = new long[capacidade];
+		this.primeiros = new String[capacidade];
+		this.segundos = new String[capacidade];
+	}
+
+	/**
+	 * Cria colunas vazias, que gravam os textos na área informada.
+	 *
+	 * @param textos a área de textos das colunas
+	 * @return as colunas vazias
+	 */
+	static ElementosDica vazias(ArenaTextos textos) {
+		return new ElementosDica(textos, 0);
+	}
+
+	/**
+	 * Reserva a posição seguinte à do último elemento de um retrato com a quantidade de elementos informada.
+	 *
+	 * @param quantidade a quantidade de elementos do retrato
+	 * @return estas colunas, se a posição foi reservada nelas, ou uma cópia com a posição já reservada
+	 */
+	ElementosDica reservaPosicao(int quantidade) {
+		int capacidade = this.tipos.length;
+		if (quantidade < capacidade && this.reservadas.compareAndSet(quantidade, quantidade + 1)) {
+			return this;
+		}
+		ElementosDica copia = new ElementosDica(this.textos, (quantidade < capacidade) ? capacidade : Math.max(CAPACIDADE_MINIMA, capacidade * 2));
+		System.arraycopy(this.tipos, 0, copia.tipos, 0, quantidade);
+		System.arraycopy(this.valores, 0, copia.valores, 0, quantidade);
+		System.arraycopy(this.importancias, 0, copia.importancias, 0, quantidade);
+		System.arraycopy(this.conferidas, 0, copia.conferidas, 0, (quantidade + 63) >>> 6);
+		System.arraycopy(this.enderecos, 0, copia.enderecos, 0, quantidade);
+		System.arraycopy(this.primeiros, 0, copia.primeiros, 0, quantidade);
+		System.arraycopy(this.segundos, 0, copia.segundos, 0, quantidade);
+		copia.reservadas.set(quantidade + 1);
+		return copia;
+	}
+
+	/**
+	 * Grava o elemento numa posição já reservada. Um texto gravado noutra área é copiado para a área das colunas.
+	 *
+	 * @param posicao a posição reservada
+	 * @param elemento o elemento a ser gravado
+	 */
+	void grava(int posicao, Elemento elemento) {
+		boolean conferida = false;
+		if (elemento instanceof Texto) {
+			Texto texto = (Texto) elemento;
+			this.tipos[posicao] = TEXTO;
+			this.valores[posicao] = texto.getCaracteres();
+			this.enderecos[posicao] = (texto.getArea() == this.textos) ? texto.getEndereco()
+					: this.textos.grava(texto.toString().getBytes(StandardCharsets.UTF_8));
+		} else if (elemento instanceof Multimidia) {
+			Multimidia multimidia = (Multimidia) elemento;
+			this.tipos[posicao] = MULTIMIDIA;
+			this.valores[posicao] = multimidia.getTempo();
+			this.primeiros[posicao] = multimidia.getLink();
+			this.segundos[posicao] = multimidia.getCabecalho();
+		} else {
+			Referencia referencia = (Referencia) elemento;
+			this.tipos[posicao] = REFERENCIA;
+			this.valores[posicao] = referencia.getAno();
+			this.importancias[posicao] = (byte) referencia.getImportancia();
+			this.primeiros[posicao] = referencia.getTitulo();
+			this.segundos[posicao] = referencia.getFonte();
+			conferida = referencia.isConferida();
+		}
+		if (conferida) {
+			this.conferidas[posicao >>> 6] |= 1L << posicao;
+		} else {
+			this.conferidas[posicao >>> 6] &= ~(1L << posicao);
+		}
+	}
+
+	/**
+	 * Recria o elemento gravado na posição informada.
+	 *
+	 * @param posicao a posição do elemento
+	 * @return o elemento
+	 */
+	Elemento elemento(int posicao) {
+		switch (this.tipos[posicao]) {
+		case TEXTO:
+			return new Texto(this.textos, this.enderecos[posicao], this.valores[posicao]);
+		case MULTIMIDIA:
+			return new Multimidia(this.primeiros[posicao], this.segundos[posicao], this.valores[posicao]);
+		default:
+			boolean conferida = (this.conferidas[posicao >>> 6] & (1L << posicao)) != 0;
+			return new Referencia(this.primeiros[posicao], this.segundos[posicao], this.valores[posicao],
+					conferida, this.importancias[posicao]);
+		}
+	}
+
+	/**
+	 * Recria os primeiros elementos gravados.
+	 *
+	 * @param quantidade a quantidade de elementos
+	 * @return os elementos, na ordem em que foram adicionados
+	 */
+	Elemento[] elementos(int quantidade) {
+		Elemento[] elementos = new Elemento[quantidade];
+		Arrays.setAll(elementos, this::elemento);
+		return elementos;
+	}
+}
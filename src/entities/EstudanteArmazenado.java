@@ -0,0 +1,64 @@
+package entities;
+
+import structures.ArmazemEstudantes;
+
+/**
+ * Visão de um estudante guardado num armazenamento compacto. Não guarda os dados do estudante,
+ * apenas o armazenamento e a posição dele: cada leitura e cada alteração vai às colunas do armazenamento.
+ */
+
+final class EstudanteArmazenado extends Usuario {
+
+	private final ArmazemEstudantes<GerenciadorAtividadesComplementares> armazem;
+	private final int indice;
+
+	EstudanteArmazenado(ArmazemEstudantes<GerenciadorAtividadesComplementares> armazem, int indice) {
+		this.armazem = armazem;
+		this.indice = indice;
+	}
+
+	@Override
+	public String getNome() {
+		return this.armazem.nome(this.indice);
+	}
+
+	@Override
+	public String getCpf() {
+		return this.armazem.cpf(this.indice);
+	}
+
+	@Override
+	public int getBonificacao() {
+		return this.armazem.bonificacao(this.indice);
+	}
+
+	@Override
+	String matricula() {
+		return this.armazem.matricula(this.indice);
+	}
+
+	@Override
+	String senhaProtegida() {
+		return this.armazem.senha(this.indice);
+	}
+
+	@Override
+	void guardaSenhaProtegida(String senhaProtegida) {
+		this.armazem.defineSenha(this.indice, senhaProtegida);
+	}
+
+	@Override
+	int somaBonificacao(int bonificacao) {
+		return this.armazem.somaBonificacao(this.indice, bonificacao);
+	}
+
+	@Override
+	GerenciadorAtividadesComplementares gerenciadorExistente() {
+		return this.armazem.gerenciador(this.indice);
+	}
+
+	@Override
+	GerenciadorAtividadesComplementares defineGerenciadorSeAusente(GerenciadorAtividadesComplementares gerenciador) {
+		return this.armazem.defineGerenciadorSeAusente(this.indice, gerenciador);
+	}
+}
@@ -1,25 +1,108 @@
 package entities;
 
-import java.util.HashMap;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 
-import enums.TipoAtividadeComplementar;
 import interfaces.Atividade;
+import validators.ValidadorAtividade;
+import structures.AlocadorCodigos;
+import structures.MapaCompacto;
+
+/**
+ * Gerencia as atividades complementares e os relatórios de um estudante.
+ * 
+ * Os tipos de atividade aceitos são os do registro de tipos do gerenciador, normalmente
+ * o {@link RegistroTiposAtividade#padrao() registro padrão}.
+ * Os créditos de cada tipo de atividade são acumulados à medida que as atividades são criadas,
+ * de modo que consultas de créditos, metas e relatórios não percorrem as atividades.
+ * 
+ * O número do código de cada atividade vem de um {@link AlocadorCodigos} compartilhado por todos os estudantes,
+ * e é único em todo o sistema mesmo com atividades criadas por várias threads ao mesmo tempo. Por padrão,
+ * o alocador fica só em memória. Para que os códigos não se repitam depois de o sistema reiniciar, informe
+ * na propriedade {@value #PROPRIEDADE_ARQUIVO_CODIGOS} o arquivo em que o alocador guarda a sua marca,
+ * ou defina um alocador com arquivo por {@link #defineAlocadorCodigos(AlocadorCodigos)}.
+ * 
+ * As operações do gerenciador são sincronizadas: o gerenciador é a trava das atividades do seu estudante.
+ */
 
 public class GerenciadorAtividadesComplementares {
 
+	/**
+	 * Propriedade de sistema com o caminho do arquivo em que o alocador padrão guarda a sua marca.
+	 * Se não for informada, o alocador padrão fica só em memória.
+	 */
+	public static final String PROPRIEDADE_ARQUIVO_CODIGOS = "atividades.codigos.arquivo";
+	
+	private static final int TAMANHO_BLOCO_CODIGOS = 1024;
+	
 	private Usuario estudante;
+	private final RegistroTiposAtividade registroTipos;
 	private final int META_DE_CREDITOS;
 	private Map<String, Atividade> atividadesComplementares;
 	private Map<String, Relatorio> historicoRelatorios;
+	private int[] creditosPorTipo;
+	private int creditosTotais;
 	
-	private static int contador = 0;
+	private static volatile AlocadorCodigos alocadorCodigos;
 	
 	public GerenciadorAtividadesComplementares(Usuario estudante) {
+		this(estudante, RegistroTiposAtividade.padrao());
+	}
+	
+	/**
+	 * Cria um gerenciador que aceita os tipos de atividade do registro informado, em vez do registro padrão.
+	 * 
+	 * @param estudante o estudante dono das atividades
+	 * @param registroTipos o registro dos tipos de atividade aceitos
+	 */
+	GerenciadorAtividadesComplementares(Usuario estudante, RegistroTiposAtividade registroTipos) {
 		this.estudante = estudante;
+		this.registroTipos = registroTipos;
 		this.META_DE_CREDITOS = 22;
-		this.atividadesComplementares = new HashMap<>();
-		this.historicoRelatorios = new HashMap<>();
+		this.atividadesComplementares = new MapaCompacto<>();
+		this.historicoRelatorios = new MapaCompacto<>();
+		this.creditosPorTipo = new int[this.registroTipos.quantidade()];
+		this.creditosTotais = 0;
+	}
+	
+	/**
+	 * Define o alocador dos números dos códigos de atividade, por exemplo um alocador que guarda
+	 * a sua marca em arquivo, para que os códigos não se repitam depois de o sistema reiniciar.
+	 * 
+	 * @param alocador o novo alocador
+	 * @throws NullPointerException se alocador for null
+	 */
+	public static void defineAlocadorCodigos(AlocadorCodigos alocador) {
+		ValidadorAtividade.validaAlocador(alocador);
+		synchronized (GerenciadorAtividadesComplementares.class) {
+			alocadorCodigos = alocador;
+		}
+	}
+	
+	/**
+	 * Retorna o alocador dos códigos de atividade. Se nenhum foi definido, cria o alocador padrão,
+	 * que guarda a sua marca no arquivo da propriedade {@value #PROPRIEDADE_ARQUIVO_CODIGOS}, se informada,
+	 * ou fica só em memória.
+	 * 
+	 * @return o alocador atual
+	 * @throws java.io.UncheckedIOException se não for possível ler o arquivo do alocador padrão
+	 */
+	private static AlocadorCodigos alocadorCodigos() {
+		AlocadorCodigos alocador = alocadorCodigos;
+		if (alocador == null) {
+			synchronized (GerenciadorAtividadesComplementares.class) {
+				alocador = alocadorCodigos;
+				if (alocador == null) {
+					String arquivo = System.getProperty(PROPRIEDADE_ARQUIVO_CODIGOS);
+					alocador = (arquivo == null) ? new AlocadorCodigos(TAMANHO_BLOCO_CODIGOS)
+							: new AlocadorCodigos(Path.of(arquivo), TAMANHO_BLOCO_CODIGOS);
+					alocadorCodigos = alocador;
+				}
+			}
+		}
+		return alocador;
 	}
 	
 	/**
@@ -32,28 +115,36 @@ public class GerenciadorAtividadesComplementares {
 	 * @param especificidade o campo específico da atividade
 	 * @return o código da atividade criada
 	 */
-	public String criaAtividadeComplementar(String tipoAtividade, String descricao, String linkDocumentacao, int unidadeAcumulada, String especificidade) {
+	public synchronized String criaAtividadeComplementar(String tipoAtividade, String descricao, String linkDocumentacao, int unidadeAcumulada, String especificidade) {
 		String codigoAtividade = geraCodigoAtividade();
-		
-		switch (TipoAtividadeComplementar.fromTipo(tipoAtividade)) {
-		case PESQUISAEXTENSAO:
-			atividadesComplementares.put(codigoAtividade, new PesquisaExtensao(descricao, linkDocumentacao, unidadeAcumulada, especificidade));
-			break;
-		case MONITORIA:
-			atividadesComplementares.put(codigoAtividade, new Monitoria(descricao, linkDocumentacao, unidadeAcumulada, especificidade));
-			break;
-		case ESTAGIO:
-			atividadesComplementares.put(codigoAtividade, new Estagio(descricao, linkDocumentacao, unidadeAcumulada, especificidade));
-			break;
-		case REPRESENTACAOESTUDANTIL:
-			atividadesComplementares.put(codigoAtividade, new RepresentacaoEstudantil(descricao, linkDocumentacao, unidadeAcumulada, especificidade));
-			break;
-		default:
-			throw new IllegalArgumentException("Tipo inválido para Atividades Complementares");
-		}
+		TipoAtividadeRegistrado tipo = this.registroTipos.busca(tipoAtividade);
+		Atividade atividade = tipo.cria(descricao, linkDocumentacao, unidadeAcumulada, especificidade);
+		atividadesComplementares.put(codigoAtividade, atividade);
+		acumulaCreditos(tipo, atividade.creditos());
 		return codigoAtividade;
 	}
 	
+	/**
+	 * Adiciona de uma só vez atividades já criadas e validadas. Os créditos de todas elas são
+	 * somados antes e acumulados numa única atualização.
+	 * 
+	 * @param tipos o tipo de cada atividade
+	 * @param atividades as atividades, na mesma ordem dos tipos
+	 * @return os códigos das atividades adicionadas, na mesma ordem
+	 */
+	public synchronized String[] adicionaAtividades(List<TipoAtividadeRegistrado> tipos, List<Atividade> atividades) {
+		String[] codigos = new String[atividades.size()];
+		int[] acrescimos = new int[this.registroTipos.quantidade()];
+		for (int i = 0; i < codigos.length; i++) {
+			Atividade atividade = atividades.get(i);
+			codigos[i] = geraCodigoAtividade();
+			atividadesComplementares.put(codigos[i], atividade);
+			acrescimos[tipos.get(i).getIndice()] += atividade.creditos();
+		}
+		acumulaCreditos(acrescimos);
+		return codigos;
+	}
+	
 	/**
 	 * Altera a descrição de uma atividade complementar específica.
 	 * 
@@ -61,7 +152,7 @@ public class GerenciadorAtividadesComplementares {
 	 * @param descricao a nova descrição
 	 * @return true se a alteração foi bem-sucedida, false caso contrário
 	 */
-	public boolean alteraDescricaoAtividade(String codigoAtividade, String descricao) {
+	public synchronized boolean alteraDescricaoAtividade(String codigoAtividade, String descricao) {
 		Atividade atividadeComplementar = atividadesComplementares.get(codigoAtividade);
 		atividadeComplementar.setDescricao(descricao);
 		return true;
@@ -74,29 +165,30 @@ public class GerenciadorAtividadesComplementares {
 	 * @param linkDocumentacao o novo link
 	 * @return true se a alteração foi bem-sucedida, false caso contrário
 	 */
-	public boolean alteraLinkAtividade(String codigoAtividade, String linkDocumentacao) {
+	public synchronized boolean alteraLinkAtividade(String codigoAtividade, String linkDocumentacao) {
 		Atividade atividadeComplementar = atividadesComplementares.get(codigoAtividade);
 		atividadeComplementar.setLinkDocumentacao(linkDocumentacao);
 		return true;
 	}
 	
+	/**
+	 * Busca uma atividade complementar pelo código.
+	 * 
+	 * @param codigoAtividade o código da atividade
+	 * @return a atividade, ou null se não houver atividade com esse código
+	 */
+	public synchronized Atividade buscaAtividade(String codigoAtividade) {
+		return atividadesComplementares.get(codigoAtividade);
+	}
+	
 	/**
 	 * Calcula os créditos acumulados para um tipo específico de atividade complementar.
 	 * 
 	 * @param tipoAtividade o tipo de atividade (e.g., "pesquisaextensao", "monitoria")
 	 * @return O total de créditos acumulados para o tipo de atividade
 	 */
-	public int calculaCreditos(String tipoAtividade) {
-		int creditos = 0;
-		TipoAtividadeComplementar tipo = TipoAtividadeComplementar.fromTipo(tipoAtividade);
-		Class<? extends Atividade> classe = tipo.getClasse();
-		
-		for (Atividade atividadeComplementar : atividadesComplementares.values()) {
-			if (classe.isAssignableFrom(atividadeComplementar.getClass())) {
-				creditos += atividadeComplementar.creditos();
-			}
-		}
-		return creditos;
+	public synchronized int calculaCreditos(String tipoAtividade) {
+		return creditosDoTipo(this.registroTipos.busca(tipoAtividade));
 	}
 	
 	/**
@@ -104,11 +196,10 @@ public class GerenciadorAtividadesComplementares {
 	 * 
 	 * @return uma String com cada tipo de atividade complementar e os respectivos créditos totais
 	 */
-	public String exibeMapaCreditos() {
-		Map<TipoAtividadeComplementar, Integer> mapa = mapaCreditos();
+	public synchronized String exibeMapaCreditos() {
 		String mapaString = "";
-		for (TipoAtividadeComplementar key : mapaCreditos().keySet()) {
-			mapaString += "\n" + key.getTipo() + ": " + mapa.get(key) + "/" + key.getCreditosMaximos();
+		for (TipoAtividadeRegistrado tipo : this.registroTipos.tipos()) {
+			mapaString += "\n" + tipo.getTipo() + ": " + creditosDoTipo(tipo) + "/" + tipo.getCreditosMaximos();
 		}
 		return mapaString.trim();
 	}
@@ -118,7 +209,7 @@ public class GerenciadorAtividadesComplementares {
 	 * 
 	 * @return true se tiver atingido a meta, false caso contrário
 	 */
-	public boolean atingiuMeta() {
+	public synchronized boolean atingiuMeta() {
 		return this.calculaCreditos() >= this.META_DE_CREDITOS;
 	}
 	
@@ -127,10 +218,9 @@ public class GerenciadorAtividadesComplementares {
 	 * 
 	 * @return true se tiver atingido a meta, false caso contrário
 	 */
-	public boolean atingiuMeta(String tipoAtividade) {
-		int creditos = calculaCreditos(tipoAtividade);
-		TipoAtividadeComplementar tipo = TipoAtividadeComplementar.fromTipo(tipoAtividade);
-		return creditos >= tipo.getCreditosMaximos();
+	public synchronized boolean atingiuMeta(String tipoAtividade) {
+		TipoAtividadeRegistrado tipo = this.registroTipos.busca(tipoAtividade);
+		return creditosDoTipo(tipo) >= tipo.getCreditosMaximos();
 	}
 
 	/**
@@ -140,11 +230,11 @@ public class GerenciadorAtividadesComplementares {
 	 * @return uma String representando o relatório final gerado, ou uma mensagem informando que 
 	 *         a meta de créditos não foi atingida
 	 */
-	public String relatorioFinal() {
+	public synchronized String relatorioFinal() {
 		if (!atingiuMeta()) {
 			return "Ainda não atingiu a meta de créditos";
 		}
-		return new Relatorio(this.estudante, mapaCreditos()).toString();
+		return new Relatorio(this.estudante, this.registroTipos.tipos(), this.creditosPorTipo).toString();
 	}
 	
 	/**
@@ -156,12 +246,12 @@ public class GerenciadorAtividadesComplementares {
 	 * @return uma String representando o relatório final gerado para o tipo de atividade, ou uma 
 	 *         mensagem informando que a meta não foi atingida
 	 */
-	public String relatorioFinal(String tipoAtividade) {
-		TipoAtividadeComplementar tipo = TipoAtividadeComplementar.fromTipo(tipoAtividade);
+	public synchronized String relatorioFinal(String tipoAtividade) {
+		TipoAtividadeRegistrado tipo = this.registroTipos.busca(tipoAtividade);
 		if (!atingiuMeta(tipoAtividade)) {
 			return "Ainda não atingiu a meta de créditos para a atividade do tipo " + tipoAtividade;
 		}
-		return new RelatorioPorAtividade(this.estudante, mapaCreditos(), tipo).toString();
+		return new RelatorioPorAtividade(this.estudante, this.registroTipos.tipos(), this.creditosPorTipo, tipo).toString();
 	}
 	
 	/**
@@ -171,8 +261,8 @@ public class GerenciadorAtividadesComplementares {
 	 * @param salvar indica se o relatório deve ser salvo no histórico ou não
 	 * @return uma String representando o relatório parcial gerado
 	 */
-	public String relatorioParcial(boolean salvar) {
-		Relatorio relatorio = new Relatorio(this.estudante, mapaCreditos());
+	public synchronized String relatorioParcial(boolean salvar) {
+		Relatorio relatorio = new Relatorio(this.estudante, this.registroTipos.tipos(), this.creditosPorTipo);
 		if (salvar) {
 			salvaRelatorio(relatorio);
 		}
@@ -188,9 +278,9 @@ public class GerenciadorAtividadesComplementares {
 	 * @param salvar indica se o relatório deve ser salvo no históricoou não
 	 * @return uma String representando o relatório parcial gerado para o tipo de atividade
 	 */
-	public String relatorioParcial(String tipoAtividade, boolean salvar) {
-		TipoAtividadeComplementar tipo = TipoAtividadeComplementar.fromTipo(tipoAtividade);
-		RelatorioPorAtividade relatorio = new RelatorioPorAtividade(this.estudante, mapaCreditos(), tipo);
+	public synchronized String relatorioParcial(String tipoAtividade, boolean salvar) {
+		TipoAtividadeRegistrado tipo = this.registroTipos.busca(tipoAtividade);
+		RelatorioPorAtividade relatorio = new RelatorioPorAtividade(this.estudante, this.registroTipos.tipos(), this.creditosPorTipo, tipo);
 		if (salvar) {
 			salvaRelatorio(relatorio);
 		}
@@ -203,7 +293,7 @@ public class GerenciadorAtividadesComplementares {
 	 *
 	 * @return uma String contendo todos os relatórios salvos no histórico
 	 */
-	public String listaHistorico() {
+	public synchronized String listaHistorico() {
 		String lista = "";
 		for (Relatorio relatorio : historicoRelatorios.values()) {
 			lista += "\n" + relatorio.toString();
@@ -217,7 +307,7 @@ public class GerenciadorAtividadesComplementares {
 	 * @param data a data do relatório a ser excluído
 	 * @return true se o relatório foi excluído com sucesso, false caso contrário
 	 */
-	public boolean excluiRelatorio(String data) {
+	public synchronized boolean excluiRelatorio(String data) {
 		if (this.historicoRelatorios.containsKey(data)) {
 			this.historicoRelatorios.remove(data);
 			return true;
@@ -225,25 +315,45 @@ public class GerenciadorAtividadesComplementares {
 		return false;
 	}
 	
+	/**
+	 * Retorna o CPF do estudante dono da atividade, que é o início do código da atividade.
+	 * 
+	 * @param codigoAtividade o código da atividade
+	 * @return o CPF do dono, ou null se o código não estiver no formato dos códigos gerados
+	 */
+	public static String cpfDoDono(String codigoAtividade) {
+		int separador = codigoAtividade.lastIndexOf('_');
+		return (separador > 0) ? codigoAtividade.substring(0, separador) : null;
+	}
+	
 	private String geraCodigoAtividade() {
-		return this.estudante.getCpf() + "_" + ++contador;
+		return this.estudante.getCpf() + "_" + alocadorCodigos().proximo();
 	}
 	
 	private int calculaCreditos() {
-		int creditos = 0;
-		for (Atividade atividadeComplementar : atividadesComplementares.values()) {
-			creditos += atividadeComplementar.creditos();
+		return this.creditosTotais;
+	}
+	
+	private int creditosDoTipo(TipoAtividadeRegistrado tipo) {
+		return (tipo.getIndice() < this.creditosPorTipo.length) ? this.creditosPorTipo[tipo.getIndice()] : 0;
+	}
+	
+	private void acumulaCreditos(TipoAtividadeRegistrado tipo, int creditos) {
+		if (tipo.getIndice() >= this.creditosPorTipo.length) {
+			this.creditosPorTipo = Arrays.copyOf(this.creditosPorTipo, this.registroTipos.quantidade());
 		}
-		
-		return creditos;
+		this.creditosPorTipo[tipo.getIndice()] += creditos;
+		this.creditosTotais += creditos;
 	}
 	
-	private Map<TipoAtividadeComplementar, Integer> mapaCreditos() {
-		Map<TipoAtividadeComplementar, Integer> mapa = new HashMap<>();
-		for (TipoAtividadeComplementar tipo : TipoAtividadeComplementar.values()) {
-			mapa.put(tipo, calculaCreditos(tipo.getTipo()));
+	private void acumulaCreditos(int[] acrescimos) {
+		if (acrescimos.length > this.creditosPorTipo.length) {
+			this.creditosPorTipo = Arrays.copyOf(this.creditosPorTipo, acrescimos.length);
+		}
+		for (int i = 0; i < acrescimos.length; i++) {
+			this.creditosPorTipo[i] += acrescimos[i];
+			this.creditosTotais += acrescimos[i];
 		}
-		return mapa;
 	}
 	
 	private void salvaRelatorio(Relatorio relatorio) {
@@ -0,0 +1,50 @@
+package entities;
+
+/**
+ * Representação de um lançamento no livro de bonificações: os pontos que o autor de uma dica recebeu
+ * por um dos seus elementos. O lançamento guarda apenas o identificador da dica e a posição do elemento,
+ * e não o elemento, que continua guardado só na dica. Um lançamento nunca é alterado; correções são feitas
+ * com novos lançamentos, que podem ter pontos negativos.
+ */
+
+public class LancamentoBonificacao {
+
+	private final int idDica;
+	private final int posicao;
+	private final int pontos;
+
+	/**
+	 * Cria um novo lançamento.
+	 *
+	 * @param idDica o identificador da dica que contém o elemento
+	 * @param posicao a posição do elemento na dica
+	 * @param pontos a quantidade de pontos lançada
+	 */
+	public LancamentoBonificacao(int idDica, int posicao, int pontos) {
+		this.idDica = idDica;
+		this.posicao = posicao;
+		this.pontos = pontos;
+	}
+
+	public int getIdDica() {
+		return this.idDica;
+	}
+
+	public int getPosicao() {
+		return this.posicao;
+	}
+
+	public int getPontos() {
+		return this.pontos;
+	}
+
+	/**
+	 * Apresentação textual do lançamento, com a dica, a posição do elemento e os pontos.
+	 *
+	 * @return a String de apresentação do lançamento
+	 */
+	@Override
+	public String toString() {
+		return "Dica: " + this.idDica + ", elemento: " + this.posicao + ", pontos: " + this.pontos;
+	}
+}
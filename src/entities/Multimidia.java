@@ -34,6 +34,18 @@ public class Multimidia implements Elemento {
 		this.tempo = tempo;
 	}
 	
+	String getLink() {
+		return this.link;
+	}
+	
+	String getCabecalho() {
+		return this.cabecalho;
+	}
+	
+	int getTempo() {
+		return this.tempo;
+	}
+	
 	/**
      * Calcula e retorna o valor da bonificação com base no tempo da multimídia.
      * A bonificação é calculada como 5 pontos por minuto.
@@ -55,6 +67,16 @@ public class Multimidia implements Elemento {
 		return toString() + " (" + this.tempo + " segundos)";
 	}
 	
+	/**
+     * Retorna o cabeçalho da multimídia, usado na busca textual de dicas.
+     *
+     * @return o texto pesquisável do elemento
+     */
+	@Override
+	public String conteudoPesquisavel() {
+		return this.cabecalho;
+	}
+	
 	/**
      * Retorna uma representação em String da multimídia, incluindo o link e cabeçalho.
      *
@@ -41,6 +41,26 @@ public class Referencia implements Elemento {
 		this.importancia = importancia;
 	}
 	
+	String getTitulo() {
+		return this.titulo;
+	}
+	
+	String getFonte() {
+		return this.fonte;
+	}
+	
+	int getAno() {
+		return this.ano;
+	}
+	
+	boolean isConferida() {
+		return this.conferida;
+	}
+	
+	int getImportancia() {
+		return this.importancia;
+	}
+	
 	/**
      * Calcula e retorna o valor da bonificação com base na verificação da referência.
      * A bonificação é calculada como 15 pontos se a referência foi conferida.
@@ -62,6 +82,16 @@ public class Referencia implements Elemento {
 		return toString() + " Importância: " + this.importancia;
 	}
 	
+	/**
+     * Retorna o título e a fonte da referência, usados na busca textual de dicas.
+     *
+     * @return o texto pesquisável do elemento
+     */
+	@Override
+	public String conteudoPesquisavel() {
+		return this.titulo + " " + this.fonte;
+	}
+	
 	/**
      * Retorna uma representação em String da referência, incluindo o título, fonte e ano.
      *
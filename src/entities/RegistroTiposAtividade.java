@@ -0,0 +1,139 @@
+package entities;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import enums.TipoAtividadeComplementar;
+import interfaces.FabricaAtividade;
+import validators.ValidadorAtividade;
+
+/**
+ * Registro dos tipos de atividade complementar que os estudantes podem cadastrar.
+ *
+ * Cada tipo é encontrado pelo nome, sem diferença entre maiúsculas e minúsculas, numa tabela de espalhamento,
+ * e sabe criar as suas atividades. O registro começa com os quatro tipos de {@link TipoAtividadeComplementar};
+ * outros tipos podem ser registrados durante a inicialização do sistema, informando uma fábrica ou apenas
+ * a regra de créditos do tipo.
+ */
+
+public class RegistroTiposAtividade {
+
+	private static final RegistroTiposAtividade PADRAO = new RegistroTiposAtividade();
+
+	private Map<String, TipoAtividadeRegistrado> tiposPorChave;
+	private volatile TipoAtividadeRegistrado[] tipos;
+
+	/**
+	 * Cria um registro com os tipos de {@link TipoAtividadeComplementar}.
+	 */
+	public RegistroTiposAtividade() {
+		this.tiposPorChave = new ConcurrentHashMap<>();
+		this.tipos = new TipoAtividadeRegistrado[0];
+		registra(TipoAtividadeComplementar.PESQUISAEXTENSAO, PesquisaExtensao::new);
+		registra(TipoAtividadeComplementar.MONITORIA, Monitoria::new);
+		registra(TipoAtividadeComplementar.ESTAGIO, Estagio::new);
+		registra(TipoAtividadeComplementar.REPRESENTACAOESTUDANTIL, RepresentacaoEstudantil::new);
+	}
+
+	/**
+	 * Retorna o registro usado pelos estudantes do sistema.
+	 *
+	 * @return o registro padrão
+	 */
+	public static RegistroTiposAtividade padrao() {
+		return PADRAO;
+	}
+
+	/**
+	 * Registra um tipo de atividade cujas atividades são criadas pela fábrica informada.
+	 *
+	 * @param tipo o nome do tipo
+	 * @param creditosMaximos o máximo de créditos que o tipo concede
+	 * @param fabrica a fábrica das atividades do tipo
+	 * @return o tipo registrado
+	 * @throws NullPointerException se tipo ou fabrica forem nulos
+	 * @throws IllegalArgumentException se tipo for vazio ou já estiver registrado, ou se creditosMaximos não for positivo
+	 */
+	public synchronized TipoAtividadeRegistrado registra(String tipo, int creditosMaximos, FabricaAtividade fabrica) {
+		ValidadorAtividade.validaTipo(tipo);
+		ValidadorAtividade.validaCreditosMaximos(creditosMaximos);
+		ValidadorAtividade.validaFabrica(fabrica);
+		String chave = normaliza(tipo);
+		if (this.tiposPorChave.containsKey(chave)) {
+			throw new IllegalArgumentException("Tipo de atividade já registrado");
+		}
+
+		TipoAtividadeRegistrado registrado = new TipoAtividadeRegistrado(tipo, this.tipos.length, creditosMaximos, fabrica);
+		TipoAtividadeRegistrado[] novosTipos = Arrays.copyOf(this.tipos, this.tipos.length + 1);
+		novosTipos[registrado.getIndice()] = registrado;
+		this.tiposPorChave.put(chave, registrado);
+		this.tipos = novosTipos;
+		return registrado;
+	}
+
+	/**
+	 * Registra um tipo de atividade a partir da sua regra de créditos. As atividades do tipo são
+	 * {@link AtividadeRegistrada}s, que exigem uma especificidade e concedem os créditos da regra.
+	 *
+	 * @param tipo o nome do tipo
+	 * @param creditosPorUnidade os créditos concedidos por unidade de tempo
+	 * @param creditosMaximos o máximo de créditos que o tipo concede
+	 * @param unidadeMinima a unidade de tempo mínima de uma atividade do tipo
+	 * @return o tipo registrado
+	 * @throws NullPointerException se tipo for nulo
+	 * @throws IllegalArgumentException se tipo for vazio ou já estiver registrado, se creditosPorUnidade
+	 *         não for um número positivo, ou se creditosMaximos ou unidadeMinima não forem positivos
+	 */
+	public TipoAtividadeRegistrado registra(String tipo, double creditosPorUnidade, int creditosMaximos, int unidadeMinima) {
+		ValidadorAtividade.validaCreditosPorUnidade(creditosPorUnidade);
+		ValidadorAtividade.validaUnidadeMinima(unidadeMinima);
+		return registra(tipo, creditosMaximos, (descricao, linkDocumentacao, unidadeAcumulada, especificidade) ->
+				new AtividadeRegistrada(tipo, creditosPorUnidade, creditosMaximos, unidadeMinima,
+						descricao, linkDocumentacao, unidadeAcumulada, especificidade));
+	}
+
+	/**
+	 * Busca um tipo de atividade pelo nome, sem diferença entre maiúsculas e minúsculas.
+	 *
+	 * @param tipo o nome do tipo
+	 * @return o tipo registrado
+	 * @throws IllegalArgumentException se nenhum tipo tiver o nome informado
+	 */
+	public TipoAtividadeRegistrado busca(String tipo) {
+		TipoAtividadeRegistrado registrado = (tipo == null) ? null : this.tiposPorChave.get(normaliza(tipo));
+		if (registrado == null) {
+			throw new IllegalArgumentException("Tipo inválido para Atividades Complementares");
+		}
+		return registrado;
+	}
+
+	/**
+	 * Retorna os tipos registrados, na ordem em que foram registrados.
+	 *
+	 * @return a lista de tipos
+	 */
+	public List<TipoAtividadeRegistrado> tipos() {
+		return new ArrayList<>(Arrays.asList(this.tipos));
+	}
+
+	/**
+	 * Retorna a quantidade de tipos registrados.
+	 *
+	 * @return a quantidade de tipos
+	 */
+	public int quantidade() {
+		return this.tipos.length;
+	}
+
+	private void registra(TipoAtividadeComplementar tipo, FabricaAtividade fabrica) {
+		registra(tipo.getTipo(), tipo.getCreditosMaximos(), fabrica);
+	}
+
+	private static String normaliza(String tipo) {
+		return tipo.toLowerCase(Locale.ROOT);
+	}
+}
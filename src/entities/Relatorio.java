@@ -2,6 +2,8 @@ package entities;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import enums.TipoAtividadeComplementar;
@@ -12,7 +14,7 @@ public class Relatorio {
 
 	private Usuario estudante;
 	private LocalDate data;
-	private Map<TipoAtividadeComplementar, Integer> sumarizacaoDeCreditos;
+	private Map<String, Integer> sumarizacaoDeCreditos;
 	
 	public Relatorio(Usuario estudante, Map<TipoAtividadeComplementar, Integer> sumarizacao) {
 		ValidadorUsuario.validaUsuario(estudante);
@@ -20,7 +22,34 @@ public class Relatorio {
 		
 		this.estudante = estudante;
 		this.data = LocalDate.now();
-		this.sumarizacaoDeCreditos = sumarizacao;
+		this.sumarizacaoDeCreditos = new LinkedHashMap<>();
+		for (Map.Entry<TipoAtividadeComplementar, Integer> creditos : sumarizacao.entrySet()) {
+			this.sumarizacaoDeCreditos.put(creditos.getKey().getTipo(), creditos.getValue());
+		}
+	}
+	
+	/**
+	 * Cria um relatório com os créditos de todos os tipos de atividade registrados,
+	 * inclusive os registrados em tempo de execução.
+	 * 
+	 * @param estudante o estudante do relatório
+	 * @param tipos os tipos registrados, na ordem em que aparecem no relatório
+	 * @param creditosPorTipo os créditos do estudante, indexados pelo índice de cada tipo no registro;
+	 *        tipos com índice além do vetor não têm créditos
+	 * @throws NullPointerException se estudante, tipos ou creditosPorTipo forem nulos
+	 * @throws IllegalArgumentException se algum tipo de Atividade Complementar não estiver em tipos
+	 */
+	public Relatorio(Usuario estudante, List<TipoAtividadeRegistrado> tipos, int[] creditosPorTipo) {
+		ValidadorUsuario.validaUsuario(estudante);
+		ValidadorRelatorio.validaTiposRegistrados(tipos, creditosPorTipo);
+		
+		this.estudante = estudante;
+		this.data = LocalDate.now();
+		this.sumarizacaoDeCreditos = new LinkedHashMap<>();
+		for (TipoAtividadeRegistrado tipo : tipos) {
+			int indice = tipo.getIndice();
+			this.sumarizacaoDeCreditos.put(tipo.getTipo(), (indice < creditosPorTipo.length) ? creditosPorTipo[indice] : 0);
+		}
 	}
 	
 	public String data() {
@@ -33,14 +62,18 @@ public class Relatorio {
 	}
 	
 	public int creditoPorTipoAtividade(TipoAtividadeComplementar tipo) {
-		return this.sumarizacaoDeCreditos.get(tipo);
+		return creditoPorTipoAtividade(tipo.getTipo());
+	}
+	
+	public int creditoPorTipoAtividade(String tipo) {
+		return this.sumarizacaoDeCreditos.getOrDefault(tipo, 0);
 	}
 	
 	@Override
 	public String toString() {
 		String apresentacao = apresentacaoDoEstudante() + "\nCréditos por atividades:";
-		for (TipoAtividadeComplementar key : this.sumarizacaoDeCreditos.keySet()) {
-			apresentacao += "\n" + key.getTipo() + ": " + this.sumarizacaoDeCreditos.get(key);
+		for (String key : this.sumarizacaoDeCreditos.keySet()) {
+			apresentacao += "\n" + key + ": " + this.sumarizacaoDeCreditos.get(key);
 		}
 		apresentacao += "\nCréditos totais: " + creditosTotais();
 		
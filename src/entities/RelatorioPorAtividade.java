@@ -1,23 +1,38 @@
 package entities;
 
+import java.util.List;
 import java.util.Map;
 
 import enums.TipoAtividadeComplementar;
 
 public class RelatorioPorAtividade extends Relatorio {
 
-	private TipoAtividadeComplementar tipoEspecifico;
+	private String tipoEspecifico;
 
 	public RelatorioPorAtividade(Usuario estudante, Map<TipoAtividadeComplementar, Integer> sumarizacao,
 			TipoAtividadeComplementar tipoEspecifico) {
 		super(estudante, sumarizacao);
-		this.tipoEspecifico = tipoEspecifico;
+		this.tipoEspecifico = tipoEspecifico.getTipo();
+	}
+	
+	/**
+	 * Cria um relatório de um tipo registrado, inclusive dos registrados em tempo de execução.
+	 * 
+	 * @param estudante o estudante do relatório
+	 * @param tipos os tipos registrados
+	 * @param creditosPorTipo os créditos do estudante, indexados pelo índice de cada tipo no registro
+	 * @param tipoEspecifico o tipo do relatório
+	 */
+	public RelatorioPorAtividade(Usuario estudante, List<TipoAtividadeRegistrado> tipos, int[] creditosPorTipo,
+			TipoAtividadeRegistrado tipoEspecifico) {
+		super(estudante, tipos, creditosPorTipo);
+		this.tipoEspecifico = tipoEspecifico.getTipo();
 	}
 	
 	@Override
 	public String toString() {
 		String apresentacao = super.apresentacaoDoEstudante() + "\nCréditos por atividade:";
-		apresentacao += "\n" + this.tipoEspecifico.getTipo() + ": " + super.creditoPorTipoAtividade(this.tipoEspecifico);
+		apresentacao += "\n" + this.tipoEspecifico + ": " + super.creditoPorTipoAtividade(this.tipoEspecifico);
 		return apresentacao;
 	}
 }
@@ -0,0 +1,81 @@
+package entities;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Representação do resultado de uma importação em lote.
+ * Guarda quantos registros foram importados e uma mensagem de erro para cada registro rejeitado,
+ * identificado pelo número da linha de origem. Os erros são apresentados em ordem de linha,
+ * qualquer que seja a ordem em que foram registrados.
+ */
+
+public class ResultadoImportacao {
+
+	private int importados;
+	private List<ErroLinha> erros;
+	
+	/**
+	 * Cria um resultado vazio.
+	 */
+	public ResultadoImportacao() {
+		this.importados = 0;
+		this.erros = new ArrayList<>();
+	}
+	
+	/**
+	 * Registra um registro importado com sucesso.
+	 */
+	public void registraImportado() {
+		this.importados++;
+	}
+	
+	/**
+	 * Registra um registro rejeitado.
+	 * 
+	 * @param linha o número da linha do registro rejeitado
+	 * @param mensagem o motivo da rejeição
+	 */
+	public void registraErro(int linha, String mensagem) {
+		this.erros.add(new ErroLinha(linha, mensagem));
+	}
+	
+	public int getImportados() {
+		return this.importados;
+	}
+	
+	public String[] getErros() {
+		this.erros.sort(Comparator.comparingInt(erro -> erro.linha));
+		return this.erros.stream().map(ErroLinha::toString).toArray(String[]::new);
+	}
+	
+	/**
+	 * Apresentação textual do resultado, com a quantidade de registros importados e os erros encontrados.
+	 * 
+	 * @return uma String com o resumo da importação
+	 */
+	@Override
+	public String toString() {
+		String apresentacao = "Importados: " + this.importados + ", rejeitados: " + this.erros.size();
+		if (this.erros.isEmpty()) {
+			return apresentacao;
+		}
+		return apresentacao + "\n" + String.join("\n", getErros());
+	}
+	
+	private static class ErroLinha {
+		private final int linha;
+		private final String mensagem;
+		
+		ErroLinha(int linha, String mensagem) {
+			this.linha = linha;
+			this.mensagem = mensagem;
+		}
+		
+		@Override
+		public String toString() {
+			return "Linha " + this.linha + ": " + this.mensagem;
+		}
+	}
+}
@@ -0,0 +1,44 @@
+package entities;
+
+import java.util.Objects;
+
+/**
+ * Representação de uma sessão aberta por um usuário no sistema.
+ * A sessão é um identificador opaco: quem a recebe não tem acesso ao usuário,
+ * apenas a repassa para as operações que exigem autenticação.
+ */
+
+public class Sessao {
+
+	private final String token;
+	
+	/**
+	 * Cria uma nova sessão identificada pelo token informado.
+	 * 
+	 * @param token o token que identifica a sessão
+	 */
+	public Sessao(String token) {
+		this.token = token;
+	}
+	
+	public String getToken() {
+		return this.token;
+	}
+	
+	@Override
+	public int hashCode() {
+		return Objects.hash(token);
+	}
+	
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof Sessao)) {
+			return false;
+		}
+		Sessao other = (Sessao) obj;
+		return Objects.equals(token, other.token);
+	}
+}
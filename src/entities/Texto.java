@@ -1,17 +1,27 @@
 package entities;
 
+import java.nio.charset.StandardCharsets;
+
 import interfaces.Elemento;
+import structures.ArenaTextos;
 import validators.ValidadorDica;
 
 /**
  * Representa um elemento de texto, que possui um texto descritivo.
  * 
+ * O texto em si fica guardado fora do heap, numa área de textos; o elemento guarda apenas a área,
+ * o endereço do texto e a quantidade de caracteres, e só o lê de volta quando a sua representação
+ * é pedida. Os textos de uma dica ficam na área da própria dica, liberada junto com ela; um texto
+ * criado fora de uma dica tem uma área só sua (veja {@link ArenaTextos}).
+ * 
  * @author Alana Vanessa Pimentel Toldo de Andrade, matrícula 123210882
  */
 
 public class Texto implements Elemento {
 
-	private String texto;
+	private final ArenaTextos area;
+	private final long endereco;
+	private final int caracteres;
 	
 	/**
      * Cria um novo elemento de Texto.
@@ -21,8 +31,47 @@ public class Texto implements Elemento {
      * @throws IllegalArgumentException se texto for vazio
      */
 	public Texto(String texto) {
+		this(new ArenaTextos(), texto);
+	}
+	
+	/**
+	 * Cria um novo elemento de Texto, gravado na área de textos informada.
+	 * 
+	 * @param area a área onde o texto é gravado
+	 * @param texto o texto do elemento
+	 * @throws NullPointerException se texto for nulo
+	 * @throws IllegalArgumentException se texto for vazio
+	 */
+	Texto(ArenaTextos area, String texto) {
 		ValidadorDica.validaTexto(texto);
-		this.texto = texto;
+		this.area = area;
+		this.endereco = area.grava(texto.getBytes(StandardCharsets.UTF_8));
+		this.caracteres = texto.length();
+	}
+	
+	/**
+	 * Recria a visão de um texto já gravado, a partir da sua área, do seu endereço e da sua quantidade de caracteres.
+	 * 
+	 * @param area a área onde o texto foi gravado
+	 * @param endereco o endereço do texto na área de textos
+	 * @param caracteres a quantidade de caracteres do texto
+	 */
+	Texto(ArenaTextos area, long endereco, int caracteres) {
+		this.area = area;
+		this.endereco = endereco;
+		this.caracteres = caracteres;
+	}
+	
+	ArenaTextos getArea() {
+		return this.area;
+	}
+	
+	long getEndereco() {
+		return this.endereco;
+	}
+	
+	int getCaracteres() {
+		return this.caracteres;
 	}
 	
 	/**
@@ -33,11 +82,11 @@ public class Texto implements Elemento {
      */
 	@Override
 	public int valorBonificacao() {
-		if (this.texto.length() < 100) {
+		if (this.caracteres < 100) {
 			return 0;
 		}
 		
-		return this.texto.length() / 10;
+		return this.caracteres / 10;
 	}
 	
 	/**
@@ -47,7 +96,17 @@ public class Texto implements Elemento {
      */
 	@Override
 	public String exibeDetalhes() {
-		return toString() + " (" + this.texto.length() + " caracteres)";
+		return toString() + " (" + this.caracteres + " caracteres)";
+	}
+	
+	/**
+     * Retorna o texto do elemento, usado na busca textual de dicas.
+     *
+     * @return o texto pesquisável do elemento
+     */
+	@Override
+	public String conteudoPesquisavel() {
+		return toString();
 	}
 	
 	/**
@@ -57,6 +116,6 @@ public class Texto implements Elemento {
      */
 	@Override
 	public String toString() {
-		return this.texto;
+		return this.area.le(this.endereco);
 	}
 }
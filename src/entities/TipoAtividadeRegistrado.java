@@ -0,0 +1,55 @@
+package entities;
+
+import interfaces.Atividade;
+import interfaces.FabricaAtividade;
+
+/**
+ * Representação de um tipo de atividade complementar registrado: o nome do tipo, a posição
+ * em que foi registrado, o máximo de créditos que o tipo concede e a fábrica das suas atividades.
+ */
+
+public class TipoAtividadeRegistrado {
+
+	private final String tipo;
+	private final int indice;
+	private final int creditosMaximos;
+	private final FabricaAtividade fabrica;
+
+	TipoAtividadeRegistrado(String tipo, int indice, int creditosMaximos, FabricaAtividade fabrica) {
+		this.tipo = tipo;
+		this.indice = indice;
+		this.creditosMaximos = creditosMaximos;
+		this.fabrica = fabrica;
+	}
+
+	public String getTipo() {
+		return this.tipo;
+	}
+
+	/**
+	 * Retorna a posição do tipo no registro. Os tipos são numerados a partir de 0,
+	 * na ordem em que foram registrados.
+	 *
+	 * @return a posição do tipo
+	 */
+	public int getIndice() {
+		return this.indice;
+	}
+
+	public int getCreditosMaximos() {
+		return this.creditosMaximos;
+	}
+
+	/**
+	 * Cria uma atividade deste tipo.
+	 *
+	 * @param descricao a descrição da atividade
+	 * @param linkDocumentacao o link da documentação comprobatória
+	 * @param unidadeAcumulada a unidade de tempo da atividade
+	 * @param especificidade o campo específico da atividade
+	 * @return a atividade criada
+	 */
+	public Atividade cria(String descricao, String linkDocumentacao, int unidadeAcumulada, String especificidade) {
+		return this.fabrica.cria(descricao, linkDocumentacao, unidadeAcumulada, especificidade);
+	}
+}
@@ -1,7 +1,13 @@
 package entities;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 
+import interfaces.Atividade;
+import interfaces.ObservadorBonificacao;
+import structures.ArmazemEstudantes;
 import validators.ValidadorUsuario;
 
 /**
@@ -11,17 +17,28 @@ import validators.ValidadorUsuario;
  * 
  * Um usuário é identificado unicamente pelo CPF.
  * 
+ * Um usuário também pode ser uma visão de um estudante guardado num armazenamento compacto
+ * (veja {@link #visao(ArmazemEstudantes, int)}), que não guarda os dados do estudante: lê e altera
+ * as colunas do armazenamento. Os métodos de acesso aos dados que as visões substituem ficam
+ * visíveis apenas no pacote.
+ * 
  * @author Alana Vanessa Pimentel Toldo de Andrade, matrícula 123210882
  */
 
 public class Usuario implements Comparable<Usuario> {
 	
+	private static final ObservadorBonificacao[] SEM_OBSERVADORES = new ObservadorBonificacao[0];
+	private static final GerenciadorAtividadesComplementares SEM_ATIVIDADES = new GerenciadorAtividadesComplementares(null);
+	private static final AtomicIntegerFieldUpdater<Usuario> BONIFICACAO =
+			AtomicIntegerFieldUpdater.newUpdater(Usuario.class, "bonificacao");
+	
 	private String nome;
 	private String cpf;
 	private String senha;
 	private String matricula;
-	private int bonificacao;
-	private GerenciadorAtividadesComplementares gerenciadorAtividades;;
+	private volatile int bonificacao;
+	private volatile GerenciadorAtividadesComplementares gerenciadorAtividades;
+	private volatile ObservadorBonificacao[] observadoresBonificacao;
 	
 	/**
 	 * Cria um novo usuário, depois de validar todos os campos.
@@ -34,17 +51,78 @@ public class Usuario implements Comparable<Usuario> {
      * @throws IllegalArgumentException se nome, cpf, senha ou matricula forem inválidos
 	 */
 	public Usuario(String nome, String cpf, String senha, String matricula) {
+		this(nome, cpf, senha, matricula, false);
+	}
+	
+	/**
+	 * Cria um novo usuário cuja senha já foi protegida pelo verificador de senhas, sem derivá-la de novo.
+	 * Serve para importar estudantes de outro sistema que já guardava as senhas nesse formato.
+	 * 
+	 * @param nome o nome do usuário
+	 * @param cpf o CPF do usuário
+	 * @param senhaProtegida a senha, já na forma protegida
+	 * @param matricula a matrícula do usuário
+	 * @return o usuário criado
+	 * @throws NullPointerException se nome, cpf, senhaProtegida ou matricula forem nulos
+     * @throws IllegalArgumentException se nome, cpf ou matricula forem inválidos, ou se senhaProtegida
+     *         não estiver no formato do verificador de senhas
+	 */
+	public static Usuario comSenhaProtegida(String nome, String cpf, String senhaProtegida, String matricula) {
+		return new Usuario(nome, cpf, senhaProtegida, matricula, true);
+	}
+	
+	private Usuario(String nome, String cpf, String senha, String matricula, boolean senhaProtegida) {
 		ValidadorUsuario.validaNome(nome);
 		ValidadorUsuario.validaCpf(cpf);
-		ValidadorUsuario.validaSenha(senha);
+		if (senhaProtegida) {
+			ValidadorUsuario.validaSenhaProtegida(senha);
+		} else {
+			ValidadorUsuario.validaSenha(senha);
+		}
 		ValidadorUsuario.validaMatricula(matricula);
 		
 		this.nome = nome;
 		this.cpf = cpf;
-		this.senha = senha;
+		this.senha = senhaProtegida ? senha : ValidadorUsuario.protegeSenha(senha);
 		this.matricula = matricula;
-		this.bonificacao = 0;
-		this.gerenciadorAtividades = new GerenciadorAtividadesComplementares(this);
+		this.observadoresBonificacao = SEM_OBSERVADORES;
+	}
+	
+	/**
+	 * Cria um usuário sem dados próprios, para as visões de estudantes armazenados.
+	 */
+	Usuario() {
+		this.observadoresBonificacao = SEM_OBSERVADORES;
+	}
+	
+	/**
+	 * Cria uma visão do estudante guardado na posição informada de um armazenamento compacto.
+	 * A visão lê e altera as colunas do armazenamento e pode ser descartada e recriada a qualquer momento:
+	 * duas visões do mesmo estudante são iguais e veem os mesmos dados. Os observadores de bonificação,
+	 * porém, são de cada visão, e só são avisados das bonificações recebidas pela própria visão.
+	 * 
+	 * @param armazem o armazenamento do estudante
+	 * @param indice a posição do estudante no armazenamento
+	 * @return a visão do estudante
+	 */
+	public static Usuario visao(ArmazemEstudantes<GerenciadorAtividadesComplementares> armazem, int indice) {
+		return new EstudanteArmazenado(armazem, indice);
+	}
+	
+	/**
+	 * Guarda os dados do usuário num armazenamento compacto: nome, CPF, senha protegida, matrícula,
+	 * bonificação e, se houver, o gerenciador de atividades.
+	 * 
+	 * @param armazem o armazenamento
+	 * @return a posição do usuário no armazenamento, ou -1 se já houver estudante com o mesmo CPF
+	 */
+	public int guardaEm(ArmazemEstudantes<GerenciadorAtividadesComplementares> armazem) {
+		int indice = armazem.adiciona(getNome(), getCpf(), senhaProtegida(), matricula(), getBonificacao());
+		GerenciadorAtividadesComplementares gerenciador = gerenciadorExistente();
+		if (indice >= 0 && gerenciador != null) {
+			armazem.defineGerenciadorSeAusente(indice, gerenciador);
+		}
+		return indice;
 	}
 	
 	public String getNome() {
@@ -69,7 +147,7 @@ public class Usuario implements Comparable<Usuario> {
 	public boolean alteraSenha(String senhaAntiga, String senhaNova) {
 		if (validaSenha(senhaAntiga)) {
 			ValidadorUsuario.validaSenha(senhaNova);
-			this.senha = senhaNova;
+			guardaSenhaProtegida(ValidadorUsuario.protegeSenha(senhaNova));
 			return true;
 		}
 		
@@ -78,12 +156,13 @@ public class Usuario implements Comparable<Usuario> {
 	
 	/**
 	 * Valida se a senha fornecida é a mesma que a atual.
+	 * A senha atual é guardada apenas na forma protegida, e a conferência é feita pelo verificador de senhas.
 	 * 
 	 * @param senha a senha a ser validada
 	 * @return true se a senha for igual à atual, false caso contrário
 	 */
 	public boolean validaSenha(String senha) {
-		return this.senha.equals(senha);
+		return ValidadorUsuario.verificaSenha(senha, senhaProtegida());
 	}
 	
 	/**
@@ -92,7 +171,24 @@ public class Usuario implements Comparable<Usuario> {
 	 * @param bonificacao o valor da bonificação a ser adicionado
 	 */
 	public void recebeBonificacao(int bonificacao) {
-		this.bonificacao += bonificacao;
+		if (bonificacao == 0) {
+			return;
+		}
+		int bonificacaoAnterior = somaBonificacao(bonificacao);
+		for (ObservadorBonificacao observador : this.observadoresBonificacao) {
+			observador.bonificacaoAlterada(this, bonificacaoAnterior);
+		}
+	}
+	
+	/**
+	 * Registra um observador que será avisado a cada alteração da bonificação.
+	 * 
+	 * @param observador o observador a ser registrado
+	 */
+	public synchronized void registraObservadorBonificacao(ObservadorBonificacao observador) {
+		ObservadorBonificacao[] observadores = Arrays.copyOf(this.observadoresBonificacao, this.observadoresBonificacao.length + 1);
+		observadores[observadores.length - 1] = observador;
+		this.observadoresBonificacao = observadores;
 	}
 	
 	/**
@@ -106,7 +202,19 @@ public class Usuario implements Comparable<Usuario> {
 	 * @return o código da atividade criada
 	 */
 	public String criaAtividadeComplementar(String tipoAtividade, String descricao, String linkDocumentacao, int unidadeAcumulada, String especificidade) {
-		return this.gerenciadorAtividades.criaAtividadeComplementar(tipoAtividade, descricao, linkDocumentacao, unidadeAcumulada, especificidade);
+		return gerenciadorAtividades().criaAtividadeComplementar(tipoAtividade, descricao, linkDocumentacao, unidadeAcumulada, especificidade);
+	}
+	
+	/**
+	 * Adiciona de uma só vez atividades complementares já criadas e validadas,
+	 * com uma única atualização dos créditos do usuário.
+	 * 
+	 * @param tipos o tipo de cada atividade
+	 * @param atividades as atividades, na mesma ordem dos tipos
+	 * @return os códigos das atividades adicionadas, na mesma ordem
+	 */
+	public String[] adicionaAtividades(List<TipoAtividadeRegistrado> tipos, List<Atividade> atividades) {
+		return gerenciadorAtividades().adicionaAtividades(tipos, atividades);
 	}
 	
 	/**
@@ -117,7 +225,7 @@ public class Usuario implements Comparable<Usuario> {
 	 * @return true se a alteração foi bem-sucedida, false caso contrário
 	 */
 	public boolean alteraDescricaoAtividade(String codigoAtividade, String descricao) {
-		return this.gerenciadorAtividades.alteraDescricaoAtividade(codigoAtividade, descricao);
+		return gerenciadorAtividades().alteraDescricaoAtividade(codigoAtividade, descricao);
 	}
 	
 	/**
@@ -128,7 +236,18 @@ public class Usuario implements Comparable<Usuario> {
 	 * @return true se a alteração foi bem-sucedida, false caso contrário
 	 */
 	public boolean alteraLinkAtividade(String codigoAtividade, String linkDocumentacao) {
-		return this.gerenciadorAtividades.alteraLinkAtividade(codigoAtividade, linkDocumentacao);
+		return gerenciadorAtividades().alteraLinkAtividade(codigoAtividade, linkDocumentacao);
+	}
+	
+	/**
+	 * Busca uma atividade complementar do usuário pelo código.
+	 * 
+	 * @param codigoAtividade o código da atividade
+	 * @return a atividade, ou null se o usuário não tiver atividade com esse código
+	 */
+	public Atividade buscaAtividade(String codigoAtividade) {
+		GerenciadorAtividadesComplementares gerenciador = gerenciadorExistente();
+		return (gerenciador == null) ? null : gerenciador.buscaAtividade(codigoAtividade);
 	}
 	
 	/**
@@ -138,7 +257,7 @@ public class Usuario implements Comparable<Usuario> {
 	 * @return O total de créditos acumulados para o tipo de atividade
 	 */
 	public int calculaCreditos(String tipoAtividade) {
-		return this.gerenciadorAtividades.calculaCreditos(tipoAtividade);
+		return gerenciadorParaLeitura().calculaCreditos(tipoAtividade);
 	}
 	
 	/**
@@ -147,7 +266,7 @@ public class Usuario implements Comparable<Usuario> {
 	 * @return uma String com cada tipo de atividade complementar e os respectivos créditos totais
 	 */
 	public String geraMapaCreditos() {
-		return this.gerenciadorAtividades.exibeMapaCreditos();
+		return gerenciadorParaLeitura().exibeMapaCreditos();
 	}
 	
 	/**
@@ -156,7 +275,7 @@ public class Usuario implements Comparable<Usuario> {
 	 * @return true se tiver atingido a meta, false caso contrário
 	 */
 	public boolean atingiuMeta() {
-		return this.gerenciadorAtividades.atingiuMeta();
+		return gerenciadorParaLeitura().atingiuMeta();
 	}
 	
 	/**
@@ -165,7 +284,7 @@ public class Usuario implements Comparable<Usuario> {
 	 * @return true se tiver atingido a meta, false caso contrário
 	 */
 	public boolean atingiuMeta(String tipoAtividade) {
-		return this.gerenciadorAtividades.atingiuMeta(tipoAtividade);
+		return gerenciadorParaLeitura().atingiuMeta(tipoAtividade);
 	}
 	
 	/**
@@ -176,7 +295,7 @@ public class Usuario implements Comparable<Usuario> {
 	 *         a meta de créditos não foi atingida
 	 */
 	public String relatorioFinal() {
-		return this.gerenciadorAtividades.relatorioFinal();
+		return gerenciadorAtividades().relatorioFinal();
 	}
 	
 	/**
@@ -189,7 +308,7 @@ public class Usuario implements Comparable<Usuario> {
 	 *         mensagem informando que a meta não foi atingida
 	 */
 	public String relatorioFinal(String tipoAtividade) {
-		return this.gerenciadorAtividades.relatorioFinal(tipoAtividade);
+		return gerenciadorAtividades().relatorioFinal(tipoAtividade);
 	}
 	
 	/**
@@ -200,7 +319,7 @@ public class Usuario implements Comparable<Usuario> {
 	 * @return uma String representando o relatório parcial gerado
 	 */
 	public String relatorioParcial(boolean salvar) {
-		return this.gerenciadorAtividades.relatorioParcial(salvar);
+		return gerenciadorAtividades().relatorioParcial(salvar);
 	}
 	
 	/**
@@ -213,7 +332,7 @@ public class Usuario implements Comparable<Usuario> {
 	 * @return uma String representando o relatório parcial gerado para o tipo de atividade
 	 */
 	public String relatorioParcial(String tipoAtividade, boolean salvar) {
-		return this.gerenciadorAtividades.relatorioParcial(tipoAtividade, salvar);
+		return gerenciadorAtividades().relatorioParcial(tipoAtividade, salvar);
 	}
 	
 	/**
@@ -223,7 +342,7 @@ public class Usuario implements Comparable<Usuario> {
 	 * @return uma String contendo todos os relatórios salvos no histórico
 	 */
 	public String listaHistorico() {
-		return this.gerenciadorAtividades.listaHistorico();
+		return gerenciadorParaLeitura().listaHistorico();
 	}
 
 	
@@ -234,7 +353,7 @@ public class Usuario implements Comparable<Usuario> {
 	 * @return true se o relatório foi excluído com sucesso, false caso contrário
 	 */
 	public boolean excluirRelatorio(String data) {
-		return this.gerenciadorAtividades.excluiRelatorio(data);
+		return gerenciadorParaLeitura().excluiRelatorio(data);
 	}
 
 	/**
@@ -243,7 +362,7 @@ public class Usuario implements Comparable<Usuario> {
 	 * @return uma String com a apresentação desejada em relatórios com nome, CPF e matrícula
 	 */
 	public String apresentacaoEmRelatorio() {
-		return "Nome: " + this.nome + ", CPF: " + this.cpf + " - matrícula " + this.matricula;
+		return "Nome: " + getNome() + ", CPF: " + getCpf() + " - matrícula " + matricula();
 	}
 	
 	/**
@@ -253,7 +372,7 @@ public class Usuario implements Comparable<Usuario> {
 	 */
 	public String exibeBonificacao() {
 		return this.toString() +
-				"\nBonificação atual: " + this.bonificacao;
+				"\nBonificação atual: " + getBonificacao();
 	}
 	
 	/**
@@ -263,7 +382,7 @@ public class Usuario implements Comparable<Usuario> {
 	 */
 	@Override
 	public String toString() {
-		return "Nome: " + this.nome + ", matrícula: " + this.matricula;
+		return "Nome: " + getNome() + ", matrícula: " + matricula();
 	}
 	
 	/**
@@ -275,7 +394,7 @@ public class Usuario implements Comparable<Usuario> {
 	 */
 	@Override
 	public int hashCode() {
-		return Objects.hash(cpf);
+		return Objects.hash(getCpf());
 	}
 
 	/**
@@ -298,7 +417,7 @@ public class Usuario implements Comparable<Usuario> {
 			return false;
 		}
 		Usuario other = (Usuario) obj;
-		return Objects.equals(cpf, other.cpf);
+		return Objects.equals(getCpf(), other.getCpf());
 	}
 
 	/**
@@ -312,6 +431,92 @@ public class Usuario implements Comparable<Usuario> {
 	 */
 	@Override
 	public int compareTo(Usuario obj) {
-		return this.nome.compareTo(obj.getNome());
+		return getNome().compareTo(obj.getNome());
+	}
+	
+	/**
+	 * Retorna a matrícula do usuário.
+	 * 
+	 * @return a matrícula
+	 */
+	String matricula() {
+		return this.matricula;
+	}
+	
+	/**
+	 * Retorna a senha do usuário, na forma protegida.
+	 * 
+	 * @return a senha protegida
+	 */
+	String senhaProtegida() {
+		return this.senha;
+	}
+	
+	/**
+	 * Troca a senha do usuário, já na forma protegida.
+	 * 
+	 * @param senhaProtegida a nova senha protegida
+	 */
+	void guardaSenhaProtegida(String senhaProtegida) {
+		this.senha = senhaProtegida;
+	}
+	
+	/**
+	 * Soma um valor à bonificação do usuário, de forma atômica.
+	 * 
+	 * @param bonificacao o valor a ser somado
+	 * @return a bonificação anterior
+	 */
+	int somaBonificacao(int bonificacao) {
+		return BONIFICACAO.getAndAdd(this, bonificacao);
+	}
+	
+	/**
+	 * Retorna o gerenciador de atividades do usuário, sem criá-lo.
+	 * 
+	 * @return o gerenciador, ou null se o usuário ainda não tiver um
+	 */
+	GerenciadorAtividadesComplementares gerenciadorExistente() {
+		return this.gerenciadorAtividades;
+	}
+	
+	/**
+	 * Define o gerenciador de atividades do usuário, se ele ainda não tiver um.
+	 * 
+	 * @param gerenciador o gerenciador a ser definido
+	 * @return o gerenciador do usuário: o informado, ou o que ele já tinha
+	 */
+	synchronized GerenciadorAtividadesComplementares defineGerenciadorSeAusente(GerenciadorAtividadesComplementares gerenciador) {
+		if (this.gerenciadorAtividades == null) {
+			this.gerenciadorAtividades = gerenciador;
+		}
+		return this.gerenciadorAtividades;
+	}
+	
+	/**
+	 * Retorna o gerenciador de atividades do usuário para uma operação que apenas o consulta.
+	 * Enquanto o usuário não tem gerenciador, devolve um gerenciador vazio compartilhado,
+	 * sem criar um só para responder que não há atividades nem relatórios.
+	 * 
+	 * @return o gerenciador do usuário, ou o gerenciador vazio se ainda não houver um
+	 */
+	private GerenciadorAtividadesComplementares gerenciadorParaLeitura() {
+		GerenciadorAtividadesComplementares gerenciador = gerenciadorExistente();
+		return (gerenciador == null) ? SEM_ATIVIDADES : gerenciador;
+	}
+	
+	/**
+	 * Retorna o gerenciador de atividades do usuário, criando-o no primeiro uso.
+	 * A maioria dos estudantes recém-cadastrados ainda não tem atividades nem relatórios,
+	 * e assim não paga pelo gerenciador enquanto não precisar dele.
+	 * 
+	 * @return o gerenciador de atividades complementares do usuário
+	 */
+	private GerenciadorAtividadesComplementares gerenciadorAtividades() {
+		GerenciadorAtividadesComplementares gerenciador = gerenciadorExistente();
+		if (gerenciador == null) {
+			gerenciador = defineGerenciadorSeAusente(new GerenciadorAtividadesComplementares(this));
+		}
+		return gerenciador;
 	}
 }
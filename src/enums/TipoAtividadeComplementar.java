@@ -1,5 +1,9 @@
 package enums;
 
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 import entities.Estagio;
 import entities.Monitoria;
 import entities.PesquisaExtensao;
@@ -20,6 +24,14 @@ public enum TipoAtividadeComplementar {
 	ESTAGIO(Estagio.class, "Estagio", 18),
 	REPRESENTACAOESTUDANTIL(RepresentacaoEstudantil.class, "RepresentacaoEstudantil", 2);
 	
+	private static final Map<String, TipoAtividadeComplementar> TIPOS_POR_CHAVE = new HashMap<>();
+	
+	static {
+		for (TipoAtividadeComplementar tipo : values()) {
+			TIPOS_POR_CHAVE.put(tipo.getTipo().toLowerCase(Locale.ROOT), tipo);
+		}
+	}
+	
 	private Class<? extends Atividade> classe;
 	private String tipo;
 	private int creditosMaximos;
@@ -82,10 +94,9 @@ public enum TipoAtividadeComplementar {
      * @throws IllegalArgumentException se a descrição não corresponder a nenhum tipo
      */
 	public static TipoAtividadeComplementar fromTipo(String tipoAtividade) {
-		for (TipoAtividadeComplementar tipo : TipoAtividadeComplementar.values()) {
-			if (tipo.getTipo().equalsIgnoreCase(tipoAtividade)) {
-				return tipo;
-			}
+		TipoAtividadeComplementar tipo = (tipoAtividade == null) ? null : TIPOS_POR_CHAVE.get(tipoAtividade.toLowerCase(Locale.ROOT));
+		if (tipo != null) {
+			return tipo;
 		}
 		throw new IllegalArgumentException("Tipo inválido para Atividades Complementares");
 	}
@@ -12,4 +12,11 @@ public interface Elemento {
 
 	public int valorBonificacao();
 	public String exibeDetalhes();
+	
+	/**
+	 * Retorna o conteúdo do elemento usado na busca textual de dicas.
+	 * 
+	 * @return o texto pesquisável do elemento
+	 */
+	public String conteudoPesquisavel();
 }
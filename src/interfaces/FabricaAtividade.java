@@ -0,0 +1,21 @@
+package interfaces;
+
+/**
+ * Interface que representa quem cria as atividades de um tipo de atividade complementar.
+ * As classes que implementam esta interface recebem os dados informados na criação da atividade
+ * e devolvem a atividade já validada.
+ */
+
+public interface FabricaAtividade {
+
+	/**
+     * Cria uma atividade.
+     *
+     * @param descricao a descrição da atividade
+     * @param linkDocumentacao o link da documentação comprobatória
+     * @param unidadeAcumulada a unidade de tempo da atividade
+     * @param especificidade o campo específico da atividade
+     * @return a atividade criada
+     */
+	public Atividade cria(String descricao, String linkDocumentacao, int unidadeAcumulada, String especificidade);
+}
@@ -0,0 +1,19 @@
+package interfaces;
+
+import entities.Usuario;
+
+/**
+ * Interface que representa quem precisa ser avisado quando a bonificação de um usuário muda.
+ * As classes que implementam esta interface recebem o usuário já atualizado e o valor anterior da bonificação.
+ */
+
+public interface ObservadorBonificacao {
+
+	/**
+     * Avisa que a bonificação do usuário foi alterada.
+     *
+     * @param usuario o usuário que teve a bonificação alterada
+     * @param bonificacaoAnterior o valor da bonificação antes da alteração
+     */
+	public void bonificacaoAlterada(Usuario usuario, int bonificacaoAnterior);
+}
@@ -0,0 +1,20 @@
+package interfaces;
+
+import entities.Dica;
+
+/**
+ * Interface que representa quem precisa ser avisado quando um elemento é adicionado a uma dica.
+ * As classes que implementam esta interface recebem a dica, a posição e o elemento recém-adicionado.
+ */
+
+public interface ObservadorElementos {
+
+	/**
+     * Avisa que um elemento foi adicionado à dica.
+     *
+     * @param dica a dica que recebeu o elemento
+     * @param posicao a posição do elemento na dica, na ordem de adição, a partir de 0
+     * @param elemento o elemento adicionado
+     */
+	public void elementoAdicionado(Dica dica, int posicao, Elemento elemento);
+}
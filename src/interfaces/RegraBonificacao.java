@@ -0,0 +1,18 @@
+package interfaces;
+
+/**
+ * Interface que representa uma regra de bonificação dos elementos de dicas.
+ * O livro de bonificações usa a regra para calcular os pontos de cada elemento, e reavalia com ela
+ * os elementos já registrados quando a regra muda.
+ */
+
+public interface RegraBonificacao {
+
+	/**
+     * Calcula os pontos que o elemento rende ao autor da dica.
+     *
+     * @param elemento o elemento
+     * @return os pontos do elemento
+     */
+	public int valorBonificacao(Elemento elemento);
+}
@@ -0,0 +1,36 @@
+package interfaces;
+
+/**
+ * Interface que representa uma forma de guardar e conferir senhas.
+ * As classes que implementam esta interface devem transformar a senha em uma representação protegida,
+ * que é a única guardada no usuário, e conferir uma senha informada contra essa representação.
+ */
+
+public interface VerificadorSenha {
+
+	/**
+     * Gera a representação protegida de uma senha.
+     *
+     * @param senha a senha em texto
+     * @return a representação protegida da senha
+     */
+	public String protege(String senha);
+	
+	/**
+     * Confere se uma senha corresponde à representação protegida guardada.
+     *
+     * @param senha a senha em texto informada
+     * @param senhaProtegida a representação protegida guardada
+     * @return true se a senha corresponder, false caso contrário
+     */
+	public boolean verifica(String senha, String senhaProtegida);
+	
+	/**
+     * Confere se um texto está no formato das representações protegidas geradas por este verificador,
+     * sem conferir nenhuma senha. Serve para recusar senhas protegidas malformadas antes de guardá-las.
+     *
+     * @param senhaProtegida a representação protegida a ser conferida
+     * @return true se o texto estiver no formato reconhecido, false caso contrário
+     */
+	public boolean reconhece(String senhaProtegida);
+}
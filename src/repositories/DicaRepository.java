@@ -1,37 +1,121 @@
 package repositories;
 
-import java.util.Iterator;
-import java.util.TreeSet;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
 import entities.Dica;
+import entities.LancamentoBonificacao;
+import entities.Usuario;
+import enums.TipoAtividadeComplementar;
+import interfaces.RegraBonificacao;
+import structures.ArvoreDeOrdem;
+import structures.IndiceCpf;
+import structures.IndiceInvertido;
 import validators.ValidadorDica;
 
 /**
  * Classe responsável por gerenciar e armazenar as dicas em um repositório.
  * Esta classe permite adicionar e listar dicas.
+ * 
+ * As dicas ficam ordenadas pelo autor e, entre as dicas de um mesmo autor, pela ordem de adição.
+ * A ordem é mantida numa árvore de ordem, que acessa a dica de uma posição em O(log n).
+ * Uma dica com o mesmo autor e o mesmo tema de outra já adicionada não é repetida.
+ * 
+ * Cada dica recebe, ao ser adicionada, um identificador que não muda com a adição de outras dicas,
+ * ao contrário da sua posição. A busca pelo identificador é feita numa tabela de espalhamento, em O(1).
+ * 
+ * As dicas também são indexadas por tema e por autor, em ordem de identificador, para que as
+ * listagens filtradas não precisem percorrer todas as dicas. O conteúdo dos elementos fica num
+ * índice invertido, atualizado a cada elemento adicionado, que responde à busca textual, e os pontos
+ * gerados por cada elemento são registrados num livro de bonificações, que bonifica os autores e pode
+ * reavaliar os elementos com outra regra de bonificação. Cada tema tem ainda um ranking das suas dicas
+ * por pontuação, atualizado a cada elemento adicionado e a cada reavaliação.
+ * 
+ * O repositório pode ser usado por várias threads: as adições de dicas tomam uma trava de escrita
+ * e as consultas uma trava de leitura. Os elementos adicionados às dicas chegam pelos observadores
+ * de cada dica, em qualquer thread, e atualizam apenas o índice textual, o ranking e o livro
+ * de bonificações, que têm as suas próprias travas.
  */
 
 public class DicaRepository {
 
-	private TreeSet<Dica> dicas;
+	private ArvoreDeOrdem<Entrada> dicas;
+	private Set<Dica> dicasAdicionadas;
+	private Map<Integer, Dica> dicasPorId;
+	private Map<TipoAtividadeComplementar, List<Entrada>> dicasPorTema;
+	private IndiceCpf<List<Entrada>> dicasPorAutor;
+	private IndiceInvertido indiceTextual;
+	private LivroBonificacoes livroBonificacoes;
+	private RankingDicas rankingDicas;
+	private int ultimoId;
+	private final ReadWriteLock trava;
 	
 	/**
      * Cria um novo repositório de dicas.
      */
 	public DicaRepository() {
-		this.dicas = new TreeSet<>();
+		this.dicas = new ArvoreDeOrdem<>(Comparator.comparing((Entrada e) -> e.dica.getAutor())
+				.thenComparingInt(e -> e.id));
+		this.dicasAdicionadas = new HashSet<>();
+		this.dicasPorId = new HashMap<>();
+		this.dicasPorTema = new EnumMap<>(TipoAtividadeComplementar.class);
+		for (TipoAtividadeComplementar tema : TipoAtividadeComplementar.values()) {
+			this.dicasPorTema.put(tema, new ArrayList<>());
+		}
+		this.dicasPorAutor = new IndiceCpf<>();
+		this.indiceTextual = new IndiceInvertido();
+		this.livroBonificacoes = new LivroBonificacoes();
+		this.rankingDicas = new RankingDicas();
+		this.ultimoId = 0;
+		this.trava = new ReentrantReadWriteLock();
 	}
 	
 	/**
      * Adiciona uma dica ao repositório.
      *
      * @param dica a dica a ser adicionada
-     * @return o número total de dicas no repositório após a adição ou 0 se a dica não foi adicionada
+     * @return o identificador da dica adicionada ou 0 se a dica não foi adicionada
      * @throws NullPointerException se a dica for nula
      */
 	public int adicionaDica(Dica dica) {
 		ValidadorDica.validaDica(dica);
-		this.dicas.add(dica);
-		return this.dicas.size();
+		this.trava.writeLock().lock();
+		try {
+			if (!this.dicasAdicionadas.add(dica)) {
+				return 0;
+			}
+			int id = ++this.ultimoId;
+			Entrada entrada = new Entrada(dica, id);
+			this.dicas.adiciona(entrada);
+			this.dicasPorId.put(id, dica);
+			this.dicasPorTema.get(dica.getTema()).add(entrada);
+		
+			String cpfAutor = dica.getAutor().getCpf();
+			List<Entrada> doAutor = this.dicasPorAutor.busca(cpfAutor);
+			if (doAutor == null) {
+				doAutor = new ArrayList<>();
+				this.dicasPorAutor.adiciona(cpfAutor, doAutor);
+			}
+			doAutor.add(entrada);
+		
+			this.livroBonificacoes.acompanha(id, dica);
+			this.rankingDicas.atualiza(id, dica);
+			dica.registraObservadorElementos((d, posicao, elemento) -> {
+				this.indiceTextual.adiciona(id, elemento.conteudoPesquisavel());
+				this.rankingDicas.atualiza(id, d);
+			});
+			return id;
+		} finally {
+			this.trava.writeLock().unlock();
+		}
 	}
 	
 	/**
@@ -40,15 +124,20 @@ public class DicaRepository {
      * @return um array de strings representando as dicas
      */
 	public String[] listaDicas() {
-		if (this.dicas.size() == 0) {
-			return new String[0];
+		this.trava.readLock().lock();
+		try {
+			if (this.dicas.tamanho() == 0) {
+				return new String[0];
+			}
+			String[] lista = new String[this.dicas.tamanho()];
+			int i = 0;
+			for (Entrada entrada : this.dicas) {
+				lista[i++] = entrada.dica.toString();
+			}
+			return lista;
+		} finally {
+			this.trava.readLock().unlock();
 		}
-		String[] lista = new String[this.dicas.size()];
-		int i = 0;
-		for (Dica dica : dicas) {
-			lista[i++] = dica.toString();
-		}
-		return lista;
 	}
 	
 	/**
@@ -57,15 +146,20 @@ public class DicaRepository {
      * @return um array de strings com os detalhes das dicas
      */
 	public String[] listaDicasDetalhes() {
-		if (this.dicas.size() == 0) {
-			return new String[0];
+		this.trava.readLock().lock();
+		try {
+			if (this.dicas.tamanho() == 0) {
+				return new String[0];
+			}
+			String[] lista = new String[this.dicas.tamanho()];
+			int i = 0;
+			for (Entrada entrada : this.dicas) {
+				lista[i++] = entrada.dica.exibeDetalhes();
+			}
+			return lista;
+		} finally {
+			this.trava.readLock().unlock();
 		}
-		String[] lista = new String[this.dicas.size()];
-		int i = 0;
-		for (Dica dica : dicas) {
-			lista[i++] = dica.exibeDetalhes();
-		}
-		return lista;
 	}
 	
 	/**
@@ -98,15 +192,210 @@ public class DicaRepository {
      * @throws IllegalArgumentException se posicao for inválida
      */
 	public Dica buscaDica(int posicao) {
-		ValidadorDica.validaPosicao(posicao, this.dicas.size());
-		Iterator<Dica> value = dicas.iterator();
-		int i = 0;
-		while (value.hasNext()) {
-			if (i == posicao - 1) return value.next();
-			i++;
-			value.next();
+		this.trava.readLock().lock();
+		try {
+			ValidadorDica.validaPosicao(posicao, this.dicas.tamanho());
+			return this.dicas.busca(posicao - 1).dica;
+		} finally {
+			this.trava.readLock().unlock();
 		}
+	}
+	
+	/**
+     * Busca e retorna a dica com o identificador especificado.
+     *
+     * @param id o identificador da dica, retornado na sua adição
+     * @return a dica com o identificador especificado
+     * @throws IllegalArgumentException se não existir dica com o identificador
+     */
+	public Dica buscaDicaPorId(int id) {
+		this.trava.readLock().lock();
+		try {
+			Dica dica = this.dicasPorId.get(id);
+			if (dica == null) {
+				throw new IllegalArgumentException("Dica não encontrada");
+			}
+			return dica;
+		} finally {
+			this.trava.readLock().unlock();
+		}
+	}
+	
+	/**
+	 * Lista uma página das dicas de um tema, em ordem de identificador.
+	 * 
+	 * Para obter a próxima página, basta informar o identificador da última dica da página anterior.
+	 *
+	 * @param tema o tema das dicas
+	 * @param idUltimo o identificador da última dica da página anterior, ou 0 para a primeira página
+	 * @param limite a quantidade máxima de dicas retornadas
+	 * @return um array de strings representando as dicas da página
+	 * @throws IllegalArgumentException se o tema for inválido ou se o limite não for positivo
+	 */
+	public String[] listaDicasPorTema(String tema, int idUltimo, int limite) {
+		ValidadorDica.validaLimite(limite);
+		this.trava.readLock().lock();
+		try {
+			return paginaDicas(this.dicasPorTema.get(TipoAtividadeComplementar.fromTipo(tema)), idUltimo, limite);
+		} finally {
+			this.trava.readLock().unlock();
+		}
+	}
+	
+	/**
+	 * Lista uma página das dicas de um autor, em ordem de identificador.
+	 * 
+	 * Para obter a próxima página, basta informar o identificador da última dica da página anterior.
+	 *
+	 * @param cpfAutor o CPF do autor das dicas
+	 * @param idUltimo o identificador da última dica da página anterior, ou 0 para a primeira página
+	 * @param limite a quantidade máxima de dicas retornadas
+	 * @return um array de strings representando as dicas da página, vazio se o autor não tiver dicas
+	 * @throws IllegalArgumentException se o limite não for positivo
+	 */
+	public String[] listaDicasPorAutor(String cpfAutor, int idUltimo, int limite) {
+		ValidadorDica.validaLimite(limite);
+		this.trava.readLock().lock();
+		try {
+			List<Entrada> doAutor = this.dicasPorAutor.busca(cpfAutor);
+			if (doAutor == null) {
+				return new String[0];
+			}
+			return paginaDicas(doAutor, idUltimo, limite);
+		} finally {
+			this.trava.readLock().unlock();
+		}
+	}
+	
+	/**
+	 * Busca as dicas cujos textos, cabeçalhos de multimídia ou títulos e fontes de referências
+	 * contêm os termos da consulta. A busca ignora maiúsculas, acentos e palavras muito comuns.
+	 *
+	 * @param consulta os termos procurados
+	 * @param limite a quantidade máxima de dicas retornadas
+	 * @return um array de strings representando as dicas encontradas, da mais para a menos relevante
+	 * @throws NullPointerException se a consulta for nula
+	 * @throws IllegalArgumentException se a consulta for vazia ou se o limite não for positivo
+	 */
+	public String[] buscaDicas(String consulta, int limite) {
+		ValidadorDica.validaConsulta(consulta);
+		ValidadorDica.validaLimite(limite);
+		this.trava.readLock().lock();
+		try {
+			int[] ids = this.indiceTextual.busca(consulta, limite);
+			String[] encontradas = new String[ids.length];
+			for (int i = 0; i < ids.length; i++) {
+				encontradas[i] = this.dicasPorId.get(ids[i]).toString();
+			}
+			return encontradas;
+		} finally {
+			this.trava.readLock().unlock();
+		}
+	}
+	
+	/**
+	 * Lista as dicas de maior pontuação de um tema. A pontuação de uma dica é a soma
+	 * das bonificações dos seus elementos.
+	 *
+	 * @param tema o tema das dicas
+	 * @param quantidade a quantidade máxima de dicas retornadas
+	 * @return um array de strings representando as dicas, em ordem decrescente de pontuação
+	 * @throws IllegalArgumentException se o tema for inválido ou se a quantidade não for positiva
+	 */
+	public String[] listaMelhoresDicas(String tema, int quantidade) {
+		ValidadorDica.validaLimite(quantidade);
+		List<Dica> melhores = this.rankingDicas.melhores(TipoAtividadeComplementar.fromTipo(tema), quantidade);
+		String[] lista = new String[melhores.size()];
+		for (int i = 0; i < lista.length; i++) {
+			lista[i] = melhores.get(i).toString();
+		}
+		return lista;
+	}
+	
+	/**
+	 * Lista os lançamentos de bonificação do autor, na ordem em que foram feitos.
+	 *
+	 * @param autor o autor das dicas
+	 * @return um array de strings representando os lançamentos do autor
+	 */
+	public String[] listaBonificacoes(Usuario autor) {
+		List<LancamentoBonificacao> lancamentos = this.livroBonificacoes.lancamentosDoAutor(autor);
+		String[] lista = new String[lancamentos.size()];
+		for (int i = 0; i < lista.length; i++) {
+			lista[i] = this.livroBonificacoes.descreve(lancamentos.get(i));
+		}
+		return lista;
+	}
+	
+	/**
+	 * Recalcula os pontos de todos os elementos das dicas com a regra de bonificação atual,
+	 * corrigindo o livro, a bonificação dos autores, a pontuação das dicas e o ranking.
+	 *
+	 * @return a quantidade de lançamentos de correção feitos
+	 */
+	public int recalculaBonificacoes() {
+		this.trava.readLock().lock();
+		try {
+			int correcoes = this.livroBonificacoes.recalcula();
+			if (correcoes > 0) {
+				for (Map.Entry<Integer, Dica> dica : this.dicasPorId.entrySet()) {
+					this.rankingDicas.atualiza(dica.getKey(), dica.getValue());
+				}
+			}
+			return correcoes;
+		} finally {
+			this.trava.readLock().unlock();
+		}
+	}
+	
+	/**
+	 * Troca a regra de bonificação dos elementos das dicas e recalcula com ela os pontos de todos
+	 * os elementos já adicionados.
+	 *
+	 * @param regra a nova regra de bonificação
+	 * @return a quantidade de lançamentos de correção feitos
+	 * @throws NullPointerException se regra for null
+	 */
+	public int defineRegraBonificacao(RegraBonificacao regra) {
+		this.livroBonificacoes.defineRegra(regra);
+		return recalculaBonificacoes();
+	}
+	
+	private String[] paginaDicas(List<Entrada> entradas, int idUltimo, int limite) {
+		int inicio = primeiraPosicaoDepois(entradas, idUltimo);
+		int fim = (int) Math.min((long) inicio + limite, entradas.size());
+		String[] pagina = new String[fim - inicio];
+		for (int i = inicio; i < fim; i++) {
+			pagina[i - inicio] = entradas.get(i).dica.toString();
+		}
+		return pagina;
+	}
+	
+	/**
+	 * Busca binária pela primeira entrada com identificador maior que o informado;
+	 * as listas dos índices estão sempre em ordem crescente de identificador.
+	 */
+	private int primeiraPosicaoDepois(List<Entrada> entradas, int id) {
+		int inicio = 0;
+		int fim = entradas.size();
+		while (inicio < fim) {
+			int meio = (inicio + fim) >>> 1;
+			if (entradas.get(meio).id <= id) {
+				inicio = meio + 1;
+			} else {
+				fim = meio;
+			}
+		}
+		return inicio;
+	}
+	
+	private static class Entrada {
+		private final Dica dica;
+		private final int id;
 		
-		return null;
+		Entrada(Dica dica, int id) {
+			this.dica = dica;
+			this.id = id;
+		}
 	}
 }
@@ -0,0 +1,180 @@
+package repositories;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import entities.Dica;
+import entities.LancamentoBonificacao;
+import entities.Usuario;
+import interfaces.Elemento;
+import interfaces.RegraBonificacao;
+import validators.ValidadorDica;
+
+/**
+ * Livro de bonificações: registra, sem nunca apagar, de onde vieram os pontos de cada autor.
+ *
+ * Cada elemento adicionado a uma dica acompanhada gera um lançamento com os pontos que o autor recebeu,
+ * calculados pela regra de bonificação atual do livro. O lançamento identifica o elemento pelo identificador
+ * da dica e pela posição do elemento nela, sem guardar o elemento: o livro não mantém vivos objetos que a
+ * dica guarda apenas em colunas compactas. Os lançamentos de cada autor ficam numa fila concorrente e o total
+ * de cada autor num {@link LongAdder}, de modo que várias threads podem lançar pontos ao mesmo tempo sem
+ * disputar um contador único.
+ *
+ * O livro é a origem da bonificação dos autores das dicas acompanhadas: a dica deixa de bonificar o autor
+ * e cada lançamento soma os seus pontos ao total do autor e repassa a mesma quantidade à bonificação dele.
+ * Os pontos que a dica já tinha repassado antes de ser acompanhada entram no total sem serem repassados
+ * de novo. Se a regra do livro avaliar um elemento de outra forma que o próprio elemento, a diferença
+ * também corrige a pontuação da dica.
+ *
+ * Quando a regra de bonificação muda, {@link #recalcula()} reavalia todos os elementos e lança a diferença
+ * de cada um como um novo lançamento, corrigindo também a bonificação dos autores e a pontuação das dicas.
+ */
+
+public class LivroBonificacoes {
+
+	private Map<Integer, Dica> dicasPorId;
+	private Map<Usuario, Queue<LancamentoBonificacao>> lancamentosPorAutor;
+	private Map<Usuario, LongAdder> totaisPorAutor;
+	private volatile RegraBonificacao regra;
+	private ReadWriteLock trava;
+
+	/**
+	 * Cria um livro de bonificações vazio, que usa as regras de bonificação dos próprios elementos.
+	 */
+	public LivroBonificacoes() {
+		this.dicasPorId = new ConcurrentHashMap<>();
+		this.lancamentosPorAutor = new ConcurrentHashMap<>();
+		this.totaisPorAutor = new ConcurrentHashMap<>();
+		this.regra = Elemento::valorBonificacao;
+		this.trava = new ReentrantReadWriteLock();
+	}
+
+	/**
+	 * Passa a registrar os pontos dos elementos da dica, inclusive dos que ela já possui,
+	 * e a bonificar o autor pelos elementos adicionados daqui em diante.
+	 *
+	 * @param idDica o identificador da dica, usado nos lançamentos
+	 * @param dica a dica a ser acompanhada
+	 */
+	public void acompanha(int idDica, Dica dica) {
+		this.dicasPorId.put(idDica, dica);
+		Elemento[] existentes = dica.entregaBonificacao((d, posicao, elemento) -> lancaElemento(idDica, posicao, elemento, false));
+		for (int posicao = 0; posicao < existentes.length; posicao++) {
+			lancaElemento(idDica, posicao, existentes[posicao], true);
+		}
+	}
+
+	/**
+	 * Define a regra de bonificação dos próximos lançamentos. Os lançamentos já feitos só são
+	 * reavaliados com a nova regra por {@link #recalcula()}.
+	 *
+	 * @param regra a nova regra de bonificação
+	 * @throws NullPointerException se regra for null
+	 */
+	public void defineRegra(RegraBonificacao regra) {
+		ValidadorDica.validaRegraBonificacao(regra);
+		this.trava.writeLock().lock();
+		try {
+			this.regra = regra;
+		} finally {
+			this.trava.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Retorna o total de pontos lançados para o autor.
+	 *
+	 * @param autor o autor
+	 * @return o total de pontos do autor, ou 0 se não houver lançamentos
+	 */
+	public long totalDoAutor(Usuario autor) {
+		LongAdder total = this.totaisPorAutor.get(autor);
+		return (total == null) ? 0 : total.sum();
+	}
+
+	/**
+	 * Retorna os lançamentos do autor, na ordem em que foram feitos.
+	 *
+	 * @param autor o autor
+	 * @return a lista de lançamentos do autor
+	 */
+	public List<LancamentoBonificacao> lancamentosDoAutor(Usuario autor) {
+		Queue<LancamentoBonificacao> lancamentos = this.lancamentosPorAutor.get(autor);
+		return (lancamentos == null) ? new ArrayList<>() : new ArrayList<>(lancamentos);
+	}
+
+	/**
+	 * Descreve um lançamento com o tema da dica e o elemento, recriado a partir da dica.
+	 *
+	 * @param lancamento um lançamento deste livro
+	 * @return a descrição do lançamento
+	 */
+	public String descreve(LancamentoBonificacao lancamento) {
+		Dica dica = this.dicasPorId.get(lancamento.getIdDica());
+		return "Tema: " + dica.getTema().getTipo() + ", elemento: " + dica.elemento(lancamento.getPosicao())
+				+ ", pontos: " + lancamento.getPontos();
+	}
+
+	/**
+	 * Reavalia os pontos de todos os elementos registrados com a regra de bonificação atual.
+	 * Para cada elemento cujo valor mudou, lança a diferença e a repassa à bonificação do autor
+	 * e à pontuação da dica. Novos lançamentos esperam o fim do recálculo.
+	 *
+	 * @return a quantidade de lançamentos de correção feitos
+	 */
+	public int recalcula() {
+		this.trava.writeLock().lock();
+		try {
+			int correcoes = 0;
+			for (Map.Entry<Usuario, Queue<LancamentoBonificacao>> doAutor : this.lancamentosPorAutor.entrySet()) {
+				Usuario autor = doAutor.getKey();
+				Map<Long, Integer> pontosPorElemento = new LinkedHashMap<>();
+				for (LancamentoBonificacao lancamento : doAutor.getValue()) {
+					long chave = ((long) lancamento.getIdDica() << 32) | lancamento.getPosicao();
+					pontosPorElemento.merge(chave, lancamento.getPontos(), Integer::sum);
+				}
+				for (Map.Entry<Long, Integer> pontos : pontosPorElemento.entrySet()) {
+					int idDica = (int) (pontos.getKey() >>> 32);
+					int posicao = pontos.getKey().intValue();
+					Dica dica = this.dicasPorId.get(idDica);
+					int diferenca = this.regra.valorBonificacao(dica.elemento(posicao)) - pontos.getValue();
+					if (diferenca != 0) {
+						lanca(autor, new LancamentoBonificacao(idDica, posicao, diferenca), diferenca);
+						dica.corrigePontuacao(diferenca);
+						correcoes++;
+					}
+				}
+			}
+			return correcoes;
+		} finally {
+			this.trava.writeLock().unlock();
+		}
+	}
+
+	private void lancaElemento(int idDica, int posicao, Elemento elemento, boolean repassado) {
+		this.trava.readLock().lock();
+		try {
+			Dica dica = this.dicasPorId.get(idDica);
+			int pontos = this.regra.valorBonificacao(elemento);
+			int diferenca = pontos - elemento.valorBonificacao();
+			lanca(dica.getAutor(), new LancamentoBonificacao(idDica, posicao, pontos), repassado ? diferenca : pontos);
+			dica.corrigePontuacao(diferenca);
+		} finally {
+			this.trava.readLock().unlock();
+		}
+	}
+
+	private void lanca(Usuario autor, LancamentoBonificacao lancamento, int repasse) {
+		this.lancamentosPorAutor.computeIfAbsent(autor, a -> new ConcurrentLinkedQueue<>()).add(lancamento);
+		this.totaisPorAutor.computeIfAbsent(autor, a -> new LongAdder()).add(lancamento.getPontos());
+		autor.recebeBonificacao(repasse);
+	}
+}
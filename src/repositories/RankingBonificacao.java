@@ -0,0 +1,218 @@
+package repositories;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import entities.Usuario;
+import interfaces.ObservadorBonificacao;
+import structures.ArvoreDeOrdem;
+import structures.IndiceCpf;
+
+/**
+ * Classe responsável por manter os estudantes ordenados por bonificação, em ordem decrescente.
+ * O ranking é atualizado a cada bonificação recebida, sem reordenar todos os estudantes,
+ * e responde à posição de um estudante ou à página de uma posição em O(log n).
+ *
+ * Estudantes com a mesma bonificação ficam na ordem da chave de nome informada na adição.
+ * O ranking pode ser usado por várias threads: consultas compartilham uma trava de leitura
+ * e alterações usam a trava de escrita.
+ */
+
+public class RankingBonificacao implements ObservadorBonificacao {
+
+	private static final int TAMANHO_BLOCO_ITERACAO = 256;
+
+	private ArvoreDeOrdem<Posicao> ranking;
+	private IndiceCpf<Posicao> posicoesPorCpf;
+	private ReadWriteLock trava;
+
+	/**
+     * Cria um novo ranking vazio.
+     */
+	public RankingBonificacao() {
+		this.ranking = new ArvoreDeOrdem<>(Comparator.comparingInt((Posicao p) -> p.bonificacao).reversed()
+				.thenComparing(p -> p.chaveNome));
+		this.posicoesPorCpf = new IndiceCpf<>();
+		this.trava = new ReentrantReadWriteLock();
+	}
+
+	/**
+     * Adiciona um estudante ao ranking e passa a acompanhar a sua bonificação.
+     * O acompanhamento começa antes de a bonificação ser lida, ainda com a trava de escrita,
+     * para que nenhuma bonificação recebida durante a adição se perca.
+     *
+     * @param estudante o estudante a ser adicionado
+     * @param chaveNome a chave usada para desempatar estudantes com a mesma bonificação
+     */
+	public void adiciona(Usuario estudante, String chaveNome) {
+		this.trava.writeLock().lock();
+		try {
+			estudante.registraObservadorBonificacao(this);
+			insere(estudante, chaveNome);
+		} finally {
+			this.trava.writeLock().unlock();
+		}
+	}
+
+	/**
+     * Adiciona vários estudantes ao ranking, adquirindo a trava de escrita uma única vez.
+     *
+     * @param estudantesPorChave os estudantes a serem adicionados, indexados pela chave de desempate
+     */
+	public void adicionaTodos(Map<String, Usuario> estudantesPorChave) {
+		this.trava.writeLock().lock();
+		try {
+			for (Map.Entry<String, Usuario> entrada : estudantesPorChave.entrySet()) {
+				entrada.getValue().registraObservadorBonificacao(this);
+				insere(entrada.getValue(), entrada.getKey());
+			}
+		} finally {
+			this.trava.writeLock().unlock();
+		}
+	}
+
+	/**
+     * Retorna a posição (1-based) do estudante no ranking.
+     *
+     * @param cpf o cpf do estudante
+     * @return a posição do estudante, ou 0 se ele não estiver no ranking
+     */
+	public int posicaoDe(String cpf) {
+		this.trava.readLock().lock();
+		try {
+			Posicao posicao = this.posicoesPorCpf.busca(cpf);
+			if (posicao == null) {
+				return 0;
+			}
+			return this.ranking.posicao(posicao) + 1;
+		} finally {
+			this.trava.readLock().unlock();
+		}
+	}
+
+	/**
+     * Retorna os estudantes do ranking a partir de uma posição.
+     *
+     * @param posicaoInicial a posição (1-based) do primeiro estudante retornado
+     * @param quantidade a quantidade máxima de estudantes retornados
+     * @return a lista de estudantes, em ordem decrescente de bonificação
+     */
+	public List<Usuario> pagina(int posicaoInicial, int quantidade) {
+		this.trava.readLock().lock();
+		try {
+			List<Usuario> pagina = new ArrayList<>(Math.min(quantidade, this.ranking.tamanho()));
+			Iterator<Posicao> iterador = this.ranking.iteradorAPartirDe(posicaoInicial - 1);
+			while (iterador.hasNext() && pagina.size() < quantidade) {
+				pagina.add(iterador.next().estudante);
+			}
+			return pagina;
+		} finally {
+			this.trava.readLock().unlock();
+		}
+	}
+
+	/**
+     * Percorre os estudantes do ranking, em ordem decrescente de bonificação, sem copiá-los de uma vez.
+     * 
+     * Os estudantes são lidos em blocos, e cada bloco continua depois da chave (bonificação e nome)
+     * do último estudante lido, e não a partir de uma posição: estudantes adicionados ou reposicionados
+     * durante a iteração não fazem os demais serem pulados ou repetidos. Um estudante cuja bonificação
+     * muda durante a iteração aparece de novo se a nova chave ficar depois do ponto já percorrido,
+     * e não aparece se ela ficar antes.
+     *
+     * @return um iterador sobre os estudantes do ranking
+     */
+	public Iterator<Usuario> iterador() {
+		return new Iterator<Usuario>() {
+			private Posicao ultima = null;
+			private Iterator<Posicao> bloco = blocoDepoisDe(null).iterator();
+
+			@Override
+			public boolean hasNext() {
+				if (!this.bloco.hasNext() && this.ultima != null) {
+					this.bloco = blocoDepoisDe(this.ultima).iterator();
+				}
+				return this.bloco.hasNext();
+			}
+
+			@Override
+			public Usuario next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				this.ultima = this.bloco.next();
+				return this.ultima.estudante;
+			}
+		};
+	}
+
+	/**
+     * Retorna a quantidade de estudantes no ranking.
+     *
+     * @return a quantidade de estudantes
+     */
+	public int tamanho() {
+		this.trava.readLock().lock();
+		try {
+			return this.ranking.tamanho();
+		} finally {
+			this.trava.readLock().unlock();
+		}
+	}
+
+	@Override
+	public void bonificacaoAlterada(Usuario usuario, int bonificacaoAnterior) {
+		this.trava.writeLock().lock();
+		try {
+			Posicao antiga = this.posicoesPorCpf.busca(usuario.getCpf());
+			if (antiga == null || antiga.estudante != usuario) {
+				return;
+			}
+			Posicao nova = new Posicao(usuario, antiga.chaveNome, usuario.getBonificacao());
+			this.ranking.remove(antiga);
+			this.ranking.adiciona(nova);
+			this.posicoesPorCpf.adiciona(usuario.getCpf(), nova);
+		} finally {
+			this.trava.writeLock().unlock();
+		}
+	}
+
+	private List<Posicao> blocoDepoisDe(Posicao ultima) {
+		this.trava.readLock().lock();
+		try {
+			List<Posicao> bloco = new ArrayList<>(TAMANHO_BLOCO_ITERACAO);
+			int inicio = (ultima == null) ? 0 : this.ranking.posicaoDepoisDe(ultima);
+			Iterator<Posicao> iterador = this.ranking.iteradorAPartirDe(inicio);
+			while (iterador.hasNext() && bloco.size() < TAMANHO_BLOCO_ITERACAO) {
+				bloco.add(iterador.next());
+			}
+			return bloco;
+		} finally {
+			this.trava.readLock().unlock();
+		}
+	}
+
+	private void insere(Usuario estudante, String chaveNome) {
+		Posicao posicao = new Posicao(estudante, chaveNome, estudante.getBonificacao());
+		this.posicoesPorCpf.adiciona(estudante.getCpf(), posicao);
+		this.ranking.adiciona(posicao);
+	}
+
+	private static class Posicao {
+		private final Usuario estudante;
+		private final String chaveNome;
+		private final int bonificacao;
+
+		Posicao(Usuario estudante, String chaveNome, int bonificacao) {
+			this.estudante = estudante;
+			this.chaveNome = chaveNome;
+			this.bonificacao = bonificacao;
+		}
+	}
+}
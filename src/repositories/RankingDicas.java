@@ -0,0 +1,90 @@
+package repositories;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import entities.Dica;
+import enums.TipoAtividadeComplementar;
+import structures.ArvoreDeOrdem;
+
+/**
+ * Classe responsável por manter, para cada tema, as dicas ordenadas por pontuação, em ordem decrescente.
+ * A posição de uma dica é atualizada a cada elemento adicionado a ela, sem reordenar as outras dicas,
+ * e as melhores dicas de um tema são obtidas sem percorrer o repositório.
+ *
+ * Dicas com a mesma pontuação ficam em ordem de identificador.
+ */
+
+public class RankingDicas {
+
+	private Map<TipoAtividadeComplementar, ArvoreDeOrdem<Posicao>> rankingPorTema;
+	private Map<Integer, Posicao> posicoesPorId;
+
+	/**
+     * Cria um novo ranking vazio.
+     */
+	public RankingDicas() {
+		this.rankingPorTema = new EnumMap<>(TipoAtividadeComplementar.class);
+		for (TipoAtividadeComplementar tema : TipoAtividadeComplementar.values()) {
+			this.rankingPorTema.put(tema, new ArvoreDeOrdem<>(Comparator.comparingInt((Posicao p) -> p.pontuacao).reversed()
+					.thenComparingInt(p -> p.id)));
+		}
+		this.posicoesPorId = new HashMap<>();
+	}
+
+	/**
+     * Adiciona a dica ao ranking do seu tema ou, se ela já estiver no ranking, atualiza a sua posição
+     * de acordo com a pontuação atual.
+     *
+     * @param id o identificador da dica
+     * @param dica a dica
+     */
+	public synchronized void atualiza(int id, Dica dica) {
+		ArvoreDeOrdem<Posicao> ranking = this.rankingPorTema.get(dica.getTema());
+		Posicao antiga = this.posicoesPorId.get(id);
+		int pontuacao = dica.getPontuacao();
+		if (antiga != null) {
+			if (antiga.pontuacao == pontuacao) {
+				return;
+			}
+			ranking.remove(antiga);
+		}
+		Posicao nova = new Posicao(dica, id, pontuacao);
+		ranking.adiciona(nova);
+		this.posicoesPorId.put(id, nova);
+	}
+
+	/**
+     * Retorna as dicas de maior pontuação do tema.
+     *
+     * @param tema o tema das dicas
+     * @param quantidade a quantidade máxima de dicas retornadas
+     * @return a lista de dicas, em ordem decrescente de pontuação
+     */
+	public synchronized List<Dica> melhores(TipoAtividadeComplementar tema, int quantidade) {
+		ArvoreDeOrdem<Posicao> ranking = this.rankingPorTema.get(tema);
+		List<Dica> melhores = new ArrayList<>(Math.min(quantidade, ranking.tamanho()));
+		Iterator<Posicao> iterador = ranking.iterator();
+		while (iterador.hasNext() && melhores.size() < quantidade) {
+			melhores.add(iterador.next().dica);
+		}
+		return melhores;
+	}
+
+	private static class Posicao {
+		private final Dica dica;
+		private final int id;
+		private final int pontuacao;
+
+		Posicao(Dica dica, int id, int pontuacao) {
+			this.dica = dica;
+			this.id = id;
+			this.pontuacao = pontuacao;
+		}
+	}
+}
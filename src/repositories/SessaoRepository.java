@@ -0,0 +1,190 @@
+package repositories;
+
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import entities.Sessao;
+import entities.Usuario;
+import validators.ValidadorUsuario;
+
+/**
+ * Classe responsável por gerenciar as sessões abertas pelos usuários.
+ * Cada sessão expira depois de um tempo de vida fixo e a tabela de sessões tem capacidade limitada:
+ * quando cheia, a sessão usada há mais tempo é descartada.
+ *
+ * Para que sessões diferentes não disputem a mesma trava, a tabela é dividida em partições pelo token,
+ * cada uma com a sua trava e uma parte da capacidade. O descarte por uso é feito dentro da partição,
+ * então é aproximado: a sessão descartada é a usada há mais tempo na sua partição, não necessariamente
+ * em toda a tabela. Tabelas pequenas, com menos de {@value #SESSOES_MINIMAS_POR_PARTICAO} sessões
+ * por partição, ficam numa única partição e descartam exatamente a sessão usada há mais tempo.
+ */
+
+public class SessaoRepository {
+
+	private static final int CAPACIDADE_PADRAO = 10_000;
+	private static final Duration DURACAO_PADRAO = Duration.ofMinutes(30);
+	private static final int BYTES_DO_TOKEN = 24;
+	private static final int PARTICOES_MAXIMAS = 16;
+	private static final int SESSOES_MINIMAS_POR_PARTICAO = 64;
+	
+	private final Particao[] particoes;
+	private final int mascara;
+	private final long duracaoEmMilissegundos;
+	private final Clock relogio;
+	private final SecureRandom geradorDeTokens;
+	
+	/**
+     * Cria um novo repositório de sessões, com capacidade para 10.000 sessões de 30 minutos.
+     */
+	public SessaoRepository() {
+		this(CAPACIDADE_PADRAO, DURACAO_PADRAO, Clock.systemUTC());
+	}
+	
+	/**
+     * Cria um novo repositório de sessões.
+     *
+     * @param capacidade a quantidade máxima de sessões abertas ao mesmo tempo
+     * @param duracao o tempo de vida de cada sessão
+     * @param relogio o relógio usado para verificar a expiração das sessões
+     */
+	public SessaoRepository(int capacidade, Duration duracao, Clock relogio) {
+		int quantidade = Integer.highestOneBit(Math.max(1, Math.min(PARTICOES_MAXIMAS, capacidade / SESSOES_MINIMAS_POR_PARTICAO)));
+		this.particoes = new Particao[quantidade];
+		for (int i = 0; i < quantidade; i++) {
+			this.particoes[i] = new Particao(capacidade / quantidade + ((i < capacidade % quantidade) ? 1 : 0));
+		}
+		this.mascara = quantidade - 1;
+		this.duracaoEmMilissegundos = duracao.toMillis();
+		this.relogio = relogio;
+		this.geradorDeTokens = new SecureRandom();
+	}
+	
+	/**
+     * Abre uma nova sessão para o usuário.
+     *
+     * @param usuario o usuário autenticado
+     * @return a sessão aberta
+     * @throws NullPointerException se o usuário for nulo
+     */
+	public Sessao abreSessao(Usuario usuario) {
+		ValidadorUsuario.validaUsuario(usuario);
+		
+		Sessao sessao = new Sessao(geraToken());
+		SessaoAberta aberta = new SessaoAberta(usuario, this.relogio.millis() + this.duracaoEmMilissegundos);
+		Particao particao = particao(sessao.getToken());
+		synchronized (particao) {
+			particao.put(sessao.getToken(), aberta);
+		}
+		return sessao;
+	}
+	
+	/**
+     * Busca o usuário dono de uma sessão.
+     *
+     * @param sessao a sessão do usuário
+     * @return o usuário dono da sessão
+     * @throws IllegalArgumentException se a sessão não existir ou estiver expirada
+     */
+	public Usuario buscaUsuario(Sessao sessao) {
+		if (sessao == null || sessao.getToken() == null) {
+			throw new IllegalArgumentException("Sessão inválida ou expirada");
+		}
+		Particao particao = particao(sessao.getToken());
+		synchronized (particao) {
+			SessaoAberta aberta = particao.get(sessao.getToken());
+			if (aberta == null) {
+				throw new IllegalArgumentException("Sessão inválida ou expirada");
+			}
+			if (aberta.expiraEm <= this.relogio.millis()) {
+				particao.remove(sessao.getToken());
+				throw new IllegalArgumentException("Sessão inválida ou expirada");
+			}
+			return aberta.usuario;
+		}
+	}
+	
+	/**
+     * Encerra uma sessão.
+     *
+     * @param sessao a sessão a ser encerrada
+     * @return true se a sessão estava aberta, false caso contrário
+     */
+	public boolean encerraSessao(Sessao sessao) {
+		if (sessao == null || sessao.getToken() == null) {
+			return false;
+		}
+		Particao particao = particao(sessao.getToken());
+		synchronized (particao) {
+			return particao.remove(sessao.getToken()) != null;
+		}
+	}
+	
+	/**
+     * Encerra todas as sessões abertas de um usuário, por exemplo depois de ele trocar de senha.
+     * Percorre todas as partições, uma de cada vez.
+     *
+     * @param usuario o usuário cujas sessões devem ser encerradas
+     * @return a quantidade de sessões encerradas
+     */
+	public int encerraSessoes(Usuario usuario) {
+		int encerradas = 0;
+		for (Particao particao : this.particoes) {
+			synchronized (particao) {
+				Iterator<SessaoAberta> abertas = particao.values().iterator();
+				while (abertas.hasNext()) {
+					if (abertas.next().usuario == usuario) {
+						abertas.remove();
+						encerradas++;
+					}
+				}
+			}
+		}
+		return encerradas;
+	}
+	
+	private Particao particao(String token) {
+		int hash = token.hashCode();
+		return this.particoes[(hash ^ (hash >>> 16)) & this.mascara];
+	}
+	
+	private String geraToken() {
+		byte[] bytes = new byte[BYTES_DO_TOKEN];
+		this.geradorDeTokens.nextBytes(bytes);
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+	}
+	
+	/**
+	 * Partição da tabela de sessões, em ordem de uso, que descarta a sessão usada há mais tempo
+	 * quando passa da sua capacidade. Deve ser acessada com a sua própria trava.
+	 */
+	private static class Particao extends LinkedHashMap<String, SessaoAberta> {
+		private static final long serialVersionUID = 1L;
+		
+		private final int capacidade;
+		
+		Particao(int capacidade) {
+			super(16, 0.75f, true);
+			this.capacidade = capacidade;
+		}
+		
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, SessaoAberta> maisAntiga) {
+			return size() > this.capacidade;
+		}
+	}
+	
+	private static class SessaoAberta {
+		private final Usuario usuario;
+		private final long expiraEm;
+		
+		SessaoAberta(Usuario usuario, long expiraEm) {
+			this.usuario = usuario;
+			this.expiraEm = expiraEm;
+		}
+	}
+}
@@ -1,35 +1,68 @@
 package repositories;
 
-import java.util.ArrayList;
+import java.text.Normalizer;
 import java.util.Collection;
-import java.util.Comparator;
 import java.util.List;
-import java.util.TreeSet;
+import java.util.Locale;
+import java.util.NavigableMap;
+import java.util.SortedMap;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import entities.GerenciadorAtividadesComplementares;
+import entities.TipoAtividadeRegistrado;
 import entities.Usuario;
+import interfaces.Atividade;
+import structures.IndiceCpfParticionado;
+import validators.ValidadorAtividade;
 import validators.ValidadorUsuario;
 
 /**
  * Classe responsável por gerenciar e armazenar os usuários (estudantes) em um repositório.
  * Esta classe permite adicionar, buscar e listar estudantes, além de manter
  * a validação de usuários.
+ * 
+ * O repositório pode ser usado por várias threads ao mesmo tempo: o índice por CPF é particionado,
+ * com uma trava por partição, e as listagens percorrem os estudantes sem travar o repositório,
+ * refletindo as adições feitas durante a listagem ou não.
+ * 
+ * Qualquer atividade complementar pode ser encontrada pelo seu código, sem a senha do dono, por quem
+ * tiver a senha de administrador do repositório: o código começa com o CPF do dono, que leva ao estudante
+ * pelo índice por CPF, e dele à atividade. Assim, a busca não precisa de um índice próprio, que teria de ser
+ * mantido junto com as atividades.
+ * 
+ * Para turmas muito grandes, {@link UsuarioRepositoryCompacto} guarda os estudantes em colunas,
+ * sem um objeto por estudante. As consultas deste repositório passam pelos métodos visíveis no pacote
+ * que ele substitui.
  */
 
 public class UsuarioRepository {
 
-	private TreeSet<Usuario> estudantes;
+	static final char SEPARADOR_CHAVE = '\u0000';
+	static final char FIM_DE_PREFIXO = '\uffff';
+	private static final int PARTICOES_DO_INDICE = 64;
+	
+	private NavigableMap<String, Usuario> estudantes;
+	private IndiceCpfParticionado<Usuario> estudantesPorCpf;
+	private RankingBonificacao ranking;
+	private volatile String senhaAdministrador;
 	
 	/**
      * Cria um novo repositório de usuários.
      */
 	public UsuarioRepository() {
-		this.estudantes = new TreeSet<>();
+		this.estudantes = new ConcurrentSkipListMap<>();
+		this.estudantesPorCpf = new IndiceCpfParticionado<>(PARTICOES_DO_INDICE);
+		this.ranking = new RankingBonificacao();
 	}
 	
 	/**
      * Adiciona um estudante ao repositório.
      *
-     * @param cpf o cpf do estudante
      * @param estudante o objeto a ser adicionado
      * @return true se o estudante foi adicionado com sucesso, false se já existe um estudante com o mesmo CPF
      * @throws NullPointerException se o estudante for nulo
@@ -37,24 +70,120 @@ public class UsuarioRepository {
 	public boolean adicionaEstudante(Usuario estudante) {
 		ValidadorUsuario.validaUsuario(estudante);
 		
-		if (this.estudantes.contains(estudante)) return false;
+		if (this.estudantesPorCpf.adicionaSeAusente(estudante.getCpf(), estudante) != null) return false;
 		
-		this.estudantes.add(estudante);
+		String chave = chaveOrdenacao(estudante);
+		this.estudantes.put(chave, estudante);
+		this.ranking.adiciona(estudante, chave);
 		return true;
 	}
 	
+	/**
+     * Adiciona vários estudantes ao repositório de uma só vez.
+     * Os CPFs são reservados um a um, e o ranking é atualizado uma única vez ao final,
+     * o que é mais rápido do que adicionar os estudantes um a um.
+     *
+     * @param novosEstudantes os estudantes a serem adicionados
+     * @return um array indicando, para cada estudante na mesma ordem, se ele foi adicionado
+     *         ou rejeitado por já existir um estudante com o mesmo CPF
+     * @throws NullPointerException se algum estudante for nulo
+     */
+	public boolean[] adicionaEstudantes(List<Usuario> novosEstudantes) {
+		boolean[] adicionados = new boolean[novosEstudantes.size()];
+		SortedMap<String, Usuario> lote = new TreeMap<>();
+		for (int i = 0; i < novosEstudantes.size(); i++) {
+			Usuario estudante = novosEstudantes.get(i);
+			ValidadorUsuario.validaUsuario(estudante);
+			if (this.estudantesPorCpf.adicionaSeAusente(estudante.getCpf(), estudante) == null) {
+				lote.put(chaveOrdenacao(estudante), estudante);
+				adicionados[i] = true;
+			}
+		}
+		
+		this.estudantes.putAll(lote);
+		this.ranking.adicionaTodos(lote);
+		return adicionados;
+	}
+	
 	/**
      * Lista todos os estudantes no repositório como um array de strings.
      *
      * @return um array de String contendo a representação de todos os estudantes, se existir
      */
 	public String[] listaEstudantes() {
-		if (this.estudantes.size() == 0) {
+		return listaEstudantesStream().toArray(String[]::new);
+	}
+	
+	/**
+	 * Lista uma página dos estudantes, em ordem de nome.
+	 * 
+	 * Para obter a próxima página, basta informar o CPF do último estudante da página anterior.
+	 *
+	 * @param cpfUltimo o CPF do último estudante da página anterior, ou null para a primeira página
+	 * @param limite a quantidade máxima de estudantes retornados
+	 * @return um array de String contendo a representação dos estudantes da página
+	 * @throws IllegalArgumentException se o limite não for positivo
+	 */
+	public String[] listaEstudantes(String cpfUltimo, int limite) {
+		ValidadorUsuario.validaLimite(limite);
+		return paginaEstudantes(null, null, cpfUltimo, limite);
+	}
+	
+	/**
+	 * Percorre os estudantes em ordem de nome, gerando a representação de cada um apenas quando consumida.
+	 *
+	 * @return um Stream com a representação dos estudantes
+	 */
+	public Stream<String> listaEstudantesStream() {
+		return estudantesPorNome().map(Usuario::toString);
+	}
+	
+	/**
+	 * Busca, em ordem de nome, os estudantes cujo nome começa com o prefixo informado.
+	 * A comparação ignora maiúsculas e acentos.
+	 * 
+	 * Para obter a próxima página, basta informar o CPF do último estudante da página anterior.
+	 *
+	 * @param prefixoNome o início do nome dos estudantes procurados
+	 * @param cpfUltimo o CPF do último estudante da página anterior, ou null para a primeira página
+	 * @param limite a quantidade máxima de estudantes retornados
+	 * @return um array de String com a representação dos estudantes encontrados
+	 * @throws NullPointerException se o prefixo for nulo
+	 * @throws IllegalArgumentException se o limite não for positivo
+	 */
+	public String[] buscaEstudantesPorPrefixo(String prefixoNome, String cpfUltimo, int limite) {
+		ValidadorUsuario.validaPrefixo(prefixoNome);
+		ValidadorUsuario.validaLimite(limite);
+		
+		String prefixo = normalizaNome(prefixoNome);
+		return paginaEstudantes(prefixo, prefixo + FIM_DE_PREFIXO, cpfUltimo, limite);
+	}
+	
+	/**
+	 * Busca, em ordem de nome, os estudantes cujo nome está entre os dois nomes informados, inclusive.
+	 * A comparação ignora maiúsculas e acentos.
+	 * 
+	 * Para obter a próxima página, basta informar o CPF do último estudante da página anterior.
+	 *
+	 * @param nomeInicial o início do intervalo de nomes
+	 * @param nomeFinal o fim do intervalo de nomes
+	 * @param cpfUltimo o CPF do último estudante da página anterior, ou null para a primeira página
+	 * @param limite a quantidade máxima de estudantes retornados
+	 * @return um array de String com a representação dos estudantes encontrados
+	 * @throws NullPointerException se algum dos nomes for nulo
+	 * @throws IllegalArgumentException se algum dos nomes for vazio ou se o limite não for positivo
+	 */
+	public String[] buscaEstudantesPorIntervalo(String nomeInicial, String nomeFinal, String cpfUltimo, int limite) {
+		ValidadorUsuario.validaNome(nomeInicial);
+		ValidadorUsuario.validaNome(nomeFinal);
+		ValidadorUsuario.validaLimite(limite);
+		
+		String inicio = normalizaNome(nomeInicial);
+		String fim = normalizaNome(nomeFinal) + SEPARADOR_CHAVE + FIM_DE_PREFIXO;
+		if (inicio.compareTo(fim) > 0) {
 			return new String[0];
 		}
-		List<Usuario> listaOrdenadaPeloNome = new ArrayList<>(estudantes);
-		listaOrdenadaPeloNome.sort(null);
-		return converteParaArrayDeString(listaOrdenadaPeloNome);
+		return paginaEstudantes(inicio, fim, cpfUltimo, limite);
 	}
 	
 	/**
@@ -63,12 +192,46 @@ public class UsuarioRepository {
 	 * @return um array de String contendo a representação dos estudantes, ordenados pela bonificação
 	 */
 	public String[] listaEstudantesRankingDicas() {
-		if (this.estudantes.size() == 0) {
-			return new String[0];
+		return listaEstudantesRankingDicasStream().toArray(String[]::new);
+	}
+	
+	/**
+	 * Percorre os estudantes em ordem decrescente de bonificação, gerando a representação
+	 * de cada um apenas quando consumida.
+	 *
+	 * @return um Stream com a representação dos estudantes, ordenados pela bonificação
+	 */
+	public Stream<String> listaEstudantesRankingDicasStream() {
+		return estudantesPorBonificacao().map(Usuario::toString);
+	}
+	
+	/**
+	 * Lista uma página do ranking de estudantes por bonificação, em ordem decrescente.
+	 *
+	 * @param posicaoInicial a posição (1-based) do primeiro estudante da página
+	 * @param quantidade a quantidade máxima de estudantes na página
+	 * @return um array de String contendo a representação dos estudantes da página
+	 * @throws IllegalArgumentException se a posição ou a quantidade não forem positivas
+	 */
+	public String[] listaEstudantesRankingDicas(int posicaoInicial, int quantidade) {
+		ValidadorUsuario.validaPosicaoRanking(posicaoInicial);
+		ValidadorUsuario.validaLimite(quantidade);
+		return converteParaArrayDeString(paginaRanking(posicaoInicial, quantidade));
+	}
+	
+	/**
+	 * Retorna a posição de um estudante no ranking de bonificação.
+	 *
+	 * @param cpf o cpf do estudante
+	 * @return a posição (1-based) do estudante no ranking
+	 * @throws IllegalArgumentException se o estudante não for encontrado
+	 */
+	public int posicaoEstudanteRankingDicas(String cpf) {
+		int posicao = posicaoNoRanking(cpf);
+		if (posicao == 0) {
+			throw new IllegalArgumentException("Estudante não encontrado");
 		}
-		List<Usuario> listaOrdenadaPelaBonificacao = new ArrayList<>(estudantes);
-		listaOrdenadaPelaBonificacao.sort(Comparator.comparing(Usuario::getBonificacao).reversed());
-		return converteParaArrayDeString(listaOrdenadaPelaBonificacao);
+		return posicao;
 	}
 	
 	/**
@@ -76,26 +239,186 @@ public class UsuarioRepository {
      *
      * @param cpf o cpf do estudante a ser buscado
      * @param senha a senha do estudante
-     * @return o estudante correspondente se encontrado e a senha for válida, null caso contrário
-     * @throws NullPointerException se o estudante não for encontrado
-     * @throws IllegalArgumentException se as credenciais forem inválidas
+     * @return o estudante correspondente se encontrado e a senha for válida
+     * @throws IllegalArgumentException se o estudante não for encontrado ou se as credenciais forem inválidas
      */
 	public Usuario buscaEstudante(String cpf, String senha) {
-		for (Usuario u : estudantes)
-			if (u.getCpf().equals(cpf)) {
-					ValidadorUsuario.validaUsuario(u);
-					if (validaSenha(u, senha)) {
-							return u;
-				}
+		Usuario estudante = estudantePorCpf(cpf);
+		if (estudante != null && validaSenha(estudante, senha)) {
+			return estudante;
 		}
 		
 		throw new IllegalArgumentException("Usuário ou senha inválidos");
 	}
 	
+	/**
+     * Define a senha de administrador, exigida nas consultas administrativas do repositório.
+     * Assim como as senhas dos estudantes, é guardada apenas na forma protegida.
+     * Enquanto nenhuma senha for definida, as consultas administrativas são recusadas.
+     *
+     * @param senha a nova senha de administrador
+     * @throws NullPointerException se a senha for nula
+     * @throws IllegalArgumentException se a senha for vazia ou tiver menos que 4 caracteres
+     */
+	public void defineSenhaAdministrador(String senha) {
+		ValidadorUsuario.validaSenha(senha);
+		this.senhaAdministrador = ValidadorUsuario.protegeSenha(senha);
+	}
+	
+	/**
+     * Busca uma atividade complementar de qualquer estudante pelo código, sem exigir a senha do dono,
+     * mas exigindo a senha de administrador.
+     *
+     * @param senhaAdministrador a senha de administrador
+     * @param codigoAtividade o código da atividade
+     * @return a apresentação do estudante dono da atividade, seguida da atividade
+     * @throws NullPointerException se o código for nulo
+     * @throws IllegalArgumentException se a senha de administrador não conferir, se o código for vazio
+     *         ou se a atividade não for encontrada
+     */
+	public String buscaAtividade(String senhaAdministrador, String codigoAtividade) {
+		autenticaAdministrador(senhaAdministrador);
+		ValidadorAtividade.validaCodigo(codigoAtividade);
+		String cpf = GerenciadorAtividadesComplementares.cpfDoDono(codigoAtividade);
+		Usuario estudante = (cpf == null) ? null : estudantePorCpf(cpf);
+		Atividade atividade = (estudante == null) ? null : estudante.buscaAtividade(codigoAtividade);
+		if (atividade == null) {
+			throw new IllegalArgumentException("Atividade não encontrada");
+		}
+		return estudante.apresentacaoEmRelatorio() + "\n" + atividade.toString();
+	}
+	
+	/**
+     * Adiciona de uma só vez atividades já criadas e validadas a um estudante, sem exigir a sua senha,
+     * mas exigindo a senha de administrador.
+     *
+     * @param senhaAdministrador a senha de administrador
+     * @param cpf o cpf do estudante
+     * @param tipos o tipo de cada atividade
+     * @param atividades as atividades, na mesma ordem dos tipos
+     * @return os códigos das atividades adicionadas, na mesma ordem
+     * @throws IllegalArgumentException se a senha de administrador não conferir ou se o estudante não for encontrado
+     */
+	public String[] adicionaAtividades(String senhaAdministrador, String cpf, List<TipoAtividadeRegistrado> tipos,
+			List<Atividade> atividades) {
+		autenticaAdministrador(senhaAdministrador);
+		Usuario estudante = estudantePorCpf(cpf);
+		if (estudante == null) {
+			throw new IllegalArgumentException("Estudante não encontrado");
+		}
+		return estudante.adicionaAtividades(tipos, atividades);
+	}
+	
+	/**
+     * Confere a senha de administrador, exigida nas operações administrativas do repositório.
+     *
+     * @param senha a senha de administrador informada
+     * @throws IllegalArgumentException se nenhuma senha de administrador foi definida ou se a senha não conferir
+     */
+	public void autenticaAdministrador(String senha) {
+		String protegida = this.senhaAdministrador;
+		if (protegida == null || !ValidadorUsuario.verificaSenha(senha, protegida)) {
+			throw new IllegalArgumentException("Senha de administrador inválida");
+		}
+	}
+	
+	/**
+	 * Busca o estudante com o CPF informado.
+	 * 
+	 * @param cpf o CPF do estudante
+	 * @return o estudante, ou null se não houver estudante com o CPF
+	 */
+	Usuario estudantePorCpf(String cpf) {
+		return this.estudantesPorCpf.busca(cpf);
+	}
+	
+	/**
+	 * Percorre os estudantes em ordem de chave de nome.
+	 * 
+	 * @return um Stream com os estudantes
+	 */
+	Stream<Usuario> estudantesPorNome() {
+		return this.estudantes.values().stream();
+	}
+	
+	/**
+	 * Percorre os estudantes em ordem decrescente de bonificação.
+	 * 
+	 * @return um Stream com os estudantes
+	 */
+	Stream<Usuario> estudantesPorBonificacao() {
+		Spliterator<Usuario> estudantesOrdenados = Spliterators.spliterator(this.ranking.iterador(), this.ranking.tamanho(),
+				Spliterator.ORDERED | Spliterator.NONNULL);
+		return StreamSupport.stream(estudantesOrdenados, false);
+	}
+	
+	/**
+	 * Retorna os estudantes do ranking de bonificação a partir de uma posição.
+	 * 
+	 * @param posicaoInicial a posição (1-based) do primeiro estudante
+	 * @param quantidade a quantidade máxima de estudantes
+	 * @return a lista de estudantes, em ordem decrescente de bonificação
+	 */
+	List<Usuario> paginaRanking(int posicaoInicial, int quantidade) {
+		return this.ranking.pagina(posicaoInicial, quantidade);
+	}
+	
+	/**
+	 * Retorna a posição do estudante no ranking de bonificação.
+	 * 
+	 * @param cpf o CPF do estudante
+	 * @return a posição (1-based) do estudante, ou 0 se ele não estiver no ranking
+	 */
+	int posicaoNoRanking(String cpf) {
+		return this.ranking.posicaoDe(cpf);
+	}
+	
+	/**
+	 * Lista uma página dos estudantes em ordem de chave de nome, entre duas chaves já normalizadas.
+	 * A página começa depois do último estudante da página anterior, se ele for informado.
+	 * 
+	 * @param chaveInicial a menor chave da faixa, inclusive, ou null para a faixa começar no primeiro estudante
+	 * @param chaveFinal a maior chave da faixa, exclusive; ignorada se chaveInicial for null
+	 * @param cpfUltimo o CPF do último estudante da página anterior, ou null para a primeira página
+	 * @param limite a quantidade máxima de estudantes retornados
+	 * @return um array de String com a representação dos estudantes da página
+	 */
+	String[] paginaEstudantes(String chaveInicial, String chaveFinal, String cpfUltimo, int limite) {
+		NavigableMap<String, Usuario> faixa = (chaveInicial == null) ? this.estudantes
+				: this.estudantes.subMap(chaveInicial, true, chaveFinal, false);
+		Usuario ultimo = (cpfUltimo == null) ? null : this.estudantesPorCpf.busca(cpfUltimo);
+		if (ultimo != null) {
+			// O último estudante pode estar fora da faixa: antes dela, a página começa no início da faixa;
+			// depois dela, não há mais estudantes.
+			String seguinte = faixa.higherKey(chaveOrdenacao(ultimo));
+			if (seguinte == null) {
+				return new String[0];
+			}
+			faixa = faixa.tailMap(seguinte, true);
+		}
+		
+		return faixa.values().stream().limit(limite).map(Usuario::toString).toArray(String[]::new);
+	}
+	
+	/**
+	 * Normaliza um nome para a chave de ordenação: sem acentos, em minúsculas e sem espaços nas pontas.
+	 * 
+	 * @param nome o nome
+	 * @return o nome normalizado
+	 */
+	static String normalizaNome(String nome) {
+		String semAcentos = Normalizer.normalize(nome.trim(), Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+		return semAcentos.toLowerCase(Locale.ROOT);
+	}
+	
 	private boolean validaSenha(Usuario estudante, String senha) {
 		return estudante.validaSenha(senha);
 	}
 	
+	private String chaveOrdenacao(Usuario estudante) {
+		return normalizaNome(estudante.getNome()) + SEPARADOR_CHAVE + estudante.getCpf();
+	}
+	
 	private <T> String[] converteParaArrayDeString(Collection<T> colecao) {
 		String[] lista = new String[colecao.size()];
 		int i = 0;
@@ -0,0 +1,131 @@
+package repositories;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import entities.GerenciadorAtividadesComplementares;
+import entities.Usuario;
+import structures.ArmazemEstudantes;
+import validators.ValidadorUsuario;
+
+/**
+ * Repositório de estudantes para turmas muito grandes, que guarda os estudantes em colunas
+ * (veja {@link ArmazemEstudantes}), sem um objeto por estudante. Os estudantes adicionados têm os seus
+ * dados copiados para as colunas, e as buscas devolvem visões sobre elas, criadas a cada busca
+ * (veja {@link Usuario#visao(ArmazemEstudantes, int)}).
+ * 
+ * O repositório responde às mesmas consultas, nas mesmas ordens, que {@link UsuarioRepository}, trocando
+ * tempo por memória: a ordem por nome é completada na consulta seguinte às adições, e o ranking de
+ * bonificação é montado a cada consulta, em O(n log n), e a posição de um estudante nele, em O(n).
+ * 
+ * É usado no lugar do repositório comum quando a propriedade de sistema {@value #PROPRIEDADE_ATIVACAO}
+ * vale {@code true}.
+ */
+
+public class UsuarioRepositoryCompacto extends UsuarioRepository {
+
+	/**
+	 * Propriedade de sistema que, com o valor {@code true}, faz o sistema guardar os estudantes neste repositório.
+	 */
+	public static final String PROPRIEDADE_ATIVACAO = "estudantes.armazenamento.compacto";
+
+	private ArmazemEstudantes<GerenciadorAtividadesComplementares> armazem;
+
+	/**
+	 * Cria um novo repositório compacto vazio.
+	 */
+	public UsuarioRepositoryCompacto() {
+		this.armazem = new ArmazemEstudantes<>();
+	}
+
+	/**
+	 * Adiciona um estudante ao repositório, copiando os seus dados para as colunas.
+	 * Depois da adição, o objeto informado não é mais acompanhado pelo repositório: as buscas
+	 * devolvem visões do estudante guardado.
+	 *
+	 * @param estudante o objeto a ser adicionado
+	 * @return true se o estudante foi adicionado com sucesso, false se já existe um estudante com o mesmo CPF
+	 * @throws NullPointerException se o estudante for nulo
+	 */
+	@Override
+	public boolean adicionaEstudante(Usuario estudante) {
+		ValidadorUsuario.validaUsuario(estudante);
+		return estudante.guardaEm(this.armazem) >= 0;
+	}
+
+	/**
+	 * Adiciona vários estudantes ao repositório de uma só vez.
+	 *
+	 * @param novosEstudantes os estudantes a serem adicionados
+	 * @return um array indicando, para cada estudante na mesma ordem, se ele foi adicionado
+	 *         ou rejeitado por já existir um estudante com o mesmo CPF
+	 * @throws NullPointerException se algum estudante for nulo
+	 */
+	@Override
+	public boolean[] adicionaEstudantes(List<Usuario> novosEstudantes) {
+		boolean[] adicionados = new boolean[novosEstudantes.size()];
+		for (int i = 0; i < novosEstudantes.size(); i++) {
+			adicionados[i] = adicionaEstudante(novosEstudantes.get(i));
+		}
+		return adicionados;
+	}
+
+	@Override
+	Usuario estudantePorCpf(String cpf) {
+		int indice = this.armazem.indiceDe(cpf);
+		return (indice < 0) ? null : Usuario.visao(this.armazem, indice);
+	}
+
+	@Override
+	Stream<Usuario> estudantesPorNome() {
+		return visoes(this.armazem.ordemPorChave());
+	}
+
+	@Override
+	Stream<Usuario> estudantesPorBonificacao() {
+		return visoes(this.armazem.ordemPorBonificacao());
+	}
+
+	@Override
+	List<Usuario> paginaRanking(int posicaoInicial, int quantidade) {
+		int[] ranking = this.armazem.ordemPorBonificacao();
+		int inicio = Math.min(posicaoInicial - 1, ranking.length);
+		int fim = (int) Math.min((long) inicio + quantidade, ranking.length);
+		List<Usuario> pagina = new ArrayList<>(fim - inicio);
+		for (int i = inicio; i < fim; i++) {
+			pagina.add(Usuario.visao(this.armazem, ranking[i]));
+		}
+		return pagina;
+	}
+
+	@Override
+	int posicaoNoRanking(String cpf) {
+		int indice = this.armazem.indiceDe(cpf);
+		return (indice < 0) ? 0 : this.armazem.posicaoPorBonificacao(indice) + 1;
+	}
+
+	@Override
+	String[] paginaEstudantes(String chaveInicial, String chaveFinal, String cpfUltimo, int limite) {
+		int[] ordem = this.armazem.ordemPorChave();
+		int inicio = (chaveInicial == null) ? 0 : this.armazem.primeiraPosicaoComChave(ordem, chaveInicial);
+		int fim = (chaveInicial == null) ? ordem.length : this.armazem.primeiraPosicaoComChave(ordem, chaveFinal);
+		int ultimo = (cpfUltimo == null) ? -1 : this.armazem.indiceDe(cpfUltimo);
+		if (ultimo >= 0 && ultimo < ordem.length) {
+			// Como no repositório comum, um último estudante antes da faixa não muda o início da página,
+			// e um depois dela a deixa vazia.
+			inicio = Math.max(inicio, this.armazem.posicaoDepoisDe(ordem, ultimo));
+		}
+		
+		String[] pagina = new String[(int) Math.max(0, Math.min((long) fim - inicio, limite))];
+		for (int i = 0; i < pagina.length; i++) {
+			pagina[i] = Usuario.visao(this.armazem, ordem[inicio + i]).toString();
+		}
+		return pagina;
+	}
+
+	private Stream<Usuario> visoes(int[] ordem) {
+		return Arrays.stream(ordem).mapToObj(indice -> Usuario.visao(this.armazem, indice));
+	}
+}
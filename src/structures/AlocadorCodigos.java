@@ -0,0 +1,115 @@
+package structures;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Alocador de números únicos, positivos e crescentes dentro de cada thread.
+ *
+ * Os números são reservados em blocos: cada thread recebe um bloco inteiro e aloca dentro dele sem
+ * sincronização, voltando ao alocador só quando o bloco acaba. Assim, a disputa entre threads acontece
+ * uma vez a cada bloco, e não a cada número.
+ *
+ * O bloco de cada thread guarda o alocador que o reservou. Se a thread passar a usar outro alocador,
+ * por exemplo depois de o alocador do sistema ser trocado, o bloco antigo é descartado e um novo é
+ * reservado do alocador em uso, de modo que nenhum número é entregue por um alocador sem ter sido
+ * reservado por ele.
+ *
+ * Quando criado com um arquivo, o alocador grava nele o fim do último bloco reservado antes de entregá-lo.
+ * Depois de reiniciado, continua a partir desse ponto, sem repetir números já entregues; os números
+ * que sobraram nos blocos em uso são descartados.
+ */
+
+public class AlocadorCodigos {
+
+	private static final ThreadLocal<Bloco> BLOCO_DA_THREAD = ThreadLocal.withInitial(Bloco::new);
+
+	private final int tamanhoBloco;
+	private final Path arquivoMarca;
+	private long marca;
+
+	/**
+	 * Cria um alocador em memória, que começa a partir do número 1.
+	 *
+	 * @param tamanhoBloco a quantidade de números reservada por vez para cada thread
+	 * @throws IllegalArgumentException se tamanhoBloco não for positivo
+	 */
+	public AlocadorCodigos(int tamanhoBloco) {
+		this(null, tamanhoBloco);
+	}
+
+	/**
+	 * Cria um alocador que guarda no arquivo informado o fim do último bloco reservado.
+	 * Se o arquivo já existir, o alocador continua a partir do valor gravado nele.
+	 *
+	 * @param arquivoMarca o arquivo da marca, ou null para um alocador apenas em memória
+	 * @param tamanhoBloco a quantidade de números reservada por vez para cada thread
+	 * @throws IllegalArgumentException se tamanhoBloco não for positivo
+	 * @throws UncheckedIOException se não for possível ler o arquivo
+	 */
+	public AlocadorCodigos(Path arquivoMarca, int tamanhoBloco) {
+		if (tamanhoBloco < 1) {
+			throw new IllegalArgumentException("O tamanho do bloco deve ser positivo");
+		}
+		this.tamanhoBloco = tamanhoBloco;
+		this.arquivoMarca = arquivoMarca;
+		this.marca = leMarca();
+	}
+
+	/**
+	 * Aloca o próximo número da thread atual.
+	 *
+	 * @return um número nunca entregue antes por este alocador
+	 * @throws UncheckedIOException se não for possível gravar a marca de um novo bloco
+	 */
+	public long proximo() {
+		Bloco bloco = BLOCO_DA_THREAD.get();
+		if (bloco.alocador != this || bloco.proximo == bloco.fim) {
+			bloco.alocador = this;
+			bloco.fim = reservaBloco();
+			bloco.proximo = bloco.fim - this.tamanhoBloco;
+		}
+		return ++bloco.proximo;
+	}
+
+	private synchronized long reservaBloco() {
+		long novaMarca = this.marca + this.tamanhoBloco;
+		gravaMarca(novaMarca);
+		this.marca = novaMarca;
+		return novaMarca;
+	}
+
+	private long leMarca() {
+		if (this.arquivoMarca == null || !Files.exists(this.arquivoMarca)) {
+			return 0;
+		}
+		try {
+			return Long.parseLong(Files.readString(this.arquivoMarca, StandardCharsets.UTF_8).trim());
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private void gravaMarca(long novaMarca) {
+		if (this.arquivoMarca == null) {
+			return;
+		}
+		try {
+			Path temporario = this.arquivoMarca.resolveSibling(this.arquivoMarca.getFileName() + ".tmp");
+			Files.writeString(temporario, Long.toString(novaMarca), StandardCharsets.UTF_8);
+			Files.move(temporario, this.arquivoMarca, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static class Bloco {
+		private AlocadorCodigos alocador;
+		private long proximo;
+		private long fim;
+	}
+}
@@ -0,0 +1,88 @@
+package structures;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Área de memória fora do heap para guardar textos que só são lidos de vez em quando.
+ *
+ * Os textos são gravados em UTF-8, um depois do outro, em blocos alocados com
+ * {@link ByteBuffer#allocateDirect(int)}, e não ocupam o heap nem são percorridos pelo coletor de lixo.
+ * Cada texto gravado é precedido pelo seu tamanho em bytes e identificado por um endereço,
+ * que junta o número do bloco e a posição no bloco.
+ *
+ * Os textos de uma área nunca são apagados um a um: a área pertence a quem a criou, como uma dica,
+ * e vive tanto quanto ele. Quando a área deixa de ser alcançável, os seus blocos também deixam,
+ * e a memória fora do heap é devolvida quando o coletor os recolhe. Os blocos começam pequenos
+ * e dobram de tamanho até {@value #TAMANHO_BLOCO} bytes, para que uma área com poucos textos
+ * ocupe pouco.
+ *
+ * Gravações são sincronizadas. Leituras não usam trava: os blocos são publicados num vetor volátil,
+ * copiado a cada bloco novo, e o conteúdo já gravado nunca muda. Quem lê precisa ter recebido
+ * o endereço de forma segura entre threads, o que também torna visíveis os bytes gravados antes.
+ */
+
+public class ArenaTextos {
+
+	private static final int TAMANHO_BLOCO_INICIAL = 256;
+	private static final int TAMANHO_BLOCO = 1 << 20;
+
+	private volatile ByteBuffer[] blocos;
+	private ByteBuffer blocoAtual;
+
+	/**
+	 * Cria uma área vazia. Nenhum bloco é alocado antes da primeira gravação.
+	 */
+	public ArenaTextos() {
+		this.blocos = new ByteBuffer[0];
+	}
+
+	/**
+	 * Grava um texto, já codificado em UTF-8, na área.
+	 *
+	 * @param bytes o texto codificado em UTF-8
+	 * @return o endereço do texto, a ser informado na leitura
+	 */
+	public synchronized long grava(byte[] bytes) {
+		int ocupado = Integer.BYTES + bytes.length;
+		if (this.blocoAtual == null || this.blocoAtual.remaining() < ocupado) {
+			int tamanho = (this.blocoAtual == null) ? TAMANHO_BLOCO_INICIAL : Math.min(TAMANHO_BLOCO, 2 * this.blocoAtual.capacity());
+			this.blocoAtual = ByteBuffer.allocateDirect(Math.max(tamanho, ocupado));
+			ByteBuffer[] novosBlocos = Arrays.copyOf(this.blocos, this.blocos.length + 1);
+			novosBlocos[novosBlocos.length - 1] = this.blocoAtual;
+			this.blocos = novosBlocos;
+		}
+		int posicao = this.blocoAtual.position();
+		this.blocoAtual.putInt(bytes.length);
+		this.blocoAtual.put(bytes);
+		return ((long) (this.blocos.length - 1) << 32) | posicao;
+	}
+
+	/**
+	 * Retorna a memória fora do heap reservada pela área, a soma dos tamanhos dos seus blocos.
+	 *
+	 * @return a quantidade de bytes reservados
+	 */
+	public long capacidade() {
+		long capacidade = 0;
+		for (ByteBuffer bloco : this.blocos) {
+			capacidade += bloco.capacity();
+		}
+		return capacidade;
+	}
+
+	/**
+	 * Lê um texto gravado na área.
+	 *
+	 * @param endereco o endereço retornado na gravação
+	 * @return o texto gravado
+	 */
+	public String le(long endereco) {
+		ByteBuffer bloco = this.blocos[(int) (endereco >>> 32)];
+		int posicao = (int) endereco;
+		byte[] bytes = new byte[bloco.getInt(posicao)];
+		bloco.get(posicao + Integer.BYTES, bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
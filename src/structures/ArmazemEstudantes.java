@@ -0,0 +1,694 @@
+package structures;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Armazenamento compacto de estudantes, em colunas, para turmas muito grandes.
+ *
+ * Cada estudante ocupa uma posição das colunas, na ordem de adição, sem nenhum objeto próprio: o CPF fica
+ * empacotado num {@code long}, como em {@link IndiceCpf}, a matrícula de até 17 dígitos também, os nomes
+ * ficam um depois do outro num único vetor de caracteres, as senhas protegidas num único vetor de bytes
+ * e as bonificações num vetor de inteiros. CPFs e matrículas em outros formatos ficam em tabelas auxiliares.
+ * O índice por CPF é uma tabela de endereçamento aberto de CPF empacotado para posição. Cada estudante
+ * tem ainda uma referência para o seu gerenciador de atividades, nula até ser usada.
+ *
+ * A ordem dos estudantes pela chave de nome (o nome sem acentos, em minúsculas e sem espaços nas pontas,
+ * seguido do CPF) é mantida sob demanda: os estudantes adicionados desde a última consulta são ordenados
+ * e mesclados à ordem anterior. A ordem por bonificação é montada a cada consulta, a partir da ordem
+ * por chave, com uma única ordenação de {@code long}.
+ *
+ * O armazenamento pode ser usado por várias threads. Adições e trocas de senha tomam a trava de escrita,
+ * porque as colunas crescem por cópia; as demais operações tomam a trava de leitura, e a soma de bonificação
+ * e a definição do gerenciador são atômicas em cada posição. A senha trocada é gravada no final do vetor
+ * de senhas, e o espaço da anterior não é reaproveitado.
+ *
+ * @param <G> o tipo do gerenciador de atividades guardado com cada estudante
+ */
+
+public class ArmazemEstudantes<G> {
+
+	private static final VarHandle BONIFICACOES = MethodHandles.arrayElementVarHandle(int[].class);
+	private static final VarHandle GERENCIADORES = MethodHandles.arrayElementVarHandle(Object[].class);
+	private static final int CAPACIDADE_INICIAL = 16;
+	private static final int DIGITOS_DA_MATRICULA = 17;
+	private static final int DESLOCAMENTO_TAMANHO_MATRICULA = 57;
+	private static final long FORA_DO_FORMATO = -1;
+	private static final int TAMANHO_MAXIMO_SENHA = 0xffff;
+	private static final char MARCA = '\uffff';
+	private static final char[] DOBRAS = tabelaDeDobras(0x250);
+
+	private long[] cpfs;
+	private long[] matriculas;
+	private int[] iniciosNomes;
+	private char[] nomes;
+	private int[] iniciosSenhas;
+	private byte[] senhas;
+	private int[] bonificacoes;
+	private Object[] gerenciadores;
+	private int quantidade;
+	private int ocupadoSenhas;
+	private Map<Integer, String> foraDoFormato;
+	private long[] chavesCpf;
+	private int[] posicoesCpf;
+	private int ocupadosCpf;
+	private Map<String, Integer> cpfsForaDoFormato;
+	private int[] ordemPorChave;
+	private final ReadWriteLock trava;
+
+	/**
+	 * Cria um armazenamento vazio.
+	 */
+	public ArmazemEstudantes() {
+		this.cpfs = new long[CAPACIDADE_INICIAL];
+		this.matriculas = new long[CAPACIDADE_INICIAL];
+		this.iniciosNomes = new int[CAPACIDADE_INICIAL + 1];
+		this.nomes = new char[CAPACIDADE_INICIAL * 16];
+		this.iniciosSenhas = new int[CAPACIDADE_INICIAL];
+		this.senhas = new byte[CAPACIDADE_INICIAL * 32];
+		this.bonificacoes = new int[CAPACIDADE_INICIAL];
+		this.gerenciadores = new Object[CAPACIDADE_INICIAL];
+		this.foraDoFormato = new HashMap<>();
+		this.chavesCpf = new long[CAPACIDADE_INICIAL * 2];
+		this.posicoesCpf = new int[CAPACIDADE_INICIAL * 2];
+		this.cpfsForaDoFormato = new HashMap<>();
+		this.ordemPorChave = new int[0];
+		this.trava = new ReentrantReadWriteLock();
+	}
+
+	/**
+	 * Adiciona um estudante, se ainda não houver estudante com o mesmo CPF.
+	 *
+	 * @param nome o nome do estudante
+	 * @param cpf o CPF do estudante
+	 * @param senhaProtegida a senha do estudante, já na forma protegida
+	 * @param matricula a matrícula do estudante
+	 * @param bonificacao a bonificação inicial do estudante
+	 * @return a posição do estudante adicionado, ou -1 se já existir estudante com o CPF
+	 */
+	public int adiciona(String nome, String cpf, String senhaProtegida, String matricula, int bonificacao) {
+		this.trava.writeLock().lock();
+		try {
+			long chaveCpf = IndiceCpf.empacota(cpf);
+			if (((chaveCpf < 0) ? buscaForaDoFormato(cpf) : buscaCpf(chaveCpf)) >= 0) {
+				return -1;
+			}
+			int indice = this.quantidade;
+			garanteCapacidade(indice + 1);
+			this.cpfs[indice] = chaveCpf;
+			if (chaveCpf < 0) {
+				this.foraDoFormato.put(chaveForaDoFormato(indice, true), cpf);
+				this.cpfsForaDoFormato.put(cpf, indice);
+			} else {
+				indexaCpf(chaveCpf, indice);
+			}
+			this.matriculas[indice] = empacotaMatricula(matricula);
+			if (this.matriculas[indice] < 0) {
+				this.foraDoFormato.put(chaveForaDoFormato(indice, false), matricula);
+			}
+			int inicioNome = this.iniciosNomes[indice];
+			this.nomes = garanteEspaco(this.nomes, inicioNome + nome.length());
+			nome.getChars(0, nome.length(), this.nomes, inicioNome);
+			this.iniciosNomes[indice + 1] = inicioNome + nome.length();
+			gravaSenha(indice, senhaProtegida);
+			this.bonificacoes[indice] = bonificacao;
+			this.quantidade = indice + 1;
+			return indice;
+		} finally {
+			this.trava.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Retorna a quantidade de estudantes.
+	 *
+	 * @return a quantidade de estudantes
+	 */
+	public int tamanho() {
+		this.trava.readLock().lock();
+		try {
+			return this.quantidade;
+		} finally {
+			this.trava.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Busca a posição do estudante com o CPF informado.
+	 *
+	 * @param cpf o CPF procurado
+	 * @return a posição do estudante, ou -1 se não houver estudante com o CPF
+	 */
+	public int indiceDe(String cpf) {
+		long chaveCpf = IndiceCpf.empacota(cpf);
+		this.trava.readLock().lock();
+		try {
+			return (chaveCpf < 0) ? buscaForaDoFormato(cpf) : buscaCpf(chaveCpf);
+		} finally {
+			this.trava.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Retorna o nome do estudante da posição informada.
+	 *
+	 * @param indice a posição do estudante
+	 * @return o nome do estudante
+	 */
+	public String nome(int indice) {
+		this.trava.readLock().lock();
+		try {
+			int inicio = this.iniciosNomes[indice];
+			return new String(this.nomes, inicio, this.iniciosNomes[indice + 1] - inicio);
+		} finally {
+			this.trava.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Retorna o CPF do estudante da posição informada, no formato em que foi adicionado.
+	 *
+	 * @param indice a posição do estudante
+	 * @return o CPF do estudante
+	 */
+	public String cpf(int indice) {
+		this.trava.readLock().lock();
+		try {
+			return cpfSemTrava(indice);
+		} finally {
+			this.trava.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Retorna a matrícula do estudante da posição informada.
+	 *
+	 * @param indice a posição do estudante
+	 * @return a matrícula do estudante
+	 */
+	public String matricula(int indice) {
+		this.trava.readLock().lock();
+		try {
+			long matricula = this.matriculas[indice];
+			return (matricula < 0) ? this.foraDoFormato.get(chaveForaDoFormato(indice, false)) : desempacotaMatricula(matricula);
+		} finally {
+			this.trava.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Retorna a senha protegida do estudante da posição informada.
+	 *
+	 * @param indice a posição do estudante
+	 * @return a senha do estudante, na forma protegida
+	 */
+	public String senha(int indice) {
+		this.trava.readLock().lock();
+		try {
+			int inicio = this.iniciosSenhas[indice];
+			int tamanho = ((this.senhas[inicio] & 0xff) << 8) | (this.senhas[inicio + 1] & 0xff);
+			return new String(this.senhas, inicio + 2, tamanho, StandardCharsets.UTF_8);
+		} finally {
+			this.trava.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Troca a senha protegida do estudante da posição informada.
+	 *
+	 * @param indice a posição do estudante
+	 * @param senhaProtegida a nova senha, já na forma protegida
+	 * @throws IllegalArgumentException se a senha protegida passar de 65535 bytes em UTF-8
+	 */
+	public void defineSenha(int indice, String senhaProtegida) {
+		this.trava.writeLock().lock();
+		try {
+			gravaSenha(indice, senhaProtegida);
+		} finally {
+			this.trava.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Retorna a bonificação do estudante da posição informada.
+	 *
+	 * @param indice a posição do estudante
+	 * @return a bonificação do estudante
+	 */
+	public int bonificacao(int indice) {
+		this.trava.readLock().lock();
+		try {
+			return (int) BONIFICACOES.getVolatile(this.bonificacoes, indice);
+		} finally {
+			this.trava.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Soma um valor à bonificação do estudante da posição informada, de forma atômica.
+	 *
+	 * @param indice a posição do estudante
+	 * @param bonificacao o valor a ser somado
+	 * @return a bonificação anterior do estudante
+	 */
+	public int somaBonificacao(int indice, int bonificacao) {
+		this.trava.readLock().lock();
+		try {
+			return (int) BONIFICACOES.getAndAdd(this.bonificacoes, indice, bonificacao);
+		} finally {
+			this.trava.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Retorna o gerenciador de atividades do estudante da posição informada.
+	 *
+	 * @param indice a posição do estudante
+	 * @return o gerenciador do estudante, ou null se ainda não houver um
+	 */
+	@SuppressWarnings("unchecked")
+	public G gerenciador(int indice) {
+		this.trava.readLock().lock();
+		try {
+			return (G) GERENCIADORES.getVolatile(this.gerenciadores, indice);
+		} finally {
+			this.trava.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Define o gerenciador de atividades do estudante da posição informada, se ele ainda não tiver um.
+	 *
+	 * @param indice a posição do estudante
+	 * @param gerenciador o gerenciador a ser definido
+	 * @return o gerenciador do estudante: o informado, ou o que ele já tinha
+	 */
+	@SuppressWarnings("unchecked")
+	public G defineGerenciadorSeAusente(int indice, G gerenciador) {
+		this.trava.readLock().lock();
+		try {
+			Object anterior = GERENCIADORES.compareAndExchange(this.gerenciadores, indice, (Object) null, (Object) gerenciador);
+			return (anterior == null) ? gerenciador : (G) anterior;
+		} finally {
+			this.trava.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Retorna as posições de todos os estudantes, em ordem de chave de nome.
+	 * O vetor retornado é compartilhado com as consultas seguintes e não deve ser alterado.
+	 *
+	 * @return as posições dos estudantes, em ordem de chave de nome
+	 */
+	public synchronized int[] ordemPorChave() {
+		this.trava.readLock().lock();
+		try {
+			int ordenados = this.ordemPorChave.length;
+			if (ordenados == this.quantidade) {
+				return this.ordemPorChave;
+			}
+			int[] novos = new int[this.quantidade - ordenados];
+			Arrays.setAll(novos, i -> ordenados + i);
+			ordena(novos, new int[novos.length], 0, novos.length);
+			this.ordemPorChave = mescla(this.ordemPorChave, novos);
+			return this.ordemPorChave;
+		} finally {
+			this.trava.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Retorna as posições de todos os estudantes, em ordem decrescente de bonificação e, entre os de mesma
+	 * bonificação, em ordem de chave de nome.
+	 *
+	 * @return as posições dos estudantes, em ordem de bonificação
+	 */
+	public int[] ordemPorBonificacao() {
+		int[] ordem = ordemPorChave();
+		long[] chaves = new long[ordem.length];
+		this.trava.readLock().lock();
+		try {
+			for (int posto = 0; posto < ordem.length; posto++) {
+				chaves[posto] = ((long) ~bonificacaoSemTrava(ordem[posto]) << 32) | posto;
+			}
+		} finally {
+			this.trava.readLock().unlock();
+		}
+		Arrays.sort(chaves);
+		int[] ranking = new int[ordem.length];
+		for (int i = 0; i < ranking.length; i++) {
+			ranking[i] = ordem[(int) chaves[i]];
+		}
+		return ranking;
+	}
+
+	/**
+	 * Retorna a posição (a partir de 0) do estudante na ordem por bonificação, sem montá-la:
+	 * conta os estudantes que vêm antes dele.
+	 *
+	 * @param indice a posição do estudante no armazenamento
+	 * @return a posição do estudante na ordem por bonificação
+	 */
+	public int posicaoPorBonificacao(int indice) {
+		int[] ordem = ordemPorChave();
+		this.trava.readLock().lock();
+		try {
+			int postoDoEstudante = posicaoDepoisDeSemTrava(ordem, indice) - 1;
+			int bonificacao = bonificacaoSemTrava(indice);
+			int antes = 0;
+			for (int posto = 0; posto < ordem.length; posto++) {
+				int outra = bonificacaoSemTrava(ordem[posto]);
+				if (outra > bonificacao || (outra == bonificacao && posto < postoDoEstudante)) {
+					antes++;
+				}
+			}
+			return antes;
+		} finally {
+			this.trava.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Busca binária, numa ordem retornada por {@link #ordemPorChave()}, pela primeira posição cuja chave
+	 * de nome não é menor que a chave informada.
+	 *
+	 * @param ordem uma ordem por chave
+	 * @param chave a chave procurada: um nome já normalizado, seguido ou não do separador e do CPF
+	 * @return a primeira posição da ordem com chave maior ou igual à informada, ou o tamanho da ordem
+	 */
+	public int primeiraPosicaoComChave(int[] ordem, String chave) {
+		this.trava.readLock().lock();
+		try {
+			int inicio = 0;
+			int fim = ordem.length;
+			while (inicio < fim) {
+				int meio = (inicio + fim) >>> 1;
+				if (comparaChave(ordem[meio], chave) < 0) {
+					inicio = meio + 1;
+				} else {
+					fim = meio;
+				}
+			}
+			return inicio;
+		} finally {
+			this.trava.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Busca binária, numa ordem retornada por {@link #ordemPorChave()}, pela primeira posição cuja chave
+	 * de nome é maior que a do estudante informado.
+	 *
+	 * @param ordem uma ordem por chave
+	 * @param indice a posição do estudante no armazenamento
+	 * @return a primeira posição da ordem depois do estudante, ou o tamanho da ordem
+	 */
+	public int posicaoDepoisDe(int[] ordem, int indice) {
+		this.trava.readLock().lock();
+		try {
+			return posicaoDepoisDeSemTrava(ordem, indice);
+		} finally {
+			this.trava.readLock().unlock();
+		}
+	}
+
+	private int posicaoDepoisDeSemTrava(int[] ordem, int indice) {
+		int inicio = 0;
+		int fim = ordem.length;
+		while (inicio < fim) {
+			int meio = (inicio + fim) >>> 1;
+			if (comparaChaves(ordem[meio], indice) <= 0) {
+				inicio = meio + 1;
+			} else {
+				fim = meio;
+			}
+		}
+		return inicio;
+	}
+
+	private int bonificacaoSemTrava(int indice) {
+		return (int) BONIFICACOES.getVolatile(this.bonificacoes, indice);
+	}
+
+	private String cpfSemTrava(int indice) {
+		long cpf = this.cpfs[indice];
+		return (cpf < 0) ? this.foraDoFormato.get(chaveForaDoFormato(indice, true)) : IndiceCpf.desempacota(cpf);
+	}
+
+	/**
+	 * Compara as chaves de nome de dois estudantes: os nomes dobrados caractere a caractere e, se forem
+	 * iguais, os CPFs. Um nome que é prefixo do outro vem antes, como na chave com o separador nulo.
+	 */
+	private int comparaChaves(int indice, int outro) {
+		int i = inicioSemEspacos(indice);
+		int fimI = fimSemEspacos(indice, i);
+		int j = inicioSemEspacos(outro);
+		int fimJ = fimSemEspacos(outro, j);
+		while (true) {
+			while (i < fimI && dobra(this.nomes[i]) == MARCA) i++;
+			while (j < fimJ && dobra(this.nomes[j]) == MARCA) j++;
+			if (i == fimI || j == fimJ) {
+				break;
+			}
+			int diferenca = dobra(this.nomes[i++]) - dobra(this.nomes[j++]);
+			if (diferenca != 0) {
+				return diferenca;
+			}
+		}
+		if (i < fimI) {
+			return 1;
+		}
+		if (j < fimJ) {
+			return -1;
+		}
+		return cpfSemTrava(indice).compareTo(cpfSemTrava(outro));
+	}
+
+	/**
+	 * Compara a chave de nome do estudante, o nome dobrado seguido do caractere nulo e do CPF,
+	 * com uma chave já normalizada.
+	 */
+	private int comparaChave(int indice, String chave) {
+		int posicao = 0;
+		int i = inicioSemEspacos(indice);
+		int fim = fimSemEspacos(indice, i);
+		for (; i < fim; i++) {
+			char dobrado = dobra(this.nomes[i]);
+			if (dobrado == MARCA) {
+				continue;
+			}
+			if (posicao == chave.length()) {
+				return 1;
+			}
+			int diferenca = dobrado - chave.charAt(posicao++);
+			if (diferenca != 0) {
+				return diferenca;
+			}
+		}
+		String resto = '\u0000' + cpfSemTrava(indice);
+		for (int r = 0; r < resto.length(); r++) {
+			if (posicao == chave.length()) {
+				return 1;
+			}
+			int diferenca = resto.charAt(r) - chave.charAt(posicao++);
+			if (diferenca != 0) {
+				return diferenca;
+			}
+		}
+		return (posicao == chave.length()) ? 0 : -1;
+	}
+
+	private int inicioSemEspacos(int indice) {
+		int inicio = this.iniciosNomes[indice];
+		int fim = this.iniciosNomes[indice + 1];
+		while (inicio < fim && this.nomes[inicio] <= ' ') inicio++;
+		return inicio;
+	}
+
+	private int fimSemEspacos(int indice, int inicio) {
+		int fim = this.iniciosNomes[indice + 1];
+		while (fim > inicio && this.nomes[fim - 1] <= ' ') fim--;
+		return fim;
+	}
+
+	private void ordena(int[] indices, int[] auxiliar, int inicio, int fim) {
+		if (fim - inicio < 2) {
+			return;
+		}
+		int meio = (inicio + fim) >>> 1;
+		ordena(indices, auxiliar, inicio, meio);
+		ordena(indices, auxiliar, meio, fim);
+		if (comparaChaves(indices[meio - 1], indices[meio]) <= 0) {
+			return;
+		}
+		System.arraycopy(indices, inicio, auxiliar, inicio, fim - inicio);
+		int i = inicio;
+		int j = meio;
+		for (int k = inicio; k < fim; k++) {
+			if (j == fim || (i < meio && comparaChaves(auxiliar[i], auxiliar[j]) <= 0)) {
+				indices[k] = auxiliar[i++];
+			} else {
+				indices[k] = auxiliar[j++];
+			}
+		}
+	}
+
+	private int[] mescla(int[] anteriores, int[] novos) {
+		int[] ordem = new int[anteriores.length + novos.length];
+		int i = 0;
+		int j = 0;
+		for (int k = 0; k < ordem.length; k++) {
+			if (j == novos.length || (i < anteriores.length && comparaChaves(anteriores[i], novos[j]) <= 0)) {
+				ordem[k] = anteriores[i++];
+			} else {
+				ordem[k] = novos[j++];
+			}
+		}
+		return ordem;
+	}
+
+	private void gravaSenha(int indice, String senhaProtegida) {
+		byte[] bytes = senhaProtegida.getBytes(StandardCharsets.UTF_8);
+		if (bytes.length > TAMANHO_MAXIMO_SENHA) {
+			throw new IllegalArgumentException("Senha protegida grande demais para o armazenamento compacto");
+		}
+		this.senhas = garanteEspaco(this.senhas, this.ocupadoSenhas + 2 + bytes.length);
+		this.iniciosSenhas[indice] = this.ocupadoSenhas;
+		this.senhas[this.ocupadoSenhas] = (byte) (bytes.length >>> 8);
+		this.senhas[this.ocupadoSenhas + 1] = (byte) bytes.length;
+		System.arraycopy(bytes, 0, this.senhas, this.ocupadoSenhas + 2, bytes.length);
+		this.ocupadoSenhas += 2 + bytes.length;
+	}
+
+	private void garanteCapacidade(int capacidade) {
+		if (capacidade <= this.cpfs.length) {
+			return;
+		}
+		int nova = this.cpfs.length * 2;
+		this.cpfs = Arrays.copyOf(this.cpfs, nova);
+		this.matriculas = Arrays.copyOf(this.matriculas, nova);
+		this.iniciosNomes = Arrays.copyOf(this.iniciosNomes, nova + 1);
+		this.iniciosSenhas = Arrays.copyOf(this.iniciosSenhas, nova);
+		this.bonificacoes = Arrays.copyOf(this.bonificacoes, nova);
+		this.gerenciadores = Arrays.copyOf(this.gerenciadores, nova);
+	}
+
+	private static char[] garanteEspaco(char[] vetor, int tamanho) {
+		return (tamanho <= vetor.length) ? vetor : Arrays.copyOf(vetor, Math.max(tamanho, vetor.length * 2));
+	}
+
+	private static byte[] garanteEspaco(byte[] vetor, int tamanho) {
+		return (tamanho <= vetor.length) ? vetor : Arrays.copyOf(vetor, Math.max(tamanho, vetor.length * 2));
+	}
+
+	private int buscaCpf(long chave) {
+		int posicao = procuraCpf(this.chavesCpf, this.posicoesCpf, chave);
+		return this.posicoesCpf[posicao] - 1;
+	}
+
+	private int buscaForaDoFormato(String cpf) {
+		Integer indice = this.cpfsForaDoFormato.get(cpf);
+		return (indice == null) ? -1 : indice;
+	}
+
+	private void indexaCpf(long chave, int indice) {
+		int posicao = procuraCpf(this.chavesCpf, this.posicoesCpf, chave);
+		this.chavesCpf[posicao] = chave;
+		this.posicoesCpf[posicao] = indice + 1;
+		this.ocupadosCpf++;
+		if (this.ocupadosCpf * 3 > this.chavesCpf.length * 2) {
+			long[] novasChaves = new long[this.chavesCpf.length * 2];
+			int[] novasPosicoes = new int[this.posicoesCpf.length * 2];
+			for (int i = 0; i < this.chavesCpf.length; i++) {
+				if (this.posicoesCpf[i] != 0) {
+					int nova = procuraCpf(novasChaves, novasPosicoes, this.chavesCpf[i]);
+					novasChaves[nova] = this.chavesCpf[i];
+					novasPosicoes[nova] = this.posicoesCpf[i];
+				}
+			}
+			this.chavesCpf = novasChaves;
+			this.posicoesCpf = novasPosicoes;
+		}
+	}
+
+	private static int procuraCpf(long[] chaves, int[] posicoes, long chave) {
+		int mascara = chaves.length - 1;
+		long misturado = chave * 0x9E3779B97F4A7C15L;
+		int posicao = (int) (misturado ^ (misturado >>> 32)) & mascara;
+		while (posicoes[posicao] != 0 && chaves[posicao] != chave) {
+			posicao = (posicao + 1) & mascara;
+		}
+		return posicao;
+	}
+
+	private static Integer chaveForaDoFormato(int indice, boolean cpf) {
+		return cpf ? indice : ~indice;
+	}
+
+	/**
+	 * Empacota uma matrícula de 1 a 17 dígitos num long: o número de dígitos nos bits mais altos,
+	 * para preservar zeros à esquerda, e o valor nos demais.
+	 *
+	 * @return a matrícula empacotada, ou -1 se ela tiver outros caracteres ou dígitos demais
+	 */
+	private static long empacotaMatricula(String matricula) {
+		if (matricula.isEmpty() || matricula.length() > DIGITOS_DA_MATRICULA) {
+			return FORA_DO_FORMATO;
+		}
+		long valor = 0;
+		for (int i = 0; i < matricula.length(); i++) {
+			char c = matricula.charAt(i);
+			if (c < '0' || c > '9') {
+				return FORA_DO_FORMATO;
+			}
+			valor = valor * 10 + (c - '0');
+		}
+		return ((long) matricula.length() << DESLOCAMENTO_TAMANHO_MATRICULA) | valor;
+	}
+
+	private static String desempacotaMatricula(long matricula) {
+		char[] digitos = new char[(int) (matricula >>> DESLOCAMENTO_TAMANHO_MATRICULA)];
+		long valor = matricula & ((1L << DESLOCAMENTO_TAMANHO_MATRICULA) - 1);
+		for (int i = digitos.length - 1; i >= 0; i--) {
+			digitos[i] = (char) ('0' + valor % 10);
+			valor /= 10;
+		}
+		return new String(digitos);
+	}
+
+	/**
+	 * Dobra um caractere do nome como a normalização da chave de nome: sem acentos e em minúsculas.
+	 * Marcas de acentuação soltas viram {@link #MARCA} e são ignoradas na comparação.
+	 */
+	private static char dobra(char c) {
+		if (c < DOBRAS.length) {
+			return DOBRAS[c];
+		}
+		switch (Character.getType(c)) {
+		case Character.NON_SPACING_MARK:
+		case Character.ENCLOSING_MARK:
+		case Character.COMBINING_SPACING_MARK:
+			return MARCA;
+		default:
+			return Character.toLowerCase(c);
+		}
+	}
+
+	private static char[] tabelaDeDobras(int tamanho) {
+		char[] dobras = new char[tamanho];
+		for (char c = 0; c < tamanho; c++) {
+			String dobrado = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD).replaceAll("\\p{M}", "")
+					.toLowerCase(Locale.ROOT);
+			dobras[c] = dobrado.isEmpty() ? MARCA : (dobrado.length() == 1) ? dobrado.charAt(0) : Character.toLowerCase(c);
+		}
+		return dobras;
+	}
+}
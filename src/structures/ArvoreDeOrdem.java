@@ -0,0 +1,292 @@
+package structures;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Árvore de busca balanceada (treap) em que cada nó guarda o tamanho da sua subárvore.
+ * Além de inserção e remoção ordenadas, permite descobrir a posição de um elemento
+ * e acessar o elemento de uma posição em O(log n).
+ *
+ * Elementos considerados iguais pelo comparador não são duplicados.
+ *
+ * @param <T> o tipo dos elementos guardados
+ */
+
+public class ArvoreDeOrdem<T> implements Iterable<T> {
+
+	private final Comparator<? super T> comparador;
+	private No<T> raiz;
+
+	/**
+	 * Cria uma árvore vazia, ordenada pelo comparador informado.
+	 *
+	 * @param comparador o comparador que define a ordem dos elementos
+	 */
+	public ArvoreDeOrdem(Comparator<? super T> comparador) {
+		this.comparador = comparador;
+	}
+
+	/**
+	 * Retorna a quantidade de elementos na árvore.
+	 *
+	 * @return a quantidade de elementos
+	 */
+	public int tamanho() {
+		return tamanho(this.raiz);
+	}
+
+	/**
+	 * Adiciona um elemento à árvore.
+	 *
+	 * @param elemento o elemento a ser adicionado
+	 * @return true se o elemento foi adicionado, false se já existia um elemento igual
+	 */
+	public boolean adiciona(T elemento) {
+		if (contem(elemento)) {
+			return false;
+		}
+		this.raiz = adiciona(this.raiz, new No<>(elemento));
+		return true;
+	}
+
+	/**
+	 * Remove um elemento da árvore.
+	 *
+	 * @param elemento o elemento a ser removido
+	 * @return true se o elemento foi removido, false se ele não existia
+	 */
+	public boolean remove(T elemento) {
+		if (!contem(elemento)) {
+			return false;
+		}
+		this.raiz = remove(this.raiz, elemento);
+		return true;
+	}
+
+	/**
+	 * Verifica se a árvore contém um elemento igual ao informado.
+	 *
+	 * @param elemento o elemento procurado
+	 * @return true se existir um elemento igual, false caso contrário
+	 */
+	public boolean contem(T elemento) {
+		return posicao(elemento) >= 0;
+	}
+
+	/**
+	 * Retorna a posição (0-based) do elemento na ordem da árvore.
+	 *
+	 * @param elemento o elemento procurado
+	 * @return a posição do elemento, ou -1 se ele não existir
+	 */
+	public int posicao(T elemento) {
+		int antes = 0;
+		No<T> atual = this.raiz;
+		while (atual != null) {
+			int comparacao = this.comparador.compare(elemento, atual.valor);
+			if (comparacao == 0) {
+				return antes + tamanho(atual.esquerda);
+			}
+			if (comparacao < 0) {
+				atual = atual.esquerda;
+			} else {
+				antes += tamanho(atual.esquerda) + 1;
+				atual = atual.direita;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Retorna a posição (0-based) do primeiro elemento que vem depois do elemento informado na ordem
+	 * da árvore, ou seja, a quantidade de elementos menores ou iguais a ele. O elemento não precisa
+	 * estar na árvore.
+	 *
+	 * @param elemento o elemento de referência
+	 * @return a posição do primeiro elemento maior que o informado, ou o tamanho da árvore se não houver
+	 */
+	public int posicaoDepoisDe(T elemento) {
+		int antes = 0;
+		No<T> atual = this.raiz;
+		while (atual != null) {
+			if (this.comparador.compare(elemento, atual.valor) < 0) {
+				atual = atual.esquerda;
+			} else {
+				antes += tamanho(atual.esquerda) + 1;
+				atual = atual.direita;
+			}
+		}
+		return antes;
+	}
+
+	/**
+	 * Retorna o elemento na posição (0-based) informada.
+	 *
+	 * @param posicao a posição do elemento
+	 * @return o elemento na posição
+	 * @throws IndexOutOfBoundsException se a posição for inválida
+	 */
+	public T busca(int posicao) {
+		if (posicao < 0 || posicao >= tamanho()) {
+			throw new IndexOutOfBoundsException(posicao);
+		}
+		No<T> atual = this.raiz;
+		while (true) {
+			int tamanhoEsquerda = tamanho(atual.esquerda);
+			if (posicao == tamanhoEsquerda) {
+				return atual.valor;
+			}
+			if (posicao < tamanhoEsquerda) {
+				atual = atual.esquerda;
+			} else {
+				posicao -= tamanhoEsquerda + 1;
+				atual = atual.direita;
+			}
+		}
+	}
+
+	/**
+	 * Percorre os elementos em ordem, a partir da posição (0-based) informada.
+	 * Posicionar o iterador custa O(log n) e cada avanço custa O(1) amortizado.
+	 *
+	 * @param posicao a posição do primeiro elemento percorrido
+	 * @return um iterador sobre os elementos a partir da posição
+	 */
+	public Iterator<T> iteradorAPartirDe(int posicao) {
+		return new Iterador(posicao);
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		return iteradorAPartirDe(0);
+	}
+
+	private No<T> adiciona(No<T> no, No<T> novo) {
+		if (no == null) {
+			return novo;
+		}
+		if (this.comparador.compare(novo.valor, no.valor) < 0) {
+			no.esquerda = adiciona(no.esquerda, novo);
+			if (no.esquerda.prioridade > no.prioridade) {
+				no = rotacionaDireita(no);
+			}
+		} else {
+			no.direita = adiciona(no.direita, novo);
+			if (no.direita.prioridade > no.prioridade) {
+				no = rotacionaEsquerda(no);
+			}
+		}
+		atualiza(no);
+		return no;
+	}
+
+	private No<T> remove(No<T> no, T elemento) {
+		int comparacao = this.comparador.compare(elemento, no.valor);
+		if (comparacao < 0) {
+			no.esquerda = remove(no.esquerda, elemento);
+		} else if (comparacao > 0) {
+			no.direita = remove(no.direita, elemento);
+		} else {
+			return junta(no.esquerda, no.direita);
+		}
+		atualiza(no);
+		return no;
+	}
+
+	private No<T> junta(No<T> esquerda, No<T> direita) {
+		if (esquerda == null) return direita;
+		if (direita == null) return esquerda;
+
+		if (esquerda.prioridade > direita.prioridade) {
+			esquerda.direita = junta(esquerda.direita, direita);
+			atualiza(esquerda);
+			return esquerda;
+		}
+		direita.esquerda = junta(esquerda, direita.esquerda);
+		atualiza(direita);
+		return direita;
+	}
+
+	private No<T> rotacionaDireita(No<T> no) {
+		No<T> novaRaiz = no.esquerda;
+		no.esquerda = novaRaiz.direita;
+		novaRaiz.direita = no;
+		atualiza(no);
+		atualiza(novaRaiz);
+		return novaRaiz;
+	}
+
+	private No<T> rotacionaEsquerda(No<T> no) {
+		No<T> novaRaiz = no.direita;
+		no.direita = novaRaiz.esquerda;
+		novaRaiz.esquerda = no;
+		atualiza(no);
+		atualiza(novaRaiz);
+		return novaRaiz;
+	}
+
+	private void atualiza(No<T> no) {
+		no.tamanho = 1 + tamanho(no.esquerda) + tamanho(no.direita);
+	}
+
+	private int tamanho(No<T> no) {
+		return (no == null) ? 0 : no.tamanho;
+	}
+
+	private static class No<T> {
+		private final T valor;
+		private final int prioridade;
+		private int tamanho;
+		private No<T> esquerda;
+		private No<T> direita;
+
+		No(T valor) {
+			this.valor = valor;
+			this.prioridade = ThreadLocalRandom.current().nextInt();
+			this.tamanho = 1;
+		}
+	}
+
+	private class Iterador implements Iterator<T> {
+
+		private final Deque<No<T>> pilha = new ArrayDeque<>();
+
+		Iterador(int posicao) {
+			No<T> atual = raiz;
+			while (atual != null) {
+				int tamanhoEsquerda = tamanho(atual.esquerda);
+				if (posicao <= tamanhoEsquerda) {
+					this.pilha.push(atual);
+					atual = atual.esquerda;
+				} else {
+					posicao -= tamanhoEsquerda + 1;
+					atual = atual.direita;
+				}
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return !this.pilha.isEmpty();
+		}
+
+		@Override
+		public T next() {
+			if (this.pilha.isEmpty()) {
+				throw new NoSuchElementException();
+			}
+			No<T> proximo = this.pilha.pop();
+			No<T> atual = proximo.direita;
+			while (atual != null) {
+				this.pilha.push(atual);
+				atual = atual.esquerda;
+			}
+			return proximo.valor;
+		}
+	}
+}
@@ -0,0 +1,193 @@
+package structures;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Tabela de espalhamento compacta indexada por CPF.
+ *
+ * CPFs no formato {@code 12345678910} ou {@code 123.456.789-10} são empacotados num {@code long}
+ * e guardados em vetores primitivos com endereçamento aberto, sem um objeto de entrada por CPF.
+ * CPFs em qualquer outro formato ficam numa tabela auxiliar comum.
+ *
+ * @param <V> o tipo dos valores indexados
+ */
+
+public class IndiceCpf<V> {
+
+	private static final int CAPACIDADE_INICIAL = 16;
+	private static final int DIGITOS_DO_CPF = 11;
+	private static final String FORMATO_PONTUADO = "ddd.ddd.ddd-dd";
+
+	private long[] chaves;
+	private Object[] valores;
+	private int ocupados;
+	private Map<String, V> foraDoFormato;
+
+	/**
+	 * Cria um índice vazio.
+	 */
+	public IndiceCpf() {
+		this.chaves = new long[CAPACIDADE_INICIAL];
+		this.valores = new Object[CAPACIDADE_INICIAL];
+		this.ocupados = 0;
+	}
+
+	/**
+	 * Retorna a quantidade de CPFs indexados.
+	 *
+	 * @return a quantidade de CPFs
+	 */
+	public int tamanho() {
+		return this.ocupados + ((this.foraDoFormato == null) ? 0 : this.foraDoFormato.size());
+	}
+
+	/**
+	 * Busca o valor associado ao CPF.
+	 *
+	 * @param cpf o CPF procurado
+	 * @return o valor associado, ou null se o CPF não estiver indexado
+	 */
+	@SuppressWarnings("unchecked")
+	public V busca(String cpf) {
+		long chave = empacota(cpf);
+		if (chave < 0) {
+			return (this.foraDoFormato == null) ? null : this.foraDoFormato.get(cpf);
+		}
+		int posicao = procura(this.chaves, this.valores, chave);
+		return (V) this.valores[posicao];
+	}
+
+	/**
+	 * Verifica se o CPF está indexado.
+	 *
+	 * @param cpf o CPF procurado
+	 * @return true se o CPF estiver indexado, false caso contrário
+	 */
+	public boolean contem(String cpf) {
+		return busca(cpf) != null;
+	}
+
+	/**
+	 * Associa o valor ao CPF, substituindo o valor anterior, se houver.
+	 *
+	 * @param cpf o CPF
+	 * @param valor o valor a ser associado, não nulo
+	 * @return o valor anterior, ou null se o CPF não estava indexado
+	 */
+	public V adiciona(String cpf, V valor) {
+		return adiciona(cpf, valor, true);
+	}
+
+	/**
+	 * Associa o valor ao CPF apenas se o CPF ainda não estiver indexado.
+	 *
+	 * @param cpf o CPF
+	 * @param valor o valor a ser associado, não nulo
+	 * @return o valor já associado ao CPF, ou null se o valor foi adicionado
+	 */
+	public V adicionaSeAusente(String cpf, V valor) {
+		return adiciona(cpf, valor, false);
+	}
+
+	@SuppressWarnings("unchecked")
+	private V adiciona(String cpf, V valor, boolean substitui) {
+		long chave = empacota(cpf);
+		if (chave < 0) {
+			if (this.foraDoFormato == null) {
+				this.foraDoFormato = new HashMap<>();
+			}
+			return substitui ? this.foraDoFormato.put(cpf, valor) : this.foraDoFormato.putIfAbsent(cpf, valor);
+		}
+
+		int posicao = procura(this.chaves, this.valores, chave);
+		V anterior = (V) this.valores[posicao];
+		if (anterior != null && !substitui) {
+			return anterior;
+		}
+		if (anterior == null) {
+			this.chaves[posicao] = chave;
+			this.ocupados++;
+		}
+		this.valores[posicao] = valor;
+		if (this.ocupados * 3 > this.chaves.length * 2) {
+			redimensiona();
+		}
+		return anterior;
+	}
+
+	private void redimensiona() {
+		long[] novasChaves = new long[this.chaves.length * 2];
+		Object[] novosValores = new Object[this.valores.length * 2];
+		for (int i = 0; i < this.chaves.length; i++) {
+			if (this.valores[i] != null) {
+				int posicao = procura(novasChaves, novosValores, this.chaves[i]);
+				novasChaves[posicao] = this.chaves[i];
+				novosValores[posicao] = this.valores[i];
+			}
+		}
+		this.chaves = novasChaves;
+		this.valores = novosValores;
+	}
+
+	private static int procura(long[] chaves, Object[] valores, long chave) {
+		int mascara = chaves.length - 1;
+		int posicao = espalha(chave) & mascara;
+		while (valores[posicao] != null && chaves[posicao] != chave) {
+			posicao = (posicao + 1) & mascara;
+		}
+		return posicao;
+	}
+
+	private static int espalha(long chave) {
+		long misturado = chave * 0x9E3779B97F4A7C15L;
+		return (int) (misturado ^ (misturado >>> 32));
+	}
+
+	/**
+	 * Empacota um CPF de 11 dígitos num long, reservando o bit menos significativo para
+	 * distinguir o formato pontuado do formato só com dígitos.
+	 *
+	 * @return o CPF empacotado, ou -1 se o CPF não estiver num dos formatos aceitos
+	 */
+	static long empacota(String cpf) {
+		if (cpf == null) {
+			return -1;
+		}
+		boolean pontuado = cpf.length() == FORMATO_PONTUADO.length();
+		if (!pontuado && cpf.length() != DIGITOS_DO_CPF) {
+			return -1;
+		}
+
+		long digitos = 0;
+		for (int i = 0; i < cpf.length(); i++) {
+			char c = cpf.charAt(i);
+			char esperado = pontuado ? FORMATO_PONTUADO.charAt(i) : 'd';
+			if (esperado == 'd') {
+				if (c < '0' || c > '9') return -1;
+				digitos = digitos * 10 + (c - '0');
+			} else if (c != esperado) {
+				return -1;
+			}
+		}
+		return (digitos << 1) | (pontuado ? 1 : 0);
+	}
+
+	/**
+	 * Recria o CPF empacotado por {@link #empacota(String)}, no mesmo formato.
+	 *
+	 * @return o CPF
+	 */
+	static String desempacota(long chave) {
+		boolean pontuado = (chave & 1) != 0;
+		long digitos = chave >>> 1;
+		char[] cpf = (pontuado ? FORMATO_PONTUADO : "ddddddddddd").toCharArray();
+		for (int i = cpf.length - 1; i >= 0; i--) {
+			if (cpf[i] == 'd') {
+				cpf[i] = (char) ('0' + digitos % 10);
+				digitos /= 10;
+			}
+		}
+		return new String(cpf);
+	}
+}
@@ -0,0 +1,107 @@
+package structures;
+
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice por CPF seguro para uso concorrente.
+ *
+ * Os CPFs são distribuídos entre várias partições, cada uma com o seu próprio {@link IndiceCpf}
+ * e a sua própria trava de leitura e escrita. Operações sobre CPFs de partições diferentes
+ * não disputam a mesma trava, e a adição condicional é atômica dentro da partição.
+ *
+ * @param <V> o tipo dos valores indexados
+ */
+
+public class IndiceCpfParticionado<V> {
+
+	private final IndiceCpf<V>[] particoes;
+	private final ReadWriteLock[] travas;
+	private final int mascara;
+
+	/**
+	 * Cria um índice vazio.
+	 *
+	 * @param quantidadeParticoes a quantidade mínima de partições, arredondada para a próxima potência de 2
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	public IndiceCpfParticionado(int quantidadeParticoes) {
+		int quantidade = Integer.highestOneBit(Math.max(1, quantidadeParticoes - 1)) << 1;
+		this.particoes = new IndiceCpf[quantidade];
+		this.travas = new ReadWriteLock[quantidade];
+		for (int i = 0; i < quantidade; i++) {
+			this.particoes[i] = new IndiceCpf<>();
+			this.travas[i] = new ReentrantReadWriteLock();
+		}
+		this.mascara = quantidade - 1;
+	}
+
+	/**
+	 * Busca o valor associado ao CPF.
+	 *
+	 * @param cpf o CPF procurado
+	 * @return o valor associado, ou null se o CPF não estiver indexado
+	 */
+	public V busca(String cpf) {
+		int particao = particao(cpf);
+		this.travas[particao].readLock().lock();
+		try {
+			return this.particoes[particao].busca(cpf);
+		} finally {
+			this.travas[particao].readLock().unlock();
+		}
+	}
+
+	/**
+	 * Verifica se o CPF está indexado.
+	 *
+	 * @param cpf o CPF procurado
+	 * @return true se o CPF estiver indexado, false caso contrário
+	 */
+	public boolean contem(String cpf) {
+		return busca(cpf) != null;
+	}
+
+	/**
+	 * Associa, de forma atômica, o valor ao CPF apenas se o CPF ainda não estiver indexado.
+	 *
+	 * @param cpf o CPF
+	 * @param valor o valor a ser associado, não nulo
+	 * @return o valor já associado ao CPF, ou null se o valor foi adicionado
+	 */
+	public V adicionaSeAusente(String cpf, V valor) {
+		int particao = particao(cpf);
+		this.travas[particao].writeLock().lock();
+		try {
+			return this.particoes[particao].adicionaSeAusente(cpf, valor);
+		} finally {
+			this.travas[particao].writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Retorna a quantidade de CPFs indexados. Com escritas concorrentes, o valor é aproximado.
+	 *
+	 * @return a quantidade de CPFs
+	 */
+	public int tamanho() {
+		int tamanho = 0;
+		for (int i = 0; i < this.particoes.length; i++) {
+			this.travas[i].readLock().lock();
+			try {
+				tamanho += this.particoes[i].tamanho();
+			} finally {
+				this.travas[i].readLock().unlock();
+			}
+		}
+		return tamanho;
+	}
+
+	private int particao(String cpf) {
+		if (cpf == null) {
+			return 0;
+		}
+		int h = cpf.hashCode();
+		return (h ^ (h >>> 16)) & this.mascara;
+	}
+}
@@ -0,0 +1,244 @@
+package structures;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * Índice invertido para busca textual em documentos identificados por inteiros positivos.
+ *
+ * Cada trecho de texto adicionado a um documento é quebrado em termos, sem acentos, sem diferença
+ * entre maiúsculas e minúsculas e sem as palavras mais comuns do português. Para cada termo, o índice
+ * guarda em vetores primitivos os documentos em que ele aparece e quantas vezes aparece em cada trecho.
+ *
+ * A busca pontua os documentos por TF-IDF, considerando cada trecho adicionado como uma unidade:
+ * termos raros pesam mais do que termos que aparecem em muitos trechos. O custo da busca é
+ * proporcional à quantidade de ocorrências dos termos consultados, e não ao tamanho do índice:
+ * as pontuações são acumuladas numa tabela de espalhamento do tamanho dessas ocorrências, e os melhores
+ * documentos são escolhidos por um heap de inteiros do tamanho do limite.
+ *
+ * O índice pode ser usado por várias threads: as buscas tomam uma trava de leitura e podem ser feitas
+ * ao mesmo tempo, e a indexação de um trecho toma a trava de escrita.
+ */
+
+public class IndiceInvertido {
+
+	private static final Set<String> PALAVRAS_IGNORADAS = Set.of(
+			"a", "o", "e", "as", "os", "um", "uma", "uns", "umas", "de", "da", "do", "das", "dos",
+			"em", "na", "no", "nas", "nos", "ao", "aos", "para", "pra", "por", "pela", "pelo",
+			"com", "sem", "que", "se", "ou", "mas", "como", "mais", "muito", "sua", "seu");
+
+	private static final Pattern MARCAS_DIACRITICAS = Pattern.compile("\\p{M}");
+	private static final Pattern SEPARADORES = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+	private Map<String, Ocorrencias> ocorrenciasPorTermo;
+	private int trechos;
+	private final ReadWriteLock trava;
+
+	/**
+	 * Cria um índice vazio.
+	 */
+	public IndiceInvertido() {
+		this.ocorrenciasPorTermo = new HashMap<>();
+		this.trechos = 0;
+		this.trava = new ReentrantReadWriteLock();
+	}
+
+	/**
+	 * Indexa um trecho de texto do documento informado.
+	 *
+	 * @param documento o identificador do documento, positivo
+	 * @param texto o texto a ser indexado
+	 */
+	public void adiciona(int documento, String texto) {
+		Map<String, Integer> frequencias = new HashMap<>();
+		for (String termo : tokeniza(texto)) {
+			frequencias.merge(termo, 1, Integer::sum);
+		}
+		this.trava.writeLock().lock();
+		try {
+			for (Map.Entry<String, Integer> frequencia : frequencias.entrySet()) {
+				this.ocorrenciasPorTermo.computeIfAbsent(frequencia.getKey(), t -> new Ocorrencias())
+						.adiciona(documento, frequencia.getValue());
+			}
+			this.trechos++;
+		} finally {
+			this.trava.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Busca os documentos mais relevantes para a consulta.
+	 *
+	 * @param consulta os termos procurados
+	 * @param limite a quantidade máxima de documentos retornados
+	 * @return os identificadores dos documentos encontrados, do mais para o menos relevante;
+	 *         documentos com a mesma pontuação ficam em ordem crescente de identificador
+	 */
+	public int[] busca(String consulta, int limite) {
+		List<String> termos = tokeniza(consulta);
+		this.trava.readLock().lock();
+		try {
+			List<Ocorrencias> consultadas = new ArrayList<>();
+			int totalOcorrencias = 0;
+			for (String termo : termos) {
+				Ocorrencias ocorrencias = this.ocorrenciasPorTermo.get(termo);
+				if (ocorrencias != null && !consultadas.contains(ocorrencias)) {
+					consultadas.add(ocorrencias);
+					totalOcorrencias += ocorrencias.tamanho;
+				}
+			}
+			if (consultadas.isEmpty()) {
+				return new int[0];
+			}
+
+			Pontuacoes pontuacoes = new Pontuacoes(totalOcorrencias);
+			for (Ocorrencias ocorrencias : consultadas) {
+				double idf = Math.log(1 + (double) this.trechos / ocorrencias.tamanho);
+				for (int i = 0; i < ocorrencias.tamanho; i++) {
+					pontuacoes.soma(ocorrencias.documentos[i], ocorrencias.frequencias[i] * idf);
+				}
+			}
+			return pontuacoes.melhores(limite);
+		} finally {
+			this.trava.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Quebra o texto em termos, sem acentos e em minúsculas, descartando as palavras mais comuns.
+	 *
+	 * @param texto o texto a ser quebrado
+	 * @return os termos do texto, na ordem em que aparecem
+	 */
+	static List<String> tokeniza(String texto) {
+		String semAcentos = MARCAS_DIACRITICAS.matcher(Normalizer.normalize(texto, Normalizer.Form.NFD)).replaceAll("");
+		String normalizado = semAcentos.toLowerCase(Locale.ROOT);
+		List<String> termos = new ArrayList<>();
+		for (String termo : SEPARADORES.split(normalizado)) {
+			if (!termo.isEmpty() && !PALAVRAS_IGNORADAS.contains(termo)) {
+				termos.add(termo);
+			}
+		}
+		return termos;
+	}
+
+	/**
+	 * Tabela de espalhamento de endereçamento aberto que acumula a pontuação de cada documento de uma busca.
+	 * Tem capacidade para a quantidade de ocorrências consultadas, já que nenhuma busca encontra mais
+	 * documentos do que isso, e usa o identificador 0, que não é um documento válido, para posição livre.
+	 */
+	private static class Pontuacoes {
+		private final int[] documentos;
+		private final double[] valores;
+		private final int mascara;
+
+		Pontuacoes(int ocorrencias) {
+			int capacidade = Integer.highestOneBit(Math.max(2, ocorrencias) * 2 - 1) << 1;
+			this.documentos = new int[capacidade];
+			this.valores = new double[capacidade];
+			this.mascara = capacidade - 1;
+		}
+
+		void soma(int documento, double valor) {
+			int posicao = (documento * 0x9E3779B9) & this.mascara;
+			while (this.documentos[posicao] != documento) {
+				if (this.documentos[posicao] == 0) {
+					this.documentos[posicao] = documento;
+					break;
+				}
+				posicao = (posicao + 1) & this.mascara;
+			}
+			this.valores[posicao] += valor;
+		}
+
+		/**
+		 * Seleciona os documentos mais bem pontuados com um heap mínimo de posições da tabela, num vetor de inteiros
+		 * do tamanho do limite: a raiz é o pior dos melhores até aqui, e cada documento só entra no heap se for melhor que ela.
+		 */
+		int[] melhores(int limite) {
+			int[] heap = new int[Math.max(0, Math.min(limite, this.documentos.length))];
+			int tamanho = 0;
+			for (int posicao = 0; posicao < this.documentos.length; posicao++) {
+				if (this.documentos[posicao] == 0) {
+					continue;
+				}
+				if (tamanho < heap.length) {
+					heap[tamanho] = posicao;
+					sobe(heap, tamanho++);
+				} else if (tamanho > 0 && pior(heap[0], posicao)) {
+					heap[0] = posicao;
+					desce(heap, tamanho, 0);
+				}
+			}
+			int[] resultado = new int[tamanho];
+			for (int i = resultado.length - 1; i >= 0; i--) {
+				resultado[i] = this.documentos[heap[0]];
+				heap[0] = heap[--tamanho];
+				desce(heap, tamanho, 0);
+			}
+			return resultado;
+		}
+
+		private boolean pior(int posicao, int outra) {
+			return (this.valores[posicao] != this.valores[outra]) ? this.valores[posicao] < this.valores[outra]
+					: this.documentos[posicao] > this.documentos[outra];
+		}
+
+		private void sobe(int[] heap, int indice) {
+			int posicao = heap[indice];
+			while (indice > 0) {
+				int pai = (indice - 1) >>> 1;
+				if (!pior(posicao, heap[pai])) {
+					break;
+				}
+				heap[indice] = heap[pai];
+				indice = pai;
+			}
+			heap[indice] = posicao;
+		}
+
+		private void desce(int[] heap, int tamanho, int indice) {
+			int posicao = heap[indice];
+			while (true) {
+				int filho = 2 * indice + 1;
+				if (filho >= tamanho) {
+					break;
+				}
+				if (filho + 1 < tamanho && pior(heap[filho + 1], heap[filho])) {
+					filho++;
+				}
+				if (!pior(heap[filho], posicao)) {
+					break;
+				}
+				heap[indice] = heap[filho];
+				indice = filho;
+			}
+			heap[indice] = posicao;
+		}
+	}
+
+	private static class Ocorrencias {
+		private int[] documentos = new int[4];
+		private int[] frequencias = new int[4];
+		private int tamanho;
+
+		void adiciona(int documento, int frequencia) {
+			if (this.tamanho == this.documentos.length) {
+				this.documentos = Arrays.copyOf(this.documentos, this.tamanho * 2);
+				this.frequencias = Arrays.copyOf(this.frequencias, this.tamanho * 2);
+			}
+			this.documentos[this.tamanho] = documento;
+			this.frequencias[this.tamanho] = frequencia;
+			this.tamanho++;
+		}
+	}
+}
@@ -0,0 +1,199 @@
+package structures;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Mapa pensado para guardar poucos elementos.
+ *
+ * Até {@value #LIMITE_COMPACTO} elementos, chaves e valores ficam em dois vetores pequenos,
+ * percorridos linearmente, sem um objeto de entrada por elemento. Nenhum vetor é alocado
+ * antes da primeira adição. Acima do limite, os elementos passam para um {@link HashMap}.
+ *
+ * Diferenças em relação a um {@link HashMap}, enquanto o mapa está compacto:
+ * <ul>
+ * <li>as entradas devolvidas pela iteração são imutáveis, e {@code setValue} lança
+ * {@link UnsupportedOperationException}; use {@link #put} para alterar um valor;</li>
+ * <li>a iteração segue a ordem de adição até a primeira remoção, que move o último elemento
+ * para a posição do removido e reordena as entradas. Depois de expandido, vale a ordem do HashMap.</li>
+ * </ul>
+ *
+ * @param <K> o tipo das chaves
+ * @param <V> o tipo dos valores
+ */
+
+public class MapaCompacto<K, V> extends AbstractMap<K, V> {
+
+	private static final int LIMITE_COMPACTO = 8;
+	private static final int CAPACIDADE_INICIAL = 2;
+
+	private Object[] chaves;
+	private Object[] valores;
+	private int tamanho;
+	private Map<K, V> expandido;
+
+	/**
+	 * Cria um mapa vazio.
+	 */
+	public MapaCompacto() {
+		this.tamanho = 0;
+	}
+
+	@Override
+	public int size() {
+		return (this.expandido != null) ? this.expandido.size() : this.tamanho;
+	}
+
+	@Override
+	public boolean containsKey(Object chave) {
+		return (this.expandido != null) ? this.expandido.containsKey(chave) : indice(chave) >= 0;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V get(Object chave) {
+		if (this.expandido != null) {
+			return this.expandido.get(chave);
+		}
+		int indice = indice(chave);
+		return (indice < 0) ? null : (V) this.valores[indice];
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V put(K chave, V valor) {
+		if (this.expandido != null) {
+			return this.expandido.put(chave, valor);
+		}
+		int indice = indice(chave);
+		if (indice >= 0) {
+			V anterior = (V) this.valores[indice];
+			this.valores[indice] = valor;
+			return anterior;
+		}
+		if (this.tamanho == LIMITE_COMPACTO) {
+			expande();
+			return this.expandido.put(chave, valor);
+		}
+		if (this.chaves == null) {
+			this.chaves = new Object[CAPACIDADE_INICIAL];
+			this.valores = new Object[CAPACIDADE_INICIAL];
+		} else if (this.tamanho == this.chaves.length) {
+			int capacidade = Math.min(LIMITE_COMPACTO, this.chaves.length * 2);
+			this.chaves = Arrays.copyOf(this.chaves, capacidade);
+			this.valores = Arrays.copyOf(this.valores, capacidade);
+		}
+		this.chaves[this.tamanho] = chave;
+		this.valores[this.tamanho] = valor;
+		this.tamanho++;
+		return null;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V remove(Object chave) {
+		if (this.expandido != null) {
+			return this.expandido.remove(chave);
+		}
+		int indice = indice(chave);
+		if (indice < 0) {
+			return null;
+		}
+		V anterior = (V) this.valores[indice];
+		removeNaPosicao(indice);
+		return anterior;
+	}
+
+	@Override
+	public void clear() {
+		this.chaves = null;
+		this.valores = null;
+		this.tamanho = 0;
+		this.expandido = null;
+	}
+
+	@Override
+	public Set<Map.Entry<K, V>> entrySet() {
+		if (this.expandido != null) {
+			return this.expandido.entrySet();
+		}
+		return new AbstractSet<Map.Entry<K, V>>() {
+			@Override
+			public Iterator<Map.Entry<K, V>> iterator() {
+				return new Iterador();
+			}
+
+			@Override
+			public int size() {
+				return MapaCompacto.this.size();
+			}
+		};
+	}
+
+	private int indice(Object chave) {
+		for (int i = 0; i < this.tamanho; i++) {
+			if (Objects.equals(this.chaves[i], chave)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private void removeNaPosicao(int indice) {
+		int ultimo = --this.tamanho;
+		this.chaves[indice] = this.chaves[ultimo];
+		this.valores[indice] = this.valores[ultimo];
+		this.chaves[ultimo] = null;
+		this.valores[ultimo] = null;
+	}
+
+	@SuppressWarnings("unchecked")
+	private void expande() {
+		Map<K, V> mapa = new HashMap<>();
+		for (int i = 0; i < this.tamanho; i++) {
+			mapa.put((K) this.chaves[i], (V) this.valores[i]);
+		}
+		this.expandido = mapa;
+		this.chaves = null;
+		this.valores = null;
+		this.tamanho = 0;
+	}
+
+	private class Iterador implements Iterator<Map.Entry<K, V>> {
+
+		private int proximo = 0;
+		private int ultimo = -1;
+
+		@Override
+		public boolean hasNext() {
+			return this.proximo < tamanho;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public Map.Entry<K, V> next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			this.ultimo = this.proximo++;
+			return new AbstractMap.SimpleImmutableEntry<>((K) chaves[this.ultimo], (V) valores[this.ultimo]);
+		}
+
+		@Override
+		public void remove() {
+			if (this.ultimo < 0) {
+				throw new IllegalStateException();
+			}
+			removeNaPosicao(this.ultimo);
+			this.proximo = this.ultimo;
+			this.ultimo = -1;
+		}
+	}
+}
@@ -1,5 +1,8 @@
 package validators;
 
+import interfaces.FabricaAtividade;
+import structures.AlocadorCodigos;
+
 /**
  * Classe responsável pela validação das informações de uma AtividadeComplementar.
  */
@@ -16,7 +19,16 @@ public class ValidadorAtividade extends Validador {
 		LINK_VAZIO("O link da atividade não pode ser vazio"),
 		UNIDADE_ACUMULADA_BAIXA("A unidade de tempo acumulada não é suficiente"),
 		ESPECIFICACAO_NULA("A especificação da atividade não pode ser nula"),
-		ESPECIFICACAO_VAZIA("A especificação da atividade não pode ser vazia");
+		ESPECIFICACAO_VAZIA("A especificação da atividade não pode ser vazia"),
+		TIPO_NULO("O tipo da atividade não pode ser nulo"),
+		TIPO_VAZIO("O tipo da atividade não pode ser vazio"),
+		CREDITOS_MAXIMOS_INVALIDOS("O máximo de créditos do tipo de atividade deve ser positivo"),
+		CREDITOS_POR_UNIDADE_INVALIDOS("Os créditos por unidade do tipo de atividade devem ser um número positivo"),
+		UNIDADE_MINIMA_INVALIDA("A unidade mínima do tipo de atividade deve ser positiva"),
+		FABRICA_NULA("A fábrica de atividades não pode ser nula"),
+		ALOCADOR_NULO("O alocador de códigos de atividade não pode ser nulo"),
+		CODIGO_NULO("O código da atividade não pode ser nulo"),
+		CODIGO_VAZIO("O código da atividade não pode ser vazio");
 		
 		private final String mensagem;
 		
@@ -88,4 +100,82 @@ public class ValidadorAtividade extends Validador {
 	public static void validaEspecificacao(String especificao) {
 		validaString(especificao, Erro.ESPECIFICACAO_NULA.mensagem(), Erro.ESPECIFICACAO_VAZIA.mensagem());
 	}
+	
+	/**
+	 * Valida se o nome de um tipo de atividade é válido.
+	 * 
+	 * O nome deve ser uma string não nula e não vazia.
+	 * 
+	 * @param tipo o nome do tipo a ser validado
+	 * @throws NullPointerException se tipo for null
+	 * @throws IllegalArgumentException se tipo for vazio
+	 */
+	public static void validaTipo(String tipo) {
+		validaString(tipo, Erro.TIPO_NULO.mensagem(), Erro.TIPO_VAZIO.mensagem());
+	}
+	
+	/**
+	 * Valida se o máximo de créditos de um tipo de atividade é positivo.
+	 * 
+	 * @param creditosMaximos o máximo de créditos a ser validado
+	 * @throws IllegalArgumentException se creditosMaximos for menor que 1
+	 */
+	public static void validaCreditosMaximos(int creditosMaximos) {
+		validaInt(creditosMaximos, 1, Erro.CREDITOS_MAXIMOS_INVALIDOS.mensagem());
+	}
+	
+	/**
+	 * Valida se os créditos por unidade de um tipo de atividade são um número positivo e finito.
+	 * 
+	 * @param creditosPorUnidade os créditos por unidade a serem validados
+	 * @throws IllegalArgumentException se creditosPorUnidade não for positivo, for infinito ou NaN
+	 */
+	public static void validaCreditosPorUnidade(double creditosPorUnidade) {
+		if (!(creditosPorUnidade > 0) || Double.isInfinite(creditosPorUnidade)) {
+			throw new IllegalArgumentException(Erro.CREDITOS_POR_UNIDADE_INVALIDOS.mensagem());
+		}
+	}
+	
+	/**
+	 * Valida se a unidade mínima de um tipo de atividade é positiva.
+	 * 
+	 * @param unidadeMinima a unidade mínima a ser validada
+	 * @throws IllegalArgumentException se unidadeMinima for menor que 1
+	 */
+	public static void validaUnidadeMinima(int unidadeMinima) {
+		validaInt(unidadeMinima, 1, Erro.UNIDADE_MINIMA_INVALIDA.mensagem());
+	}
+	
+	/**
+	 * Valida se a fábrica de atividades de um tipo não é nula.
+	 * 
+	 * @param fabrica a fábrica a ser validada
+	 * @throws NullPointerException se fabrica for null
+	 */
+	public static void validaFabrica(FabricaAtividade fabrica) {
+		validaObjeto(fabrica, Erro.FABRICA_NULA.mensagem());
+	}
+	
+	/**
+	 * Valida se o alocador de códigos de atividade não é nulo.
+	 * 
+	 * @param alocador o alocador a ser validado
+	 * @throws NullPointerException se alocador for null
+	 */
+	public static void validaAlocador(AlocadorCodigos alocador) {
+		validaObjeto(alocador, Erro.ALOCADOR_NULO.mensagem());
+	}
+	
+	/**
+	 * Valida se o código de uma atividade é válido.
+	 * 
+	 * O código deve ser uma string não nula e não vazia.
+	 * 
+	 * @param codigo o código a ser validado
+	 * @throws NullPointerException se codigo for null
+	 * @throws IllegalArgumentException se codigo for vazio
+	 */
+	public static void validaCodigo(String codigo) {
+		validaString(codigo, Erro.CODIGO_NULO.mensagem(), Erro.CODIGO_VAZIO.mensagem());
+	}
 }
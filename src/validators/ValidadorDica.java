@@ -1,6 +1,7 @@
 package validators;
 
 import entities.Dica;
+import interfaces.RegraBonificacao;
 
 /**
  * Classe responsável pela validação das informações de um Elemento.
@@ -27,7 +28,11 @@ public class ValidadorDica extends Validador {
 		ANO_PEQUENO("O ano deve ser um valor positivo"),
 		IMPORTANCIA_INVALIDA("A importância deve ser um valor entre 1 e 5"),
 		POSICAO_INVALIDA("A posição da dica é inválida"),
-		DICA_NULA("A dica não pode ser nula");
+		LIMITE_INVALIDO("O limite da listagem deve ser um valor positivo"),
+		CONSULTA_NULA("A consulta não pode ser nula"),
+		CONSULTA_VAZIA("A consulta não pode ser vazia"),
+		DICA_NULA("A dica não pode ser nula"),
+		REGRA_NULA("A regra de bonificação não pode ser nula");
 		
 		private final String mensagem;
 		
@@ -156,6 +161,29 @@ public class ValidadorDica extends Validador {
 		validaInt(posicao, 1, posicaoMaxima, Erro.POSICAO_INVALIDA.mensagem());
 	}
 	
+	/**
+	 * Valida se o limite de uma listagem paginada de dicas é válido.
+	 * 
+	 * @param limite o limite a ser validado
+	 * @throws IllegalArgumentException se limite for menor que 1
+	 */
+	public static void validaLimite(int limite) {
+		validaInt(limite, 1, Erro.LIMITE_INVALIDO.mensagem());
+	}
+	
+	/**
+	 * Valida se a consulta da busca textual de dicas é válida.
+	 * 
+	 * A consulta deve ser uma string não nula e não vazia.
+	 * 
+	 * @param consulta a consulta a ser validada
+	 * @throws NullPointerException se consulta for null
+	 * @throws IllegalArgumentException se consulta for vazia
+	 */
+	public static void validaConsulta(String consulta) {
+		validaString(consulta, Erro.CONSULTA_NULA.mensagem(), Erro.CONSULTA_VAZIA.mensagem());
+	}
+	
 	/**
 	 * Valida se o objeto Dica é válido.
 	 * 
@@ -167,4 +195,16 @@ public class ValidadorDica extends Validador {
 	public static void validaDica(Dica dica) {
 		validaObjeto(dica, Erro.DICA_NULA.mensagem());
 	}
+	
+	/**
+	 * Valida se a regra de bonificação dos elementos é válida.
+	 * 
+	 * O objeto não pode ser nulo.
+	 * 
+	 * @param regra o objeto a ser validado
+	 * @throws NullPointerException se regra for null
+	 */
+	public static void validaRegraBonificacao(RegraBonificacao regra) {
+		validaObjeto(regra, Erro.REGRA_NULA.mensagem());
+	}
 }
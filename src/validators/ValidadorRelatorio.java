@@ -1,7 +1,9 @@
 package validators;
 
+import java.util.List;
 import java.util.Map;
 
+import entities.TipoAtividadeRegistrado;
 import enums.TipoAtividadeComplementar;
 
 /**
@@ -14,7 +16,9 @@ public class ValidadorRelatorio extends Validador {
 	 * Representação de várias mensagens de erro relacionadas à validação das informações do Relatorio.
 	 */
 	private static enum Erro {
-		SUMARIZACAO_INCOMPLETA("A sumarização precisa ter todos os tipos de Atividade Complementar");
+		SUMARIZACAO_INCOMPLETA("A sumarização precisa ter todos os tipos de Atividade Complementar"),
+		TIPOS_NULOS("Os tipos do relatório não podem ser nulos"),
+		CREDITOS_NULOS("Os créditos do relatório não podem ser nulos");
 		
 		private final String mensagem;
 		
@@ -50,4 +54,23 @@ public class ValidadorRelatorio extends Validador {
 			}
 		}
 	}
+	
+	/**
+	 * Valida se os tipos registrados de um relatório têm todos os tipos de AtividadeComplementar
+	 * e se os créditos foram informados.
+	 * 
+	 * @param tipos os tipos registrados a serem validados
+	 * @param creditosPorTipo os créditos por índice de tipo
+	 * @throws NullPointerException se tipos ou creditosPorTipo forem null
+	 * @throws IllegalArgumentException se algum tipo de Atividade Complementar não estiver em tipos
+	 */
+	public static void validaTiposRegistrados(List<TipoAtividadeRegistrado> tipos, int[] creditosPorTipo) {
+		validaObjeto(tipos, Erro.TIPOS_NULOS.mensagem());
+		validaObjeto(creditosPorTipo, Erro.CREDITOS_NULOS.mensagem());
+		for (TipoAtividadeComplementar tipo : TipoAtividadeComplementar.values()) {
+			if (tipos.stream().noneMatch(registrado -> registrado.getTipo().equals(tipo.getTipo()))) {
+				throw new IllegalArgumentException(Erro.SUMARIZACAO_INCOMPLETA.mensagem());
+			}
+		}
+	}
 }
@@ -1,6 +1,10 @@
 package validators;
 
+import java.time.Clock;
+import java.time.Duration;
+
 import entities.Usuario;
+import interfaces.VerificadorSenha;
 
 /**
  * Classe responsável pela validação das informações de um Usuario.
@@ -8,6 +12,16 @@ import entities.Usuario;
 
 public class ValidadorUsuario extends Validador {
 	
+	/**
+	 * Propriedade de sistema que define a quantidade de iterações do PBKDF2 para novas senhas.
+	 * Se não for informada, vale {@link VerificadorSenhaPbkdf2#ITERACOES_PADRAO}.
+	 */
+	public static final String PROPRIEDADE_ITERACOES = "senha.pbkdf2.iteracoes";
+	
+	private static volatile VerificadorSenha verificadorSenha = new VerificadorSenhaComCache(
+			new VerificadorSenhaPbkdf2(Integer.getInteger(PROPRIEDADE_ITERACOES, VerificadorSenhaPbkdf2.ITERACOES_PADRAO)),
+			1024, Duration.ofMinutes(5), Clock.systemUTC());
+	
 	/**
 	 * Representação de várias mensagens de erro relacionadas à validação das informações do Usuario.
 	 */
@@ -21,7 +35,12 @@ public class ValidadorUsuario extends Validador {
 		SENHA_PEQUENA("A senha do estudante deve ter, pelo menos, 4 caracteres"),
 		MATRICULA_NULA("A matrícula do estudante não pode ser nula"),
 		MATRICULA_VAZIA("A matrícula do estudante não pode ser vazia"),
-		USUARIO_NULO("O usuário não pode ser nulo");
+		USUARIO_NULO("O usuário não pode ser nulo"),
+		PREFIXO_NULO("O prefixo do nome não pode ser nulo"),
+		LIMITE_INVALIDO("O limite da busca deve ser um valor positivo"),
+		POSICAO_RANKING_INVALIDA("A posição no ranking deve ser um valor positivo"),
+		VERIFICADOR_NULO("O verificador de senhas não pode ser nulo"),
+		SENHA_PROTEGIDA_INVALIDA("A senha protegida não está no formato do verificador de senhas");
 		
 		private final String mensagem;
 		
@@ -87,6 +106,21 @@ public class ValidadorUsuario extends Validador {
 		}
 	}
 	
+	/**
+	 * Valida se uma senha já protegida, como a importada de outro sistema, está no formato
+	 * do verificador de senhas atual. Uma senha fora do formato nunca conferiria com nenhuma senha.
+	 * 
+	 * @param senhaProtegida a senha protegida a ser validada
+	 * @throws NullPointerException se senhaProtegida for null
+	 * @throws IllegalArgumentException se senhaProtegida for vazia ou não estiver no formato do verificador
+	 */
+	public static void validaSenhaProtegida(String senhaProtegida) {
+		validaString(senhaProtegida, Erro.SENHA_NULA.mensagem(), Erro.SENHA_VAZIA.mensagem());
+		if (!verificadorSenha.reconhece(senhaProtegida)) {
+			throw new IllegalArgumentException(Erro.SENHA_PROTEGIDA_INVALIDA.mensagem());
+		}
+	}
+	
 	/**
 	 * Valida se o link de atividade é válido.
 	 * 
@@ -111,4 +145,69 @@ public class ValidadorUsuario extends Validador {
 	public static void validaUsuario(Usuario usuario) {
 		validaObjeto(usuario, Erro.USUARIO_NULO.mensagem());
 	}
+	
+	/**
+	 * Valida se o prefixo de nome usado em buscas é válido.
+	 * 
+	 * O prefixo não pode ser nulo, mas pode ser vazio.
+	 * 
+	 * @param prefixo o prefixo a ser validado
+	 * @throws NullPointerException se prefixo for null
+	 */
+	public static void validaPrefixo(String prefixo) {
+		validaObjeto(prefixo, Erro.PREFIXO_NULO.mensagem());
+	}
+	
+	/**
+	 * Valida se o limite de uma busca paginada é válido.
+	 * 
+	 * @param limite o limite a ser validado
+	 * @throws IllegalArgumentException se limite for menor que 1
+	 */
+	public static void validaLimite(int limite) {
+		validaInt(limite, 1, Erro.LIMITE_INVALIDO.mensagem());
+	}
+	
+	/**
+	 * Valida se a posição no ranking de bonificação é válida.
+	 * 
+	 * @param posicao a posição a ser validada
+	 * @throws IllegalArgumentException se posicao for menor que 1
+	 */
+	public static void validaPosicaoRanking(int posicao) {
+		validaInt(posicao, 1, Erro.POSICAO_RANKING_INVALIDA.mensagem());
+	}
+	
+	/**
+	 * Define o verificador usado para proteger e conferir as senhas dos usuários.
+	 * Senhas protegidas por um verificador anterior deixam de ser reconhecidas se o formato mudar.
+	 * 
+	 * @param verificador o novo verificador de senhas
+	 * @throws NullPointerException se verificador for null
+	 */
+	public static void defineVerificadorSenha(VerificadorSenha verificador) {
+		validaObjeto(verificador, Erro.VERIFICADOR_NULO.mensagem());
+		verificadorSenha = verificador;
+	}
+	
+	/**
+	 * Gera a representação protegida de uma senha, que é a única guardada no usuário.
+	 * 
+	 * @param senha a senha em texto
+	 * @return a representação protegida da senha
+	 */
+	public static String protegeSenha(String senha) {
+		return verificadorSenha.protege(senha);
+	}
+	
+	/**
+	 * Confere se uma senha corresponde à representação protegida guardada.
+	 * 
+	 * @param senha a senha em texto informada
+	 * @param senhaProtegida a representação protegida guardada no usuário
+	 * @return true se a senha corresponder, false caso contrário
+	 */
+	public static boolean verificaSenha(String senha, String senhaProtegida) {
+		return verificadorSenha.verifica(senha, senhaProtegida);
+	}
 }
@@ -0,0 +1,101 @@
+package validators;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import interfaces.VerificadorSenha;
+
+/**
+ * Verificador que evita repetir uma verificação lenta para credenciais conferidas recentemente.
+ * 
+ * Cada verificação bem-sucedida é lembrada por um tempo limitado, numa tabela de tamanho limitado
+ * que descarta a entrada usada há mais tempo. A chave da tabela combina a senha protegida guardada
+ * e um HMAC da senha informada, com uma chave aleatória do processo, de modo que a senha em texto
+ * nunca é guardada e uma troca de senha invalida as entradas antigas automaticamente.
+ */
+
+public class VerificadorSenhaComCache implements VerificadorSenha {
+
+	private static final String ALGORITMO_HMAC = "HmacSHA256";
+	
+	private final VerificadorSenha verificador;
+	private final Map<String, Long> verificadas;
+	private final long duracaoEmMilissegundos;
+	private final Clock relogio;
+	private final SecretKeySpec chave;
+	
+	/**
+     * Cria um novo verificador com cache.
+     *
+     * @param verificador o verificador usado quando a credencial não está no cache
+     * @param capacidade a quantidade máxima de credenciais lembradas
+     * @param duracao por quanto tempo uma credencial verificada é lembrada
+     * @param relogio o relógio usado para verificar a expiração das credenciais
+     */
+	public VerificadorSenhaComCache(VerificadorSenha verificador, int capacidade, Duration duracao, Clock relogio) {
+		this.verificador = verificador;
+		this.verificadas = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Long> maisAntiga) {
+				return size() > capacidade;
+			}
+		};
+		this.duracaoEmMilissegundos = duracao.toMillis();
+		this.relogio = relogio;
+		byte[] bytesDaChave = new byte[32];
+		new SecureRandom().nextBytes(bytesDaChave);
+		this.chave = new SecretKeySpec(bytesDaChave, ALGORITMO_HMAC);
+	}
+	
+	@Override
+	public String protege(String senha) {
+		return this.verificador.protege(senha);
+	}
+	
+	@Override
+	public boolean verifica(String senha, String senhaProtegida) {
+		if (senha == null || senhaProtegida == null) {
+			return false;
+		}
+		String credencial = senhaProtegida + "$" + resumo(senha);
+		long agora = this.relogio.millis();
+		synchronized (this.verificadas) {
+			Long expiraEm = this.verificadas.get(credencial);
+			if (expiraEm != null && expiraEm > agora) {
+				return true;
+			}
+		}
+		
+		if (!this.verificador.verifica(senha, senhaProtegida)) {
+			return false;
+		}
+		synchronized (this.verificadas) {
+			this.verificadas.put(credencial, agora + this.duracaoEmMilissegundos);
+		}
+		return true;
+	}
+	
+	@Override
+	public boolean reconhece(String senhaProtegida) {
+		return this.verificador.reconhece(senhaProtegida);
+	}
+	
+	private String resumo(String senha) {
+		try {
+			Mac hmac = Mac.getInstance(ALGORITMO_HMAC);
+			hmac.init(this.chave);
+			return Base64.getEncoder().withoutPadding().encodeToString(hmac.doFinal(senha.getBytes(StandardCharsets.UTF_8)));
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("Não foi possível conferir a senha", e);
+		}
+	}
+}
@@ -0,0 +1,134 @@
+package validators;
+
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+
+import interfaces.VerificadorSenha;
+
+/**
+ * Verificador que guarda as senhas com PBKDF2 (HMAC-SHA256) e um sal aleatório por senha.
+ * O número de iterações fica registrado na própria senha protegida, no formato
+ * {@code pbkdf2$iteracoes$sal$hash}, para que possa ser aumentado sem invalidar senhas antigas.
+ *
+ * O padrão de {@value #ITERACOES_PADRAO} iterações segue a recomendação atual para PBKDF2-HMAC-SHA256
+ * e custa algumas centenas de milissegundos por senha protegida ou conferida.
+ *
+ * Uma senha protegida fora do formato, ou com iterações fora do intervalo de {@value #ITERACOES_MINIMAS}
+ * a {@value #ITERACOES_MAXIMAS}, não confere com nenhuma senha. O limite superior impede que uma senha
+ * guardada com uma quantidade exagerada de iterações prenda a CPU a cada conferência.
+ */
+
+public class VerificadorSenhaPbkdf2 implements VerificadorSenha {
+
+	/**
+	 * Quantidade padrão de iterações para novas senhas.
+	 */
+	public static final int ITERACOES_PADRAO = 600_000;
+	
+	/**
+	 * Menor quantidade de iterações aceita numa senha protegida.
+	 */
+	public static final int ITERACOES_MINIMAS = 1_000;
+	
+	/**
+	 * Maior quantidade de iterações aceita numa senha protegida.
+	 */
+	public static final int ITERACOES_MAXIMAS = 5_000_000;
+
+	private static final String ALGORITMO = "PBKDF2WithHmacSHA256";
+	private static final String PREFIXO = "pbkdf2";
+	private static final int BYTES_DO_SAL = 16;
+	private static final int BITS_DO_HASH = 256;
+	
+	private final int iteracoes;
+	private final SecureRandom geradorDeSal;
+	
+	/**
+     * Cria um novo verificador.
+     *
+     * @param iteracoes a quantidade de iterações do PBKDF2 para novas senhas
+     * @throws IllegalArgumentException se iteracoes estiver fora do intervalo aceito
+     */
+	public VerificadorSenhaPbkdf2(int iteracoes) {
+		if (iteracoes < ITERACOES_MINIMAS || iteracoes > ITERACOES_MAXIMAS) {
+			throw new IllegalArgumentException("A quantidade de iterações deve estar entre "
+					+ ITERACOES_MINIMAS + " e " + ITERACOES_MAXIMAS);
+		}
+		this.iteracoes = iteracoes;
+		this.geradorDeSal = new SecureRandom();
+	}
+	
+	@Override
+	public String protege(String senha) {
+		byte[] sal = new byte[BYTES_DO_SAL];
+		this.geradorDeSal.nextBytes(sal);
+		Base64.Encoder codificador = Base64.getEncoder().withoutPadding();
+		return PREFIXO + "$" + this.iteracoes + "$" + codificador.encodeToString(sal) + "$"
+				+ codificador.encodeToString(deriva(senha, sal, this.iteracoes));
+	}
+	
+	@Override
+	public boolean verifica(String senha, String senhaProtegida) {
+		if (senha == null || senhaProtegida == null) {
+			return false;
+		}
+		SenhaProtegida protegida = decodifica(senhaProtegida);
+		if (protegida == null) {
+			return false;
+		}
+		return MessageDigest.isEqual(protegida.hash, deriva(senha, protegida.sal, protegida.iteracoes));
+	}
+	
+	@Override
+	public boolean reconhece(String senhaProtegida) {
+		return senhaProtegida != null && decodifica(senhaProtegida) != null;
+	}
+	
+	private static SenhaProtegida decodifica(String senhaProtegida) {
+		String[] partes = senhaProtegida.split("\\$", -1);
+		if (partes.length != 4 || !PREFIXO.equals(partes[0])) {
+			return null;
+		}
+		try {
+			int iteracoes = Integer.parseInt(partes[1]);
+			Base64.Decoder decodificador = Base64.getDecoder();
+			byte[] sal = decodificador.decode(partes[2]);
+			byte[] hash = decodificador.decode(partes[3]);
+			if (iteracoes < ITERACOES_MINIMAS || iteracoes > ITERACOES_MAXIMAS || sal.length == 0
+					|| hash.length != BITS_DO_HASH / 8) {
+				return null;
+			}
+			return new SenhaProtegida(iteracoes, sal, hash);
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+	
+	private byte[] deriva(String senha, byte[] sal, int iteracoes) {
+		PBEKeySpec especificacao = new PBEKeySpec(senha.toCharArray(), sal, iteracoes, BITS_DO_HASH);
+		try {
+			return SecretKeyFactory.getInstance(ALGORITMO).generateSecret(especificacao).getEncoded();
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("Não foi possível proteger a senha", e);
+		} finally {
+			especificacao.clearPassword();
+		}
+	}
+	
+	private static class SenhaProtegida {
+		private final int iteracoes;
+		private final byte[] sal;
+		private final byte[] hash;
+		
+		SenhaProtegida(int iteracoes, byte[] sal, byte[] hash) {
+			this.iteracoes = iteracoes;
+			this.sal = sal;
+			this.hash = hash;
+		}
+	}
+}
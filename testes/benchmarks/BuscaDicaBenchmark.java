@@ -0,0 +1,48 @@
+package benchmarks;
+
+import java.util.Random;
+
+import entities.Dica;
+import entities.Usuario;
+import repositories.DicaRepository;
+import validators.ValidadorUsuario;
+
+/**
+ * Mede o tempo de {@link DicaRepository#buscaDica(int)} num repositório grande.
+ * 
+ * Não é um teste: é executado à parte, com {@code java benchmarks.BuscaDicaBenchmark [dicas] [buscas]}.
+ * Cada autor tem uma dica de cada tema, e as senhas são protegidas por um verificador trivial,
+ * para que a preparação não seja dominada pela derivação das senhas.
+ */
+
+public class BuscaDicaBenchmark {
+
+	private static final int RODADAS = 5;
+	private static final String[] TEMAS = {"Monitoria", "Estagio", "PesquisaExtensao", "RepresentacaoEstudantil"};
+
+	public static void main(String[] args) {
+		int quantidade = (args.length > 0) ? Integer.parseInt(args[0]) : 100_000;
+		int buscas = (args.length > 1) ? Integer.parseInt(args[1]) : 20_000;
+		ValidadorUsuario.defineVerificadorSenha(new BuscaEstudanteBenchmark.VerificadorSenhaTrivial());
+
+		DicaRepository repositorio = new DicaRepository();
+		for (int i = 0; i < quantidade / TEMAS.length; i++) {
+			Usuario autor = new Usuario("Autor " + i, String.format("%011d", i), "12345678", "m" + i);
+			for (String tema : TEMAS) {
+				repositorio.adicionaDica(new Dica(autor, tema));
+			}
+		}
+		int dicas = (quantidade / TEMAS.length) * TEMAS.length;
+
+		for (int rodada = 1; rodada <= RODADAS; rodada++) {
+			Random aleatorio = new Random(rodada);
+			long soma = 0;
+			long inicio = System.nanoTime();
+			for (int i = 0; i < buscas; i++) {
+				soma += repositorio.buscaDica(1 + aleatorio.nextInt(dicas)).hashCode();
+			}
+			long nanosPorBusca = (System.nanoTime() - inicio) / buscas;
+			System.out.println("rodada " + rodada + ": " + nanosPorBusca + " ns/busca (" + dicas + " dicas, " + soma + ")");
+		}
+	}
+}
@@ -0,0 +1,70 @@
+package benchmarks;
+
+import java.util.Random;
+
+import entities.Usuario;
+import interfaces.VerificadorSenha;
+import repositories.UsuarioRepository;
+import validators.ValidadorUsuario;
+
+/**
+ * Mede o tempo de {@link UsuarioRepository#buscaEstudante(String, String)} num repositório grande.
+ * 
+ * Não é um teste: é executado à parte, com {@code java benchmarks.BuscaEstudanteBenchmark [estudantes] [buscas]}.
+ * Sem argumentos, mede repositórios de mil, dez mil, cem mil e um milhão de estudantes, um depois do outro.
+ * As senhas são conferidas por um verificador trivial, para que a medida seja a da busca,
+ * e não a da derivação da senha.
+ */
+
+public class BuscaEstudanteBenchmark {
+
+	private static final int RODADAS = 5;
+	private static final int[] QUANTIDADES = {1_000, 10_000, 100_000, 1_000_000};
+
+	public static void main(String[] args) {
+		int[] quantidades = (args.length > 0) ? new int[] {Integer.parseInt(args[0])} : QUANTIDADES;
+		int buscas = (args.length > 1) ? Integer.parseInt(args[1]) : 200_000;
+		ValidadorUsuario.defineVerificadorSenha(new VerificadorSenhaTrivial());
+
+		for (int quantidade : quantidades) {
+			mede(quantidade, buscas);
+		}
+	}
+
+	private static void mede(int quantidade, int buscas) {
+		UsuarioRepository repositorio = new UsuarioRepository();
+		String[] cpfs = new String[quantidade];
+		for (int i = 0; i < quantidade; i++) {
+			cpfs[i] = String.format("%011d", i);
+			repositorio.adicionaEstudante(new Usuario("Estudante " + i, cpfs[i], "12345678", "m" + i));
+		}
+
+		for (int rodada = 1; rodada <= RODADAS; rodada++) {
+			Random aleatorio = new Random(rodada);
+			long soma = 0;
+			long inicio = System.nanoTime();
+			for (int i = 0; i < buscas; i++) {
+				soma += repositorio.buscaEstudante(cpfs[aleatorio.nextInt(quantidade)], "12345678").hashCode();
+			}
+			long nanosPorBusca = (System.nanoTime() - inicio) / buscas;
+			System.out.println("rodada " + rodada + ": " + nanosPorBusca + " ns/busca (" + quantidade + " estudantes, " + soma + ")");
+		}
+	}
+
+	static class VerificadorSenhaTrivial implements VerificadorSenha {
+		@Override
+		public String protege(String senha) {
+			return senha;
+		}
+
+		@Override
+		public boolean verifica(String senha, String senhaProtegida) {
+			return senha.equals(senhaProtegida);
+		}
+
+		@Override
+		public boolean reconhece(String senhaProtegida) {
+			return senhaProtegida != null;
+		}
+	}
+}
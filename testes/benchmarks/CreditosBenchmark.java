@@ -0,0 +1,49 @@
+package benchmarks;
+
+import entities.Usuario;
+import validators.ValidadorUsuario;
+
+/**
+ * Mede o tempo das consultas de créditos de estudantes com muitas atividades: o mapa de créditos,
+ * a verificação da meta e os créditos de um tipo.
+ * 
+ * Não é um teste: é executado à parte, com {@code java benchmarks.CreditosBenchmark [estudantes] [atividades]}.
+ */
+
+public class CreditosBenchmark {
+
+	private static final int RODADAS = 5;
+	private static final int REPETICOES = 20;
+	private static final String[] TIPOS = {"Monitoria", "Estagio", "PesquisaExtensao", "RepresentacaoEstudantil"};
+	private static final String[] ESPECIFICIDADES = {"disciplina", "empresa", "pet", "comissao"};
+	private static final int[] UNIDADES = {1, 300, 6, 1};
+
+	public static void main(String[] args) {
+		int quantidade = (args.length > 0) ? Integer.parseInt(args[0]) : 100;
+		int atividades = (args.length > 1) ? Integer.parseInt(args[1]) : 5_000;
+		ValidadorUsuario.defineVerificadorSenha(new BuscaEstudanteBenchmark.VerificadorSenhaTrivial());
+
+		Usuario[] estudantes = new Usuario[quantidade];
+		for (int i = 0; i < quantidade; i++) {
+			estudantes[i] = new Usuario("Estudante " + i, String.format("%011d", i), "12345678", "m" + i);
+			for (int k = 0; k < atividades; k++) {
+				int tipo = k % TIPOS.length;
+				estudantes[i].criaAtividadeComplementar(TIPOS[tipo], "descrição", "link", UNIDADES[tipo], ESPECIFICIDADES[tipo]);
+			}
+		}
+
+		for (int rodada = 1; rodada <= RODADAS; rodada++) {
+			long soma = 0;
+			long inicio = System.nanoTime();
+			for (int repeticao = 0; repeticao < REPETICOES; repeticao++) {
+				for (Usuario estudante : estudantes) {
+					soma += estudante.geraMapaCreditos().length();
+					soma += estudante.atingiuMeta() ? 1 : 0;
+					soma += estudante.calculaCreditos("Estagio");
+				}
+			}
+			long nanosPorConsulta = (System.nanoTime() - inicio) / (REPETICOES * quantidade);
+			System.out.println("rodada " + rodada + ": " + nanosPorConsulta + " ns/consulta (" + atividades + " atividades por estudante, " + soma + ")");
+		}
+	}
+}
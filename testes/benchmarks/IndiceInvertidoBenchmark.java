@@ -0,0 +1,69 @@
+package benchmarks;
+
+import java.util.Random;
+
+import structures.IndiceInvertido;
+
+/**
+ * Mede o tempo de indexação e de busca do {@link IndiceInvertido} com muitos documentos.
+ * 
+ * Não é um teste: é executado à parte, com {@code java benchmarks.IndiceInvertidoBenchmark [documentos] [buscas]}.
+ * Os textos são sorteados de um vocabulário em que poucos termos são muito frequentes e a maioria é rara,
+ * e as buscas são medidas separadamente para termos frequentes, que pontuam muitos documentos,
+ * e para termos raros.
+ */
+
+public class IndiceInvertidoBenchmark {
+
+	private static final int RODADAS = 5;
+	private static final int VOCABULARIO = 50_000;
+	private static final int TERMOS_POR_TEXTO = 12;
+	private static final int LIMITE = 10;
+
+	public static void main(String[] args) {
+		int quantidade = (args.length > 0) ? Integer.parseInt(args[0]) : 1_000_000;
+		int buscas = (args.length > 1) ? Integer.parseInt(args[1]) : 200;
+
+		IndiceInvertido indice = new IndiceInvertido();
+		Random aleatorio = new Random(0);
+		long inicio = System.nanoTime();
+		for (int documento = 1; documento <= quantidade; documento++) {
+			StringBuilder texto = new StringBuilder();
+			for (int i = 0; i < TERMOS_POR_TEXTO; i++) {
+				texto.append(termo(sorteiaPosto(aleatorio))).append(' ');
+			}
+			indice.adiciona(documento, texto.toString());
+		}
+		System.out.println("indexação: " + (System.nanoTime() - inicio) / quantidade + " ns/documento (" + quantidade + " documentos)");
+
+		for (int rodada = 1; rodada <= RODADAS; rodada++) {
+			mede("frequentes", indice, new Random(rodada), buscas, 0, 10);
+			mede("raros", indice, new Random(rodada), buscas * 100, 1_000, VOCABULARIO);
+		}
+	}
+
+	private static void mede(String nome, IndiceInvertido indice, Random aleatorio, int buscas, int menorPosto, int maiorPosto) {
+		long soma = 0;
+		long inicio = System.nanoTime();
+		for (int i = 0; i < buscas; i++) {
+			String consulta = termo(menorPosto + aleatorio.nextInt(maiorPosto - menorPosto)) + " "
+					+ termo(menorPosto + aleatorio.nextInt(maiorPosto - menorPosto));
+			int[] resultado = indice.busca(consulta, LIMITE);
+			soma += (resultado.length > 0) ? resultado[0] : 0;
+		}
+		long nanosPorBusca = (System.nanoTime() - inicio) / buscas;
+		System.out.println(nome + ": " + nanosPorBusca + " ns/busca (" + soma + ")");
+	}
+
+	/**
+	 * Sorteia o posto de um termo no vocabulário, com probabilidade aproximadamente proporcional
+	 * ao inverso do posto.
+	 */
+	private static int sorteiaPosto(Random aleatorio) {
+		return (int) Math.pow(VOCABULARIO, aleatorio.nextDouble()) - 1;
+	}
+
+	private static String termo(int posto) {
+		return "termo" + Integer.toString(posto, 36);
+	}
+}
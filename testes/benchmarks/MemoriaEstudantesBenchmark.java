@@ -0,0 +1,46 @@
+package benchmarks;
+
+import entities.Usuario;
+import repositories.UsuarioRepository;
+import repositories.UsuarioRepositoryCompacto;
+import validators.ValidadorUsuario;
+
+/**
+ * Mede a memória ocupada por estudante no {@link UsuarioRepository} e no {@link UsuarioRepositoryCompacto}.
+ * 
+ * Não é um teste: é executado à parte, com {@code java -Xmx3g benchmarks.MemoriaEstudantesBenchmark [estudantes]}.
+ * A medida é a diferença do heap ocupado, depois de coletar o lixo, antes e depois de preencher o repositório.
+ */
+
+public class MemoriaEstudantesBenchmark {
+
+	public static void main(String[] args) {
+		int quantidade = (args.length > 0) ? Integer.parseInt(args[0]) : 1_000_000;
+		ValidadorUsuario.defineVerificadorSenha(new BuscaEstudanteBenchmark.VerificadorSenhaTrivial());
+
+		mede("UsuarioRepository", new UsuarioRepository(), quantidade);
+		mede("UsuarioRepositoryCompacto", new UsuarioRepositoryCompacto(), quantidade);
+	}
+
+	private static void mede(String nome, UsuarioRepository repositorio, int quantidade) {
+		long antes = heapOcupado();
+		long inicio = System.nanoTime();
+		for (int i = 0; i < quantidade; i++) {
+			repositorio.adicionaEstudante(new Usuario("Estudante " + i, String.format("%011d", i),
+					"senha protegida " + i, String.format("%09d", i)));
+		}
+		long milis = (System.nanoTime() - inicio) / 1_000_000;
+		long depois = heapOcupado();
+		System.out.println(nome + ": " + (depois - antes) / quantidade + " bytes/estudante, "
+				+ (depois - antes) / (1024 * 1024) + " MiB, " + milis + " ms (" + quantidade + " estudantes, "
+				+ repositorio.listaEstudantes(null, 1).length + ")");
+	}
+
+	private static long heapOcupado() {
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+}
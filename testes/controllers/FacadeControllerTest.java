@@ -0,0 +1,35 @@
+package controllers;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class FacadeControllerTest {
+	private FacadeController facade;
+	private int idDica;
+	
+	@BeforeEach
+	void setup() {
+		this.facade = new FacadeController();
+		this.facade.criarEstudante("Fulano", "123.456.789-10", "senha1234", "123456");
+		this.idDica = this.facade.adicionarDica("123.456.789-10", "senha1234", "Monitoria");
+	}
+	
+	@Test
+	void testAdicionarElementosDicaComSenha() {
+		assertTrue(this.facade.adicionarElementoTextoDica("123.456.789-10", "senha1234", this.idDica, "Comece cedo"));
+		assertTrue(this.facade.adicionarElementoMultimidiaDica("123.456.789-10", "senha1234", this.idDica, "link", "vídeo", 60));
+		assertTrue(this.facade.adicionarElementoReferenciaDica("123.456.789-10", "senha1234", this.idDica, "Livro", "Editora", 2020, true, 3));
+	}
+	
+	@Test
+	void testAdicionarElementosDicaComSenhaErrada() {
+		assertThrows(IllegalArgumentException.class,
+				() -> this.facade.adicionarElementoTextoDica("123.456.789-10", "123.456.789-10", this.idDica, "Comece cedo"));
+		assertThrows(IllegalArgumentException.class,
+				() -> this.facade.adicionarElementoMultimidiaDica("123.456.789-10", "errada", this.idDica, "link", "vídeo", 60));
+		assertThrows(IllegalArgumentException.class,
+				() -> this.facade.adicionarElementoReferenciaDica("123.456.789-10", "errada", this.idDica, "Livro", "Editora", 2020, true, 3));
+	}
+}
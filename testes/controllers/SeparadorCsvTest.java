@@ -0,0 +1,28 @@
+package controllers;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class SeparadorCsvTest {
+	
+	@Test
+	void testSeparaCamposSimples() {
+		assertArrayEquals(new String[] {"a", "b", "c"}, SeparadorCsv.separa("a,b,c"));
+		assertArrayEquals(new String[] {"a", "", ""}, SeparadorCsv.separa("a,,"));
+		assertArrayEquals(new String[] {""}, SeparadorCsv.separa(""));
+	}
+	
+	@Test
+	void testSeparaCamposEntreAspas() {
+		assertArrayEquals(new String[] {"Silva, João", "123"}, SeparadorCsv.separa("\"Silva, João\",123"));
+		assertArrayEquals(new String[] {"diz \"oi\"", ""}, SeparadorCsv.separa("\"diz \"\"oi\"\"\","));
+		assertArrayEquals(new String[] {"", "x"}, SeparadorCsv.separa("\"\",x"));
+	}
+	
+	@Test
+	void testSeparaAspasInvalidas() {
+		assertThrows(IllegalArgumentException.class, () -> SeparadorCsv.separa("\"aberto,b"));
+		assertThrows(IllegalArgumentException.class, () -> SeparadorCsv.separa("\"a\"b,c"));
+	}
+}
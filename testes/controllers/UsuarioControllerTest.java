@@ -0,0 +1,169 @@
+package controllers;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import entities.ResultadoImportacao;
+import entities.Sessao;
+import validators.ValidadorUsuario;
+
+class UsuarioControllerTest {
+	private static final String SENHA_PROTEGIDA = ValidadorUsuario.protegeSenha("1234");
+	private UsuarioController controller;
+	
+	@BeforeEach
+	void setup() {
+		this.controller = new UsuarioController();
+		this.controller.defineSenhaAdministrador("admin123");
+	}
+	
+	private static BufferedReader leitor(String texto) {
+		return new BufferedReader(new StringReader(texto));
+	}
+	
+	@Test
+	void testImportarEstudantes() {
+		ResultadoImportacao resultado = this.controller.importarEstudantes(leitor(
+				"nome,cpf,senha,matricula\n"
+				+ "\"Silva, Maria\",111.111.111-11,1234,1001\n"
+				+ "Joao,222.222.222-22,\"12,34\",1002\n"));
+		assertEquals(2, resultado.getImportados());
+		assertEquals(0, resultado.getErros().length);
+		assertEquals("Silva, Maria", this.controller.buscaEstudante("111.111.111-11", "1234").getNome());
+		assertNotNull(this.controller.buscaEstudante("222.222.222-22", "12,34"));
+	}
+	
+	@Test
+	void testImportarEstudantesComErrosPorLinha() {
+		ResultadoImportacao resultado = this.controller.importarEstudantesComSenhaProtegida(leitor(
+				"nome,cpf,senha,matricula\n"
+				+ "Maria,111.111.111-11," + SENHA_PROTEGIDA + ",1001\n"
+				+ "Joao,222.222.222-22\n"
+				+ "\n"
+				+ "\"Ana,333.333.333-33," + SENHA_PROTEGIDA + ",1003\n"
+				+ ",444.444.444-44," + SENHA_PROTEGIDA + ",1004\n"
+				+ "Maria de novo,111.111.111-11," + SENHA_PROTEGIDA + ",1005\n"
+				+ "Pedro,555.555.555-55," + SENHA_PROTEGIDA + ",1006\n"));
+		assertEquals(2, resultado.getImportados());
+		assertArrayEquals(new String[] {
+				"Linha 3: A linha deve ter os campos nome, cpf, senha e matrícula",
+				"Linha 5: Campo entre aspas não foi fechado",
+				"Linha 6: O nome do estudante não pode ser vazio",
+				"Linha 7: Já existe um estudante com este CPF"}, resultado.getErros());
+	}
+	
+	@Test
+	void testImportarEstudantesComSenhaProtegidaMalformada() {
+		String[] partes = SENHA_PROTEGIDA.split("\\$");
+		ResultadoImportacao resultado = this.controller.importarEstudantesComSenhaProtegida(leitor(
+				"Maria,111.111.111-11,1234,1001\n"
+				+ "Joao,222.222.222-22,pbkdf2$mil$" + partes[2] + "$" + partes[3] + ",1002\n"
+				+ "Ana,333.333.333-33,pbkdf2$2000000000$" + partes[2] + "$" + partes[3] + ",1003\n"
+				+ "Pedro,444.444.444-44,pbkdf2$" + partes[1] + "$%%%$" + partes[3] + ",1004\n"
+				+ "Lia,555.555.555-55," + SENHA_PROTEGIDA + ",1005\n"));
+		assertEquals(1, resultado.getImportados());
+		String erro = "A senha protegida não está no formato do verificador de senhas";
+		assertArrayEquals(new String[] {
+				"Linha 1: " + erro,
+				"Linha 2: " + erro,
+				"Linha 3: " + erro,
+				"Linha 4: " + erro}, resultado.getErros());
+		assertNotNull(this.controller.buscaEstudante("555.555.555-55", "1234"));
+	}
+	
+	@Test
+	void testImportarEstudantesComSenhaProtegida() {
+		ResultadoImportacao resultado = this.controller.importarEstudantesComSenhaProtegida(leitor(
+				"Maria,111.111.111-11," + SENHA_PROTEGIDA + ",1001\n"));
+		assertEquals(1, resultado.getImportados());
+		assertNotNull(this.controller.buscaEstudante("111.111.111-11", "1234"));
+		assertThrows(IllegalArgumentException.class, () -> this.controller.buscaEstudante("111.111.111-11", "4321"));
+	}
+	
+	@Test
+	void testImportarAtividades() {
+		this.controller.criarEstudante("Maria", "111.111.111-11", "1234", "1001");
+		ResultadoImportacao resultado = this.controller.importarAtividades("admin123", leitor(
+				"cpf,tipo,descricao,link,unidade,especificidade\n"
+				+ "111.111.111-11,Monitoria,\"Monitoria de P1, turma 2\",link,2,disciplina\n"
+				+ "111.111.111-11,estagio,\"Estágio \"\"remoto\"\"\",link,300,empresa\n"));
+		assertEquals(2, resultado.getImportados());
+		assertEquals(0, resultado.getErros().length);
+		assertEquals(8, this.controller.calcularCreditosAtividadeEstudante("111.111.111-11", "1234", "Monitoria"));
+		assertEquals(5, this.controller.calcularCreditosAtividadeEstudante("111.111.111-11", "1234", "Estagio"));
+	}
+	
+	@Test
+	void testImportarAtividadesExigeSenhaAdministrador() {
+		this.controller.criarEstudante("Maria", "111.111.111-11", "1234", "1001");
+		String mensagem = assertThrows(IllegalArgumentException.class, () -> {
+			this.controller.importarAtividades("1234", leitor("111.111.111-11,Monitoria,descrição,link,2,disciplina\n"));
+		}).getMessage();
+		assertEquals("Senha de administrador inválida", mensagem);
+		assertThrows(IllegalArgumentException.class, () -> {
+			new UsuarioController().importarAtividades("admin123", leitor("111.111.111-11,Monitoria,descrição,link,2,disciplina\n"));
+		});
+		assertEquals(0, this.controller.calcularCreditosAtividadeEstudante("111.111.111-11", "1234", "Monitoria"));
+	}
+	
+	@Test
+	void testImportarAtividadesComErrosPorLinha() {
+		this.controller.criarEstudante("Maria", "111.111.111-11", "1234", "1001");
+		ResultadoImportacao resultado = this.controller.importarAtividades("admin123", leitor(
+				"999.999.999-99,Monitoria,descrição,link,2,disciplina\n"
+				+ "111.111.111-11,Monitoria,descrição,link\n"
+				+ "\n"
+				+ "111.111.111-11,Monitoria,\"descrição,link,2,disciplina\n"
+				+ "111.111.111-11,Monitoria,descrição,link,dois,disciplina\n"
+				+ "111.111.111-11,Intercambio,descrição,link,2,disciplina\n"
+				+ "111.111.111-11,Monitoria,,link,2,disciplina\n"
+				+ "111.111.111-11,Monitoria,descrição,link,2,disciplina\n"));
+		assertEquals(1, resultado.getImportados());
+		assertArrayEquals(new String[] {
+				"Linha 1: Estudante não encontrado",
+				"Linha 2: A linha deve ter os campos cpf, tipo, descrição, link, unidade e especificidade",
+				"Linha 4: Campo entre aspas não foi fechado",
+				"Linha 5: A unidade acumulada deve ser um número inteiro",
+				"Linha 6: Tipo inválido para Atividades Complementares",
+				"Linha 7: A descrição da atividade não pode ser vazia"}, resultado.getErros());
+	}
+	
+	@Test
+	void testImportarAtividadesEmMaisDeUmLote() {
+		this.controller.criarEstudante("Maria", "111.111.111-11", "1234", "1001");
+		StringBuilder texto = new StringBuilder("cpf,tipo,descricao,link,unidade,especificidade\n");
+		texto.append("999.999.999-99,Monitoria,descrição,link,1,disciplina\n");
+		for (int linha = 3; linha <= 10_000; linha++) {
+			texto.append("111.111.111-11,Monitoria,descrição,link,1,disciplina\n");
+		}
+		texto.append("111.111.111-11,Monitoria,descrição,link\n");
+		texto.append("999.999.999-99,Monitoria,descrição,link,1,disciplina\n");
+		texto.append("111.111.111-11,Estagio,descrição,link,300,empresa\n");
+		
+		ResultadoImportacao resultado = this.controller.importarAtividades("admin123", leitor(texto.toString()));
+		assertEquals(9_999, resultado.getImportados());
+		assertArrayEquals(new String[] {
+				"Linha 2: Estudante não encontrado",
+				"Linha 10001: A linha deve ter os campos cpf, tipo, descrição, link, unidade e especificidade",
+				"Linha 10002: Estudante não encontrado"}, resultado.getErros());
+		assertEquals(9_998 * 4, this.controller.calcularCreditosAtividadeEstudante("111.111.111-11", "1234", "Monitoria"));
+		assertEquals(5, this.controller.calcularCreditosAtividadeEstudante("111.111.111-11", "1234", "Estagio"));
+	}
+	
+	@Test
+	void testAlterarSenhaEncerraSessoes() {
+		this.controller.criarEstudante("Maria", "111.111.111-11", "1234", "1001");
+		Sessao sessao = this.controller.login("111.111.111-11", "1234");
+		assertFalse(this.controller.alterarSenhaEstudante(sessao, "errada", "4321"));
+		assertNotNull(this.controller.buscaEstudante(sessao));
+		
+		assertTrue(this.controller.alterarSenhaEstudante(sessao, "1234", "4321"));
+		assertThrows(IllegalArgumentException.class, () -> this.controller.buscaEstudante(sessao));
+		assertNotNull(this.controller.buscaEstudante("111.111.111-11", "4321"));
+	}
+}
@@ -2,8 +2,16 @@ package entities;
 
 import static org.junit.Assert.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -58,4 +66,53 @@ public class DicaTest {
 		dica.adicionaReferencia(user1, "título", "fonte", 2024, true, 5);
 		assertEquals(40, user1.getBonificacao());
 	}
+	
+	@Test
+	void testRepresentacaoAcompanhaElementosAdicionados() {
+		assertEquals("Autor: Ciclano, tema: Monitoria", dica.toString());
+		assertEquals("Autor: Ciclano", dica.exibeDetalhes());
+		
+		dica.adicionaTexto(user1, "Estude a ementa");
+		dica.adicionaMultimidia(user1, "link", "cabeçalho", 300);
+		assertEquals("Autor: Ciclano, tema: Monitoria\nEstude a ementa\nLink: link, cabeçalho", dica.toString());
+		assertEquals("Autor: Ciclano\nEstude a ementa (15 caracteres)\nLink: link, cabeçalho (300 segundos)", dica.exibeDetalhes());
+		assertSame(dica.toString(), dica.toString());
+	}
+	
+	@Test
+	void testRepresentacaoComTextoLongoNaoFicaGuardada() {
+		String longo = "Leia o regulamento de estágio antes de procurar a coordenação. ".repeat(5);
+		dica.adicionaMultimidia(user1, "link", "cabeçalho", 300);
+		String curta = dica.toString();
+		assertSame(curta, dica.toString());
+		
+		dica.adicionaTexto(user1, longo);
+		String completa = dica.toString();
+		assertEquals(curta + "\n" + longo, completa);
+		assertEquals(completa, dica.toString());
+		assertNotSame(completa, dica.toString());
+	}
+	
+	@Test
+	void testAdicionaElementosConcorrentes() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		List<Future<?>> tarefas = new ArrayList<>();
+		try {
+			for (int i = 0; i < 8; i++) {
+				tarefas.add(executor.submit(() -> {
+					for (int j = 0; j < 100; j++) {
+						dica.adicionaMultimidia(user1, "link", "cabeçalho", 60);
+					}
+				}));
+			}
+			for (Future<?> tarefa : tarefas) {
+				tarefa.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+		
+		assertEquals(801, dica.toString().split("\n").length);
+		assertEquals(4000, user1.getBonificacao());
+	}
 }
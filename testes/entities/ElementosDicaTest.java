@@ -0,0 +1,63 @@
+package entities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+import interfaces.Elemento;
+import structures.ArenaTextos;
+
+class ElementosDicaTest {
+
+	@Test
+	void testRecriaElementosGravados() {
+		Elemento[] originais = {
+				new Texto("Um texto qualquer"),
+				new Multimidia("link", "cabeçalho", 300),
+				new Referencia("título", "fonte", 2024, true, 5),
+				new Referencia("outro título", "outra fonte", 1999, false, 2) };
+		ElementosDica colunas = ElementosDica.vazias(new ArenaTextos());
+		for (int i = 0; i < originais.length; i++) {
+			colunas = colunas.reservaPosicao(i);
+			colunas.grava(i, originais[i]);
+		}
+
+		Elemento[] recriados = colunas.elementos(originais.length);
+		for (int i = 0; i < originais.length; i++) {
+			assertEquals(originais[i].exibeDetalhes(), recriados[i].exibeDetalhes());
+			assertEquals(originais[i].valorBonificacao(), recriados[i].valorBonificacao());
+		}
+	}
+
+	@Test
+	void testPosicaoJaReservadaGeraCopia() {
+		ElementosDica colunas = ElementosDica.vazias(new ArenaTextos()).reservaPosicao(0);
+		colunas.grava(0, new Texto("primeiro"));
+
+		ElementosDica reservada = colunas.reservaPosicao(1);
+		reservada.grava(1, new Referencia("título", "fonte", 2024, true, 5));
+		ElementosDica copia = colunas.reservaPosicao(1);
+		copia.grava(1, new Referencia("título", "fonte", 2024, false, 5));
+
+		assertSame(colunas, reservada);
+		assertNotSame(colunas, copia);
+		assertEquals("primeiro", copia.elemento(0).toString());
+		assertEquals(15, reservada.elemento(1).valorBonificacao());
+		assertEquals(0, copia.elemento(1).valorBonificacao());
+	}
+
+	@Test
+	void testCopiaTextoDeOutraArea() {
+		ArenaTextos area = new ArenaTextos();
+		ElementosDica colunas = ElementosDica.vazias(area).reservaPosicao(0);
+		colunas.grava(0, new Texto("de outra área"));
+		assertEquals(256, area.capacidade());
+		ElementosDica mesmaArea = colunas.reservaPosicao(1);
+		mesmaArea.grava(1, new Texto(area, "da mesma área"));
+
+		assertEquals("de outra área", colunas.elemento(0).toString());
+		assertEquals("da mesma área", mesmaArea.elemento(1).toString());
+	}
+}
@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -80,4 +82,51 @@ public class GerenciadorAtividadesComplementaresTest {
 		this.estudante.criaAtividadeComplementar("Estagio", "descrição", "link", 300, "empresa");
 		assertEquals("Ainda não atingiu a meta de créditos", this.estudante.relatorioFinal());
 	}
+	
+	@Test
+	void testMapaCreditosAcompanhaAtividadesCriadas() {
+		this.estudante.criaAtividadeComplementar("Estagio", "descrição", "link", 300, "empresa");
+		this.estudante.criaAtividadeComplementar("estagio", "descrição", "link", 600, "empresa");
+		this.estudante.criaAtividadeComplementar("Monitoria", "descrição", "link", 2, "disciplina");
+		assertEquals(15, this.estudante.calculaCreditos("Estagio"));
+		assertEquals("PesquisaExtensao: 0/18\n"
+				+ "Monitoria: 8/16\n"
+				+ "Estagio: 15/18\n"
+				+ "RepresentacaoEstudantil: 0/2", this.estudante.geraMapaCreditos());
+	}
+	
+	@Test
+	void testAdicionaAtividadesEmLote() {
+		RegistroTiposAtividade tipos = RegistroTiposAtividade.padrao();
+		TipoAtividadeRegistrado estagio = tipos.busca("Estagio");
+		TipoAtividadeRegistrado monitoria = tipos.busca("Monitoria");
+		String[] codigos = this.estudante.adicionaAtividades(List.of(estagio, monitoria, estagio), List.of(
+				estagio.cria("descrição", "link", 300, "empresa"),
+				monitoria.cria("descrição", "link", 1, "disciplina"),
+				estagio.cria("descrição", "link", 300, "empresa")));
+		
+		assertEquals(3, codigos.length);
+		assertEquals(10, this.estudante.calculaCreditos("Estagio"));
+		assertEquals(4, this.estudante.calculaCreditos("Monitoria"));
+		assertTrue(this.estudante.buscaAtividade(codigos[1]) instanceof Monitoria);
+	}
+	
+	@Test
+	void testRelatorioIncluiTiposRegistrados() {
+		RegistroTiposAtividade registro = new RegistroTiposAtividade();
+		registro.registra("Intercambio", 2.0, 8, 1);
+		GerenciadorAtividadesComplementares gerenciador = new GerenciadorAtividadesComplementares(this.estudante, registro);
+		gerenciador.criaAtividadeComplementar("Intercambio", "descrição", "link", 3, "universidade");
+		gerenciador.criaAtividadeComplementar("Estagio", "descrição", "link", 300, "empresa");
+		
+		String relatorio = gerenciador.relatorioParcial(false);
+		assertTrue(relatorio.contains("\nEstagio: 5\n"));
+		assertTrue(relatorio.contains("\nIntercambio: 6\n"));
+		assertTrue(relatorio.endsWith("Créditos totais: 11"));
+		assertTrue(gerenciador.relatorioParcial("intercambio", false)
+				.endsWith("Créditos por atividade:\nIntercambio: 6"));
+		assertEquals("Tipo inválido para Atividades Complementares", assertThrows(IllegalArgumentException.class, () -> {
+			this.estudante.criaAtividadeComplementar("Intercambio", "descrição", "link", 3, "universidade");
+		}).getMessage());
+	}
 }
@@ -0,0 +1,72 @@
+package entities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import interfaces.Atividade;
+
+class RegistroTiposAtividadeTest {
+
+	private RegistroTiposAtividade registro;
+
+	@BeforeEach
+	void setUp() {
+		this.registro = new RegistroTiposAtividade();
+	}
+
+	@Test
+	void testTiposPadrao() {
+		assertEquals(4, this.registro.quantidade());
+		assertEquals("Monitoria", this.registro.busca("MONITORIA").getTipo());
+		assertTrue(this.registro.busca("estagio").cria("descrição", "link", 300, "empresa") instanceof Estagio);
+	}
+
+	@Test
+	void testBuscaTipoInexistente() {
+		String mensagem = assertThrows(IllegalArgumentException.class, () -> {
+			this.registro.busca("Intercambio");
+		}).getMessage();
+		assertEquals("Tipo inválido para Atividades Complementares", mensagem);
+		assertThrows(IllegalArgumentException.class, () -> this.registro.busca(null));
+	}
+
+	@Test
+	void testRegistraTipoPorRegraDeCreditos() {
+		TipoAtividadeRegistrado intercambio = this.registro.registra("Intercambio", 2.0, 8, 1);
+		assertEquals(4, intercambio.getIndice());
+		assertEquals(5, this.registro.quantidade());
+
+		Atividade atividade = this.registro.busca("intercambio").cria("descrição", "link", 6, "universidade");
+		assertEquals(8, atividade.creditos());
+		assertThrows(IllegalArgumentException.class, () -> {
+			this.registro.busca("Intercambio").cria("descrição", "link", 0, "universidade");
+		});
+	}
+
+	@Test
+	void testRegistraTipoDuplicado() {
+		String mensagem = assertThrows(IllegalArgumentException.class, () -> {
+			this.registro.registra("monitoria", 16, Monitoria::new);
+		}).getMessage();
+		assertEquals("Tipo de atividade já registrado", mensagem);
+	}
+
+	@Test
+	void testRegistraTipoComRegraDeCreditosInvalida() {
+		String mensagem = assertThrows(IllegalArgumentException.class, () -> {
+			this.registro.registra("Intercambio", 0, 8, 1);
+		}).getMessage();
+		assertEquals("Os créditos por unidade do tipo de atividade devem ser um número positivo", mensagem);
+		assertThrows(IllegalArgumentException.class, () -> this.registro.registra("Intercambio", -2.0, 8, 1));
+		assertThrows(IllegalArgumentException.class, () -> this.registro.registra("Intercambio", Double.NaN, 8, 1));
+		mensagem = assertThrows(IllegalArgumentException.class, () -> {
+			this.registro.registra("Intercambio", 2.0, 8, 0);
+		}).getMessage();
+		assertEquals("A unidade mínima do tipo de atividade deve ser positiva", mensagem);
+		assertEquals(4, this.registro.quantidade());
+	}
+}
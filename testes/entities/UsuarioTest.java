@@ -2,6 +2,7 @@ package entities;
 
 import static org.junit.Assert.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -99,6 +100,20 @@ public class UsuarioTest {
 		assertTrue(usuarioBase.alteraSenha("1234", "novaSenha"));
 	}
 	
+	@Test
+	void testValidaSenhaDepoisDeAlterar() {
+		assertTrue(usuarioBase.validaSenha("1234"));
+		usuarioBase.alteraSenha("1234", "novaSenha");
+		assertFalse(usuarioBase.validaSenha("1234"));
+		assertTrue(usuarioBase.validaSenha("novaSenha"));
+	}
+	
+	@Test
+	void testValidaSenhaIncorretaOuNula() {
+		assertFalse(usuarioBase.validaSenha("4321"));
+		assertFalse(usuarioBase.validaSenha(null));
+	}
+	
 	@Test
 	void testAlterarSenhaComSenhaNovaPequena() {
 		String mensagem = assertThrows(IllegalArgumentException.class, () -> {
@@ -138,4 +153,14 @@ public class UsuarioTest {
 		Usuario outro = new Usuario("Fulano", "123.456.789-10", "1234", "123456789");
 		assertFalse(usuarioBase.equals(outro));
 	}
+	
+	@Test
+	void testConsultasSemAtividades() {
+		assertEquals(0, this.usuarioBase.calculaCreditos("Monitoria"));
+		assertFalse(this.usuarioBase.atingiuMeta());
+		assertEquals("", this.usuarioBase.listaHistorico());
+		assertFalse(this.usuarioBase.excluirRelatorio("2024-01-01"));
+		assertTrue(this.usuarioBase.geraMapaCreditos().contains("Monitoria: 0/"));
+		assertNull(this.usuarioBase.buscaAtividade("123.456.789-00_1"));
+	}
 }
@@ -2,10 +2,17 @@ package repositories;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import org.junit.Before;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import entities.Dica;
+import entities.Multimidia;
 import entities.Usuario;
 
 class DicaRepositoryTest {
@@ -98,4 +105,163 @@ class DicaRepositoryTest {
 		assertEquals(dica3, repo.buscaDica(3));
 	}
 
+	@Test
+	void testBuscaDicaMantemOrdemPorAutor() {
+		Usuario outro = new Usuario("Beltrano", "123.456.789-11", "1234", "123457");
+		Dica dica5 = new Dica(outro, "Monitoria");
+		
+		this.repo.adicionaDica(dica1);
+		this.repo.adicionaDica(dica5);
+		this.repo.adicionaDica(dica2);
+		
+		assertEquals(dica5, repo.buscaDica(1));
+		assertEquals(dica1, repo.buscaDica(2));
+		assertEquals(dica2, repo.buscaDica(3));
+		try {
+			repo.buscaDica(4);
+			fail("A posição da dica é inválida");
+		} catch (IllegalArgumentException e) {}
+	}
+	
+	@Test
+	void testAdicionaDicaRepetida() {
+		this.repo.adicionaDica(dica1);
+		this.repo.adicionaDica(dica2);
+		
+		assertEquals(0, this.repo.adicionaDica(new Dica(user, "Monitoria")));
+		assertEquals(2, this.repo.listaDicas().length);
+	}
+	
+	@Test
+	void testBuscaDicaPorId() {
+		Usuario outro = new Usuario("Beltrano", "123.456.789-11", "1234", "123457");
+		Dica dica5 = new Dica(outro, "Monitoria");
+		
+		int id1 = this.repo.adicionaDica(dica1);
+		int id5 = this.repo.adicionaDica(dica5);
+		
+		assertEquals(dica1, repo.buscaDicaPorId(id1));
+		assertEquals(dica5, repo.buscaDicaPorId(id5));
+		assertEquals(dica1, repo.buscaDica(2));
+		try {
+			repo.buscaDicaPorId(id5 + 1);
+			fail("Dica não encontrada");
+		} catch (IllegalArgumentException e) {}
+	}
+	
+	@Test
+	void testListaDicasPorTema() {
+		Usuario outro = new Usuario("Beltrano", "123.456.789-11", "1234", "123457");
+		this.repo.adicionaDica(dica1);
+		this.repo.adicionaDica(dica2);
+		int id5 = this.repo.adicionaDica(new Dica(outro, "Monitoria"));
+		
+		String[] primeiraPagina = {"Autor: Fulano, tema: Monitoria"};
+		assertArrayEquals(primeiraPagina, repo.listaDicasPorTema("Monitoria", 0, 1));
+		String[] segundaPagina = {"Autor: Beltrano, tema: Monitoria"};
+		assertArrayEquals(segundaPagina, repo.listaDicasPorTema("Monitoria", 1, 5));
+		assertEquals(0, repo.listaDicasPorTema("Monitoria", id5, 5).length);
+		assertEquals(0, repo.listaDicasPorTema("PesquisaExtensao", 0, 5).length);
+		assertThrows(IllegalArgumentException.class, () -> repo.listaDicasPorTema("Monitoria", 0, 0));
+	}
+	
+	@Test
+	void testListaDicasPorAutor() {
+		Usuario outro = new Usuario("Beltrano", "123.456.789-11", "1234", "123457");
+		int id1 = this.repo.adicionaDica(dica1);
+		this.repo.adicionaDica(new Dica(outro, "Monitoria"));
+		this.repo.adicionaDica(dica2);
+		
+		String[] dicasDoAutor = {"Autor: Fulano, tema: Monitoria", "Autor: Fulano, tema: Estagio"};
+		assertArrayEquals(dicasDoAutor, repo.listaDicasPorAutor("123.456.789-10", 0, 5));
+		String[] segundaPagina = {"Autor: Fulano, tema: Estagio"};
+		assertArrayEquals(segundaPagina, repo.listaDicasPorAutor("123.456.789-10", id1, 5));
+		assertEquals(0, repo.listaDicasPorAutor("123.456.789-99", 0, 5).length);
+	}
+	
+	@Test
+	void testBuscaDicasAtualizadaAoAdicionarElementos() {
+		dica1.adicionaTexto(user, "Como se preparar para a seleção");
+		this.repo.adicionaDica(dica1);
+		this.repo.adicionaDica(dica2);
+		dica2.adicionaMultimidia(user, "https://youtu.be/x", "Entrevista de seleção para estágio", 120);
+		dica2.adicionaReferencia(user, "Guia do estágio", "Coordenação", 2023, true, 3);
+		
+		String[] encontradas = repo.buscaDicas("SELECAO estagio", 5);
+		assertEquals(2, encontradas.length);
+		assertTrue(encontradas[0].startsWith("Autor: Fulano, tema: Estagio"));
+		assertTrue(encontradas[1].startsWith("Autor: Fulano, tema: Monitoria"));
+		assertEquals(0, repo.buscaDicas("intercâmbio", 5).length);
+		assertThrows(IllegalArgumentException.class, () -> repo.buscaDicas(" ", 5));
+	}
+	
+	@Test
+	void testListaMelhoresDicasPorTema() {
+		Usuario outro = new Usuario("Beltrano", "123.456.789-11", "1234", "123457");
+		Dica dica5 = new Dica(outro, "Monitoria");
+		this.repo.adicionaDica(dica1);
+		this.repo.adicionaDica(dica5);
+		this.repo.adicionaDica(dica2);
+		
+		String[] empate = {"Autor: Fulano, tema: Monitoria", "Autor: Beltrano, tema: Monitoria"};
+		assertArrayEquals(empate, repo.listaMelhoresDicas("Monitoria", 5));
+		
+		dica5.adicionaMultimidia(outro, "link", "cabeçalho", 120);
+		assertEquals(10, dica5.getPontuacao());
+		assertArrayEquals(new String[] {"Autor: Beltrano, tema: Monitoria\nLink: link, cabeçalho"}, repo.listaMelhoresDicas("Monitoria", 1));
+		
+		dica1.adicionaReferencia(user, "título", "fonte", 2024, true, 3);
+		assertEquals("Autor: Fulano, tema: Monitoria\nReferência: título fonte, ano: 2024.", repo.listaMelhoresDicas("Monitoria", 2)[0]);
+		assertEquals(1, repo.listaMelhoresDicas("Estagio", 5).length);
+	}
+	
+	@Test
+	void testNovaRegraDeBonificacaoReordenaOsMelhores() {
+		Usuario outro = new Usuario("Beltrano", "123.456.789-11", "1234", "123457");
+		Dica dica5 = new Dica(outro, "Monitoria");
+		dica1.adicionaReferencia(user, "título", "fonte", 2024, true, 3);
+		this.repo.adicionaDica(dica1);
+		this.repo.adicionaDica(dica5);
+		dica5.adicionaMultimidia(outro, "link", "cabeçalho", 120);
+		assertEquals("Autor: Fulano, tema: Monitoria\nReferência: título fonte, ano: 2024.", repo.listaMelhoresDicas("Monitoria", 1)[0]);
+		
+		assertEquals(1, repo.defineRegraBonificacao(elemento -> (elemento instanceof Multimidia) ? 3 * elemento.valorBonificacao() : elemento.valorBonificacao()));
+		assertEquals(15, dica1.getPontuacao());
+		assertEquals(30, dica5.getPontuacao());
+		assertEquals(15, user.getBonificacao());
+		assertEquals(30, outro.getBonificacao());
+		assertEquals("Autor: Beltrano, tema: Monitoria\nLink: link, cabeçalho", repo.listaMelhoresDicas("Monitoria", 1)[0]);
+		assertEquals(0, repo.recalculaBonificacoes());
+	}
+	
+	@Test
+	void testAdicaoEConsultaConcorrentes() throws Exception {
+		Dica[] temas = {dica1, dica2, dica3, dica4};
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		List<Future<?>> tarefas = new ArrayList<>();
+		try {
+			for (Dica dica : temas) {
+				tarefas.add(executor.submit(() -> repo.adicionaDica(dica)));
+				tarefas.add(executor.submit(() -> {
+					for (int i = 0; i < 200; i++) {
+						dica.adicionaTexto(user, "texto concorrente " + i);
+					}
+				}));
+				tarefas.add(executor.submit(() -> {
+					for (int i = 0; i < 200; i++) {
+						repo.listaDicas();
+						repo.buscaDicas("concorrente", 10);
+					}
+				}));
+			}
+			for (Future<?> tarefa : tarefas) {
+				tarefa.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+		
+		assertEquals(4, repo.listaDicas().length);
+		assertEquals(4, repo.buscaDicas("concorrente", 10).length);
+	}
 }
@@ -0,0 +1,82 @@
+package repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import entities.Dica;
+import entities.Multimidia;
+import entities.Usuario;
+
+class LivroBonificacoesTest {
+
+	private LivroBonificacoes livro;
+	private Usuario autor;
+	private Dica dica;
+	
+	@BeforeEach
+	void setUp() {
+		this.livro = new LivroBonificacoes();
+		this.autor = new Usuario("Fulano", "123.456.789-10", "1234", "123456");
+		this.dica = new Dica(autor, "Monitoria");
+	}
+	
+	@Test
+	void testLancaPontosDosElementos() {
+		dica.adicionaMultimidia(autor, "link", "cabeçalho", 120);
+		livro.acompanha(1, dica);
+		dica.adicionaReferencia(autor, "título", "fonte", 2024, true, 3);
+		dica.adicionaTexto(autor, "curto");
+		
+		assertEquals(3, livro.lancamentosDoAutor(autor).size());
+		assertEquals("Tema: Monitoria, elemento: Link: link, cabeçalho, pontos: 10", livro.descreve(livro.lancamentosDoAutor(autor).get(0)));
+		assertEquals("Dica: 1, elemento: 1, pontos: 15", livro.lancamentosDoAutor(autor).get(1).toString());
+		assertEquals(25, livro.totalDoAutor(autor));
+		assertEquals(25, autor.getBonificacao());
+	}
+	
+	@Test
+	void testRecalculaComNovaRegra() {
+		dica.adicionaMultimidia(autor, "link", "cabeçalho", 120);
+		livro.acompanha(1, dica);
+		assertEquals(0, livro.recalcula());
+		
+		livro.defineRegra(elemento -> (elemento instanceof Multimidia) ? 2 * elemento.valorBonificacao() : elemento.valorBonificacao());
+		assertEquals(1, livro.recalcula());
+		assertEquals(2, livro.lancamentosDoAutor(autor).size());
+		assertEquals(10, livro.lancamentosDoAutor(autor).get(1).getPontos());
+		assertEquals(20, livro.totalDoAutor(autor));
+		assertEquals(20, autor.getBonificacao());
+		assertEquals(20, dica.getPontuacao());
+		assertEquals(0, livro.recalcula());
+	}
+	
+	@Test
+	void testNovosElementosSeguemARegraDoLivro() {
+		livro.acompanha(1, dica);
+		livro.defineRegra(elemento -> 2 * elemento.valorBonificacao());
+		dica.adicionaReferencia(autor, "título", "fonte", 2024, true, 3);
+		
+		assertEquals(30, livro.lancamentosDoAutor(autor).get(0).getPontos());
+		assertEquals(30, livro.totalDoAutor(autor));
+		assertEquals(30, autor.getBonificacao());
+		assertEquals(30, dica.getPontuacao());
+		assertEquals(0, livro.recalcula());
+		assertThrows(NullPointerException.class, () -> livro.defineRegra(null));
+	}
+	
+	@Test
+	void testDicaAcompanhadaNaoBonificaOAutorDiretamente() {
+		Dica outra = new Dica(autor, "Estagio");
+		outra.adicionaMultimidia(autor, "link", "cabeçalho", 120);
+		livro.acompanha(1, dica);
+		livro.defineRegra(elemento -> 0);
+		dica.adicionaMultimidia(autor, "link", "cabeçalho", 120);
+		
+		assertEquals(10, autor.getBonificacao());
+		assertEquals(0, livro.totalDoAutor(autor));
+		assertEquals(0, dica.getPontuacao());
+	}
+}
@@ -0,0 +1,106 @@
+package repositories;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import entities.Sessao;
+import entities.Usuario;
+
+class SessaoRepositoryTest {
+	private Clock relogio;
+	private Usuario user1;
+	private Usuario user2;
+	
+	@BeforeEach
+	void setup() {
+		this.relogio = Clock.fixed(Instant.parse("2024-01-01T10:00:00Z"), ZoneOffset.UTC);
+		this.user1 = new Usuario("Fulano", "123.456.789-10", "1234", "123456");
+		this.user2 = new Usuario("Cicrano", "123.456.789-17", "1234", "123450");
+	}
+	
+	@Test
+	void testAbreEBuscaSessao() {
+		SessaoRepository rp = new SessaoRepository(10, Duration.ofMinutes(30), relogio);
+		Sessao sessao1 = rp.abreSessao(user1);
+		Sessao sessao2 = rp.abreSessao(user2);
+		
+		assertNotEquals(sessao1, sessao2);
+		assertEquals(user1, rp.buscaUsuario(sessao1));
+		assertEquals(user2, rp.buscaUsuario(sessao2));
+	}
+	
+	@Test
+	void testSessaoSemToken() {
+		SessaoRepository rp = new SessaoRepository(10, Duration.ofMinutes(30), relogio);
+		String mensagem = assertThrows(IllegalArgumentException.class, () -> rp.buscaUsuario(new Sessao(null))).getMessage();
+		assertEquals("Sessão inválida ou expirada", mensagem);
+		assertFalse(rp.encerraSessao(new Sessao(null)));
+	}
+	
+	@Test
+	void testEncerraSessoesDoUsuario() {
+		SessaoRepository rp = new SessaoRepository(1024, Duration.ofMinutes(30), relogio);
+		Sessao primeira = rp.abreSessao(user1);
+		Sessao segunda = rp.abreSessao(user1);
+		Sessao outra = rp.abreSessao(user2);
+		
+		assertEquals(2, rp.encerraSessoes(user1));
+		assertThrows(IllegalArgumentException.class, () -> rp.buscaUsuario(primeira));
+		assertThrows(IllegalArgumentException.class, () -> rp.buscaUsuario(segunda));
+		assertEquals(user2, rp.buscaUsuario(outra));
+	}
+	
+	@Test
+	void testEncerraSessao() {
+		SessaoRepository rp = new SessaoRepository(10, Duration.ofMinutes(30), relogio);
+		Sessao sessao = rp.abreSessao(user1);
+		
+		assertTrue(rp.encerraSessao(sessao));
+		assertFalse(rp.encerraSessao(sessao));
+		assertThrows(IllegalArgumentException.class, () -> rp.buscaUsuario(sessao));
+	}
+	
+	@Test
+	void testSessaoExpirada() {
+		SessaoRepository rp = new SessaoRepository(10, Duration.ZERO, relogio);
+		Sessao sessao = rp.abreSessao(user1);
+		
+		String mensagem = assertThrows(IllegalArgumentException.class, () -> rp.buscaUsuario(sessao)).getMessage();
+		assertEquals("Sessão inválida ou expirada", mensagem);
+	}
+	
+	@Test
+	void testSessaoMenosUsadaDescartadaQuandoCheio() {
+		SessaoRepository rp = new SessaoRepository(1, Duration.ofMinutes(30), relogio);
+		Sessao sessao1 = rp.abreSessao(user1);
+		Sessao sessao2 = rp.abreSessao(user2);
+		
+		assertThrows(IllegalArgumentException.class, () -> rp.buscaUsuario(sessao1));
+		assertEquals(user2, rp.buscaUsuario(sessao2));
+	}
+	
+	@Test
+	void testCapacidadeRespeitadaComParticoes() {
+		SessaoRepository rp = new SessaoRepository(1024, Duration.ofMinutes(30), relogio);
+		Sessao[] sessoes = new Sessao[4096];
+		for (int i = 0; i < sessoes.length; i++) {
+			sessoes[i] = rp.abreSessao(user1);
+		}
+		
+		int abertas = 0;
+		for (Sessao sessao : sessoes) {
+			if (rp.encerraSessao(sessao)) {
+				abertas++;
+			}
+		}
+		assertTrue(abertas <= 1024);
+		assertTrue(abertas > 512);
+	}
+}
@@ -0,0 +1,148 @@
+package repositories;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import entities.Usuario;
+
+class UsuarioRepositoryCompactoTest {
+	private UsuarioRepositoryCompacto rp;
+	private Usuario user1;
+	private Usuario user2;
+	
+	@BeforeEach
+	void setup() {
+		this.rp = new UsuarioRepositoryCompacto();
+		this.user1 = new Usuario("Fulano", "123.456.789-10", "1234", "123456");
+		this.user2 = new Usuario("Cicrano", "123.456.789-17", "1234", "123450");
+	}
+	
+	@Test
+	void testAdicionaEBuscaEstudante() {
+		assertTrue(rp.adicionaEstudante(user1));
+		assertTrue(rp.adicionaEstudante(user2));
+		assertFalse(rp.adicionaEstudante(new Usuario("Beltrano", "123.456.789-10", "1234", "123456")));
+		
+		Usuario fulano = rp.buscaEstudante("123.456.789-10", "1234");
+		assertEquals(user1, fulano);
+		assertEquals("Nome: Fulano, matrícula: 123456", fulano.toString());
+		assertEquals("Nome: Fulano, CPF: 123.456.789-10 - matrícula 123456", fulano.apresentacaoEmRelatorio());
+		assertThrows(IllegalArgumentException.class, () -> rp.buscaEstudante("123.456.789-10", "4321"));
+		assertThrows(IllegalArgumentException.class, () -> rp.buscaEstudante("123.456.789-19", "1234"));
+	}
+	
+	@Test
+	void testVisoesAlteramOArmazenamento() {
+		rp.adicionaEstudante(user1);
+		Usuario fulano = rp.buscaEstudante("123.456.789-10", "1234");
+		assertTrue(fulano.alteraSenha("1234", "nova senha"));
+		fulano.recebeBonificacao(7);
+		String codigo = fulano.criaAtividadeComplementar("Monitoria", "descrição", "link", 2, "disciplina");
+		
+		Usuario outraVisao = rp.buscaEstudante("123.456.789-10", "nova senha");
+		assertEquals(7, outraVisao.getBonificacao());
+		assertEquals(8, outraVisao.calculaCreditos("Monitoria"));
+		assertNotNull(outraVisao.buscaAtividade(codigo));
+		assertEquals(1, user1.getBonificacao() + 1);
+		
+		rp.defineSenhaAdministrador("admin123");
+		assertTrue(rp.buscaAtividade("admin123", codigo).startsWith("Nome: Fulano, CPF: 123.456.789-10 - matrícula 123456\n"));
+	}
+	
+	@Test
+	void testListagensEmOrdemDeNome() {
+		Usuario marcia = new Usuario("Márcia", "123.456.789-20", "1234", "123460");
+		Usuario mario = new Usuario("Mario", "123.456.789-21", "1234", "123461");
+		Usuario zeca = new Usuario("Zeca", "123.456.789-22", "1234", "123462");
+		rp.adicionaEstudantes(Arrays.asList(user1, marcia, user2, mario, zeca));
+		
+		String[] todos = {"Nome: Cicrano, matrícula: 123450", "Nome: Fulano, matrícula: 123456",
+				"Nome: Márcia, matrícula: 123460", "Nome: Mario, matrícula: 123461", "Nome: Zeca, matrícula: 123462"};
+		assertArrayEquals(todos, rp.listaEstudantes());
+		assertArrayEquals(Arrays.copyOfRange(todos, 2, 4), rp.listaEstudantes("123.456.789-10", 2));
+		assertArrayEquals(Arrays.copyOfRange(todos, 2, 4), rp.buscaEstudantesPorPrefixo("MAR", null, 10));
+		assertArrayEquals(Arrays.copyOfRange(todos, 3, 4), rp.buscaEstudantesPorPrefixo("mar", "123.456.789-20", 10));
+		assertArrayEquals(Arrays.copyOfRange(todos, 2, 3), rp.buscaEstudantesPorPrefixo("mar", "123.456.789-17", 1));
+		assertEquals(0, rp.buscaEstudantesPorPrefixo("mar", "123.456.789-22", 10).length);
+		assertArrayEquals(Arrays.copyOfRange(todos, 0, 2), rp.buscaEstudantesPorIntervalo("Cicrano", "Fulano", null, 10));
+		assertEquals(0, rp.buscaEstudantesPorIntervalo("N", "D", null, 10).length);
+	}
+	
+	@Test
+	void testRankingAtualizadoComBonificacao() {
+		rp.adicionaEstudante(user1);
+		rp.adicionaEstudante(user2);
+		assertEquals(1, rp.posicaoEstudanteRankingDicas("123.456.789-17"));
+		
+		rp.buscaEstudante("123.456.789-10", "1234").recebeBonificacao(15);
+		String[] array = {"Nome: Fulano, matrícula: 123456", "Nome: Cicrano, matrícula: 123450"};
+		assertArrayEquals(array, rp.listaEstudantesRankingDicas());
+		assertEquals(array[0], rp.listaEstudantesRankingDicasStream().findFirst().get());
+		assertEquals(1, rp.posicaoEstudanteRankingDicas("123.456.789-10"));
+		assertEquals(2, rp.posicaoEstudanteRankingDicas("123.456.789-17"));
+		assertArrayEquals(new String[] {array[1]}, rp.listaEstudantesRankingDicas(2, 10));
+		assertEquals(0, rp.listaEstudantesRankingDicas(3, 10).length);
+		assertThrows(IllegalArgumentException.class, () -> rp.posicaoEstudanteRankingDicas("123.456.789-19"));
+	}
+	
+	@Test
+	void testMesmaOrdemQueORepositorioComum() {
+		String[] nomes = {"Ana", "ana", "Ána", "André", "Andre", " Beatriz", "Beatriz ", "Çécilia", "Cecília", "Zé", "Zoë",
+				"Mar", "Márcia", "MARCO", "Mário", "Ñandu", "Ølga"};
+		UsuarioRepository comum = new UsuarioRepository();
+		Random aleatorio = new Random(42);
+		for (int i = 0; i < 300; i++) {
+			String nome = nomes[aleatorio.nextInt(nomes.length)] + ((i % 3 == 0) ? "" : " " + aleatorio.nextInt(5));
+			String cpf = String.format("%03d.456.789-%02d", aleatorio.nextInt(1000), i % 100);
+			comum.adicionaEstudante(new Usuario(nome, cpf, "1234", "" + i));
+			rp.adicionaEstudante(new Usuario(nome, cpf, "1234", "" + i));
+			if (i % 50 == 0) {
+				assertArrayEquals(comum.listaEstudantes(), rp.listaEstudantes());
+			}
+		}
+		assertArrayEquals(comum.listaEstudantes(), rp.listaEstudantes());
+		assertArrayEquals(comum.listaEstudantesRankingDicas(), rp.listaEstudantesRankingDicas());
+		for (String prefixo : new String[] {"an", "ANDRE", "be", "ce", "mar", "z", "n", "o", "x"}) {
+			assertArrayEquals(comum.buscaEstudantesPorPrefixo(prefixo, null, 500), rp.buscaEstudantesPorPrefixo(prefixo, null, 500));
+		}
+		assertArrayEquals(comum.buscaEstudantesPorIntervalo("André", "Mário", null, 500),
+				rp.buscaEstudantesPorIntervalo("André", "Mário", null, 500));
+	}
+	
+	@Test
+	void testAdicionaEstudanteConcorrente() throws Exception {
+		List<Usuario> candidatos = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			candidatos.add(new Usuario("Candidato " + i, "111.111.111-11", "1234", "1000" + i));
+			candidatos.add(new Usuario("Aluno " + i, "222.222.222-2" + i, "1234", "2000" + i));
+		}
+		
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		List<Future<Boolean>> resultados = new ArrayList<>();
+		try {
+			for (Usuario candidato : candidatos) {
+				resultados.add(executor.submit(() -> rp.adicionaEstudante(candidato)));
+			}
+			int adicionados = 0;
+			for (Future<Boolean> resultado : resultados) {
+				if (resultado.get()) adicionados++;
+			}
+			assertEquals(9, adicionados);
+		} finally {
+			executor.shutdown();
+		}
+		
+		assertEquals(9, rp.listaEstudantes().length);
+		assertEquals(9, rp.listaEstudantesRankingDicas().length);
+	}
+}
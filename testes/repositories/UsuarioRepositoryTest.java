@@ -1,13 +1,21 @@
 package repositories;
 
 import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.Before;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import entities.Dica;
+import entities.RegistroTiposAtividade;
+import entities.TipoAtividadeRegistrado;
 import entities.Usuario;
+import interfaces.Atividade;
 
 class UsuarioRepositoryTest {
 	private UsuarioRepository rp;
@@ -34,6 +42,7 @@ class UsuarioRepositoryTest {
 		assertTrue(rp.adicionaEstudante(user1));
 		assertTrue(rp.adicionaEstudante(user2));
 		assertFalse(rp.adicionaEstudante(user1));
+		assertFalse(rp.adicionaEstudante(user3));
 	}
 
 	@Test
@@ -71,6 +80,194 @@ class UsuarioRepositoryTest {
 			fail("Usuário ou senha inválidos");
 		} catch (Exception e) {}
 		
+		try {
+			rp.buscaEstudante("123.456.789-10", "4321");
+			fail("Usuário ou senha inválidos");
+		} catch (Exception e) {}
+	}
+	
+	@Test
+	void testAdicionaEstudantesComMesmoNome() {
+		Usuario homonimo = new Usuario("Fulano", "123.456.789-11", "1234", "123457");
+		assertTrue(rp.adicionaEstudante(user1));
+		assertTrue(rp.adicionaEstudante(homonimo));
+		assertEquals(2, rp.listaEstudantes().length);
+	}
+	
+	@Test
+	void testBuscaEstudantesPorPrefixo() {
+		Usuario marcia = new Usuario("Márcia", "123.456.789-20", "1234", "123460");
+		Usuario mario = new Usuario("Mario", "123.456.789-21", "1234", "123461");
+		rp.adicionaEstudante(user1);
+		rp.adicionaEstudante(marcia);
+		rp.adicionaEstudante(mario);
+		
+		String[] array = {"Nome: Márcia, matrícula: 123460", "Nome: Mario, matrícula: 123461"};
+		assertTrue(Arrays.equals(array, rp.buscaEstudantesPorPrefixo("mar", null, 10)));
+		
+		String[] primeiraPagina = {"Nome: Márcia, matrícula: 123460"};
+		assertTrue(Arrays.equals(primeiraPagina, rp.buscaEstudantesPorPrefixo("MAR", null, 1)));
+		
+		String[] segundaPagina = {"Nome: Mario, matrícula: 123461"};
+		assertTrue(Arrays.equals(segundaPagina, rp.buscaEstudantesPorPrefixo("MAR", "123.456.789-20", 1)));
+		
+		assertEquals(0, rp.buscaEstudantesPorPrefixo("Z", null, 10).length);
+	}
+	
+	@Test
+	void testPaginaComUltimoForaDaFaixa() {
+		Usuario marcia = new Usuario("Márcia", "123.456.789-20", "1234", "123460");
+		Usuario zeca = new Usuario("Zeca", "123.456.789-22", "1234", "123462");
+		rp.adicionaEstudante(user1);
+		rp.adicionaEstudante(user2);
+		rp.adicionaEstudante(marcia);
+		rp.adicionaEstudante(zeca);
+		
+		String[] marcias = {"Nome: Márcia, matrícula: 123460"};
+		assertTrue(Arrays.equals(marcias, rp.buscaEstudantesPorPrefixo("mar", "123.456.789-17", 10)));
+		assertEquals(0, rp.buscaEstudantesPorPrefixo("mar", "123.456.789-22", 10).length);
+		
+		String[] intervalo = {"Nome: Fulano, matrícula: 123456", "Nome: Márcia, matrícula: 123460"};
+		assertTrue(Arrays.equals(intervalo, rp.buscaEstudantesPorIntervalo("D", "N", "123.456.789-17", 10)));
+		assertEquals(0, rp.buscaEstudantesPorIntervalo("D", "N", "123.456.789-22", 10).length);
+	}
+	
+	@Test
+	void testBuscaEstudantesPorIntervalo() {
+		rp.adicionaEstudante(user1);
+		rp.adicionaEstudante(user2);
+		
+		String[] array = {"Nome: Cicrano, matrícula: 123450"};
+		assertTrue(Arrays.equals(array, rp.buscaEstudantesPorIntervalo("A", "Cicrano", null, 10)));
+		
+		String[] array2 = {"Nome: Cicrano, matrícula: 123450", "Nome: Fulano, matrícula: 123456"};
+		assertTrue(Arrays.equals(array2, rp.buscaEstudantesPorIntervalo("Cicrano", "Fulano", null, 10)));
+	}
+	
+	@Test
+	void testRankingAtualizadoComBonificacao() {
+		rp.adicionaEstudante(user1);
+		rp.adicionaEstudante(user2);
+		assertEquals(1, rp.posicaoEstudanteRankingDicas("123.456.789-17"));
+		
+		user1.recebeBonificacao(15);
+		String[] array = {"Nome: Fulano, matrícula: 123456", "Nome: Cicrano, matrícula: 123450"};
+		assertTrue(Arrays.equals(array, rp.listaEstudantesRankingDicas()));
+		assertEquals(1, rp.posicaoEstudanteRankingDicas("123.456.789-10"));
+		assertEquals(2, rp.posicaoEstudanteRankingDicas("123.456.789-17"));
+		
+		String[] segundaPagina = {"Nome: Cicrano, matrícula: 123450"};
+		assertTrue(Arrays.equals(segundaPagina, rp.listaEstudantesRankingDicas(2, 10)));
+		assertEquals(0, rp.listaEstudantesRankingDicas(3, 10).length);
+		
+		assertThrows(IllegalArgumentException.class, () -> rp.posicaoEstudanteRankingDicas("123.456.789-19"));
+	}
+	
+	@Test
+	void testListaEstudantesPaginada() {
+		rp.adicionaEstudante(user1);
+		rp.adicionaEstudante(user2);
+		
+		String[] primeiraPagina = {"Nome: Cicrano, matrícula: 123450"};
+		assertTrue(Arrays.equals(primeiraPagina, rp.listaEstudantes(null, 1)));
+		
+		String[] segundaPagina = {"Nome: Fulano, matrícula: 123456"};
+		assertTrue(Arrays.equals(segundaPagina, rp.listaEstudantes("123.456.789-17", 1)));
+		assertEquals(0, rp.listaEstudantes("123.456.789-10", 1).length);
+	}
+	
+	@Test
+	void testListaEstudantesStream() {
+		rp.adicionaEstudante(user1);
+		rp.adicionaEstudante(user2);
+		user1.recebeBonificacao(5);
+		
+		assertEquals("Nome: Cicrano, matrícula: 123450", rp.listaEstudantesStream().findFirst().get());
+		assertEquals("Nome: Fulano, matrícula: 123456", rp.listaEstudantesRankingDicasStream().findFirst().get());
+	}
+	
+	@Test
+	void testAdicionaEstudantesEmLote() {
+		rp.adicionaEstudante(user2);
+		Usuario user4 = new Usuario("Alana", "123.456.789-30", "1234", "123470");
+		
+		boolean[] adicionados = rp.adicionaEstudantes(Arrays.asList(user1, user2, user3, user4));
+		assertTrue(Arrays.equals(new boolean[] {true, false, false, true}, adicionados));
+		
+		String[] array = {"Nome: Alana, matrícula: 123470", "Nome: Cicrano, matrícula: 123450", "Nome: Fulano, matrícula: 123456"};
+		assertTrue(Arrays.equals(array, rp.listaEstudantes()));
+		assertEquals(user4, rp.buscaEstudante("123.456.789-30", "1234"));
+		assertEquals(3, rp.listaEstudantesRankingDicas().length);
 	}
 
+	@Test
+	void testAdicionaEstudanteConcorrente() throws Exception {
+		List<Usuario> candidatos = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			candidatos.add(new Usuario("Candidato " + i, "111.111.111-11", "1234", "1000" + i));
+			candidatos.add(new Usuario("Aluno " + i, "222.222.222-2" + i, "1234", "2000" + i));
+		}
+		
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		List<Future<Boolean>> resultados = new ArrayList<>();
+		try {
+			for (Usuario candidato : candidatos) {
+				resultados.add(executor.submit(() -> rp.adicionaEstudante(candidato)));
+			}
+			int adicionados = 0;
+			for (Future<Boolean> resultado : resultados) {
+				if (resultado.get()) adicionados++;
+			}
+			assertEquals(9, adicionados);
+		} finally {
+			executor.shutdown();
+		}
+		
+		assertEquals(9, rp.listaEstudantes().length);
+		assertEquals(9, rp.listaEstudantesRankingDicas().length);
+	}
+	
+	@Test
+	void testBuscaAtividadePeloCodigo() {
+		rp.adicionaEstudante(user1);
+		rp.adicionaEstudante(user2);
+		String codigo = user2.criaAtividadeComplementar("Monitoria", "descrição", "link", 2, "disciplina");
+		rp.defineSenhaAdministrador("admin123");
+		
+		assertTrue(rp.buscaAtividade("admin123", codigo).startsWith("Nome: Cicrano, CPF: 123.456.789-17 - matrícula 123450\n"));
+		assertTrue(rp.buscaAtividade("admin123", codigo).endsWith("Créditos: 8"));
+		assertEquals("Atividade não encontrada", assertThrows(IllegalArgumentException.class, () -> {
+			rp.buscaAtividade("admin123", "123.456.789-10_" + codigo.substring(codigo.lastIndexOf('_') + 1));
+		}).getMessage());
+		assertThrows(IllegalArgumentException.class, () -> rp.buscaAtividade("admin123", "semdono"));
+	}
+	
+	@Test
+	void testBuscaAtividadeExigeSenhaAdministrador() {
+		rp.adicionaEstudante(user2);
+		String codigo = user2.criaAtividadeComplementar("Monitoria", "descrição", "link", 2, "disciplina");
+		
+		assertEquals("Senha de administrador inválida", assertThrows(IllegalArgumentException.class, () -> {
+			rp.buscaAtividade("admin123", codigo);
+		}).getMessage());
+		rp.defineSenhaAdministrador("admin123");
+		assertThrows(IllegalArgumentException.class, () -> rp.buscaAtividade("outra123", codigo));
+		assertThrows(IllegalArgumentException.class, () -> rp.buscaAtividade(null, codigo));
+		assertThrows(IllegalArgumentException.class, () -> rp.buscaAtividade("1234", codigo));
+	}
+	
+	@Test
+	void testAdicionaAtividadesExigeSenhaAdministrador() {
+		rp.adicionaEstudante(user2);
+		TipoAtividadeRegistrado monitoria = RegistroTiposAtividade.padrao().busca("Monitoria");
+		List<TipoAtividadeRegistrado> tipos = List.of(monitoria);
+		List<Atividade> atividades = List.of(monitoria.cria("descrição", "link", 2, "disciplina"));
+		
+		assertThrows(IllegalArgumentException.class, () -> rp.adicionaAtividades("admin123", user2.getCpf(), tipos, atividades));
+		rp.defineSenhaAdministrador("admin123");
+		assertThrows(IllegalArgumentException.class, () -> rp.adicionaAtividades("1234", user2.getCpf(), tipos, atividades));
+		assertEquals(0, user2.calculaCreditos("Monitoria"));
+		assertEquals(1, rp.adicionaAtividades("admin123", user2.getCpf(), tipos, atividades).length);
+		assertEquals(8, user2.calculaCreditos("Monitoria"));
+	}
 }
@@ -0,0 +1,92 @@
+package structures;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+class AlocadorCodigosTest {
+
+	@Test
+	void testAlocaEmSequenciaNaMesmaThread() {
+		AlocadorCodigos alocador = new AlocadorCodigos(2);
+		assertEquals(1, alocador.proximo());
+		assertEquals(2, alocador.proximo());
+		assertEquals(3, alocador.proximo());
+	}
+
+	@Test
+	void testAlocaSemRepetirEntreThreads() throws Exception {
+		AlocadorCodigos alocador = new AlocadorCodigos(16);
+		Set<Long> alocados = ConcurrentHashMap.newKeySet();
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<?>> tarefas = new ArrayList<>();
+			for (int t = 0; t < 8; t++) {
+				tarefas.add(executor.submit(() -> {
+					for (int i = 0; i < 1000; i++) {
+						alocados.add(alocador.proximo());
+					}
+				}));
+			}
+			for (Future<?> tarefa : tarefas) {
+				tarefa.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+		assertEquals(8000, alocados.size());
+	}
+
+	@Test
+	void testContinuaDepoisDeReiniciar() throws Exception {
+		Path arquivo = Files.createTempFile("alocador", ".marca");
+		Files.delete(arquivo);
+		try {
+			AlocadorCodigos antes = new AlocadorCodigos(arquivo, 10);
+			long ultimo = 0;
+			for (int i = 0; i < 15; i++) {
+				ultimo = antes.proximo();
+			}
+
+			AlocadorCodigos depois = new AlocadorCodigos(arquivo, 10);
+			assertTrue(depois.proximo() > ultimo);
+		} finally {
+			Files.deleteIfExists(arquivo);
+		}
+	}
+
+	@Test
+	void testBlocoPertenceAoAlocadorQueOReservou() {
+		AlocadorCodigos primeiro = new AlocadorCodigos(10);
+		AlocadorCodigos segundo = new AlocadorCodigos(10);
+		assertEquals(1, primeiro.proximo());
+		assertEquals(2, primeiro.proximo());
+		assertEquals(1, segundo.proximo());
+		assertEquals(11, primeiro.proximo());
+		assertEquals(11, segundo.proximo());
+	}
+
+	@Test
+	void testContinuaDeArquivoExistente() throws Exception {
+		Path arquivo = Files.createTempFile("alocador", ".marca");
+		try {
+			Files.writeString(arquivo, "1000");
+			AlocadorCodigos alocador = new AlocadorCodigos(arquivo, 10);
+			assertEquals(1001, alocador.proximo());
+			assertEquals("1010", Files.readString(arquivo));
+		} finally {
+			Files.deleteIfExists(arquivo);
+		}
+	}
+}
@@ -0,0 +1,82 @@
+package structures;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ArenaTextosTest {
+
+	private ArenaTextos arena;
+
+	@BeforeEach
+	void setUp() {
+		this.arena = new ArenaTextos();
+	}
+
+	@Test
+	void testGravaELe() {
+		byte[] primeiro = "Estude com antecedência".getBytes(StandardCharsets.UTF_8);
+		byte[] segundo = "Revise as anotações".getBytes(StandardCharsets.UTF_8);
+		long enderecoPrimeiro = this.arena.grava(primeiro);
+		long enderecoSegundo = this.arena.grava(segundo);
+
+		assertEquals("Estude com antecedência", this.arena.le(enderecoPrimeiro));
+		assertEquals("Revise as anotações", this.arena.le(enderecoSegundo));
+	}
+
+	@Test
+	void testGravaTextoMaiorQueUmBloco() {
+		String longo = "x".repeat((1 << 20) + 10);
+		byte[] bytes = longo.getBytes(StandardCharsets.UTF_8);
+		this.arena.grava("início".getBytes(StandardCharsets.UTF_8));
+		long endereco = this.arena.grava(bytes);
+
+		assertEquals(longo, this.arena.le(endereco));
+	}
+
+	@Test
+	void testBlocosCrescemAosPoucos() {
+		assertEquals(0, this.arena.capacidade());
+		this.arena.grava("curto".getBytes(StandardCharsets.UTF_8));
+		assertEquals(256, this.arena.capacidade());
+
+		for (int i = 0; i < 100; i++) {
+			this.arena.grava("um texto de tamanho médio".getBytes(StandardCharsets.UTF_8));
+		}
+		assertEquals(256 + 512 + 1024 + 2048, this.arena.capacidade());
+	}
+
+	@Test
+	void testLeEnquantoGravaEmBlocosNovos() throws Exception {
+		int quantidade = 20_000;
+		AtomicLongArray enderecos = new AtomicLongArray(quantidade);
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			Future<?> gravacao = executor.submit(() -> {
+				for (int i = 0; i < quantidade; i++) {
+					enderecos.set(i, this.arena.grava(("texto " + i + " ".repeat(100)).getBytes(StandardCharsets.UTF_8)) + 1);
+				}
+			});
+			Future<?> leitura = executor.submit(() -> {
+				for (int i = 0; i < quantidade; i++) {
+					long endereco;
+					while ((endereco = enderecos.get(i)) == 0) {
+						Thread.onSpinWait();
+					}
+					assertEquals("texto " + i + " ".repeat(100), this.arena.le(endereco - 1));
+				}
+			});
+			gravacao.get();
+			leitura.get();
+		} finally {
+			executor.shutdown();
+		}
+	}
+}
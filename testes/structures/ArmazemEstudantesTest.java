@@ -0,0 +1,132 @@
+package structures;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ArmazemEstudantesTest {
+
+	private ArmazemEstudantes<String> armazem;
+	
+	@BeforeEach
+	void setUp() {
+		this.armazem = new ArmazemEstudantes<>();
+	}
+	
+	@Test
+	void testGuardaERecuperaOsDados() {
+		int fulano = armazem.adiciona("Fulano", "123.456.789-10", "protegida", "0123456", 5);
+		int cicrano = armazem.adiciona("Cicrano", "12345678911", "outra", "m-42", 0);
+		int beltrano = armazem.adiciona("Beltrano", "123456789-12", "senha", "123456789012345678", 0);
+		
+		assertEquals(0, fulano);
+		assertEquals("Fulano", armazem.nome(fulano));
+		assertEquals("123.456.789-10", armazem.cpf(fulano));
+		assertEquals("0123456", armazem.matricula(fulano));
+		assertEquals("protegida", armazem.senha(fulano));
+		assertEquals(5, armazem.bonificacao(fulano));
+		assertEquals("12345678911", armazem.cpf(cicrano));
+		assertEquals("m-42", armazem.matricula(cicrano));
+		assertEquals("123456789-12", armazem.cpf(beltrano));
+		assertEquals("123456789012345678", armazem.matricula(beltrano));
+		assertEquals(3, armazem.tamanho());
+	}
+	
+	@Test
+	void testIndicePorCpf() {
+		for (int i = 0; i < 1000; i++) {
+			assertEquals(i, armazem.adiciona("Estudante " + i, String.format("%011d", i), "senha", "" + i, 0));
+		}
+		armazem.adiciona("Fora do formato", "cpf-1", "senha", "1", 0);
+		
+		assertEquals(-1, armazem.adiciona("Repetido", "00000000500", "senha", "1", 0));
+		assertEquals(-1, armazem.adiciona("Repetido", "cpf-1", "senha", "1", 0));
+		assertEquals(500, armazem.indiceDe("00000000500"));
+		assertEquals(1000, armazem.indiceDe("cpf-1"));
+		assertEquals(-1, armazem.indiceDe("000.000.005-00"));
+		assertEquals(-1, armazem.indiceDe("cpf-2"));
+		assertEquals("Estudante 999", armazem.nome(armazem.indiceDe("00000000999")));
+	}
+	
+	@Test
+	void testTrocaDeSenha() {
+		int fulano = armazem.adiciona("Fulano", "123.456.789-10", "antiga", "1", 0);
+		int cicrano = armazem.adiciona("Cicrano", "123.456.789-11", "dele", "2", 0);
+		armazem.defineSenha(fulano, "uma senha protegida bem mais longa que a anterior");
+		
+		assertEquals("uma senha protegida bem mais longa que a anterior", armazem.senha(fulano));
+		assertEquals("dele", armazem.senha(cicrano));
+	}
+	
+	@Test
+	void testBonificacaoEGerenciador() throws Exception {
+		int fulano = armazem.adiciona("Fulano", "123.456.789-10", "senha", "1", 0);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		List<Future<?>> somas = new ArrayList<>();
+		try {
+			for (int i = 0; i < 8; i++) {
+				somas.add(executor.submit(() -> {
+					for (int j = 0; j < 1000; j++) {
+						armazem.somaBonificacao(fulano, 1);
+					}
+				}));
+			}
+			for (Future<?> soma : somas) {
+				soma.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+		assertEquals(8000, armazem.bonificacao(fulano));
+		
+		assertNull(armazem.gerenciador(fulano));
+		assertEquals("primeiro", armazem.defineGerenciadorSeAusente(fulano, "primeiro"));
+		assertEquals("primeiro", armazem.defineGerenciadorSeAusente(fulano, "segundo"));
+		assertEquals("primeiro", armazem.gerenciador(fulano));
+	}
+	
+	@Test
+	void testOrdemPorChaveMesclaNovosEstudantes() {
+		armazem.adiciona("Márcia", "123.456.789-20", "senha", "1", 0);
+		armazem.adiciona("  fulano", "123.456.789-11", "senha", "2", 0);
+		armazem.adiciona("Mario", "123.456.789-21", "senha", "3", 0);
+		assertArrayEquals(new int[] {1, 0, 2}, armazem.ordemPorChave());
+		
+		armazem.adiciona("Fulano", "123.456.789-10", "senha", "4", 0);
+		armazem.adiciona("Ana", "123.456.789-30", "senha", "5", 0);
+		armazem.adiciona("Mar", "123.456.789-31", "senha", "6", 0);
+		int[] ordem = armazem.ordemPorChave();
+		assertArrayEquals(new int[] {4, 3, 1, 5, 0, 2}, ordem);
+		
+		assertEquals(3, armazem.primeiraPosicaoComChave(ordem, "mar"));
+		assertEquals(4, armazem.primeiraPosicaoComChave(ordem, "mar\u0000￿"));
+		assertEquals(6, armazem.primeiraPosicaoComChave(ordem, "z"));
+		assertEquals(2, armazem.posicaoDepoisDe(ordem, 3));
+	}
+	
+	@Test
+	void testOrdemPorBonificacao() {
+		armazem.adiciona("Fulano", "123.456.789-10", "senha", "1", 0);
+		armazem.adiciona("Cicrano", "123.456.789-11", "senha", "2", 0);
+		armazem.adiciona("Beltrano", "123.456.789-12", "senha", "3", -5);
+		armazem.somaBonificacao(0, 10);
+		
+		assertArrayEquals(new int[] {0, 1, 2}, armazem.ordemPorBonificacao());
+		assertEquals(0, armazem.posicaoPorBonificacao(0));
+		assertEquals(1, armazem.posicaoPorBonificacao(1));
+		assertEquals(2, armazem.posicaoPorBonificacao(2));
+		
+		armazem.somaBonificacao(0, -10);
+		assertArrayEquals(new int[] {1, 0, 2}, armazem.ordemPorBonificacao());
+		assertEquals(1, armazem.posicaoPorBonificacao(0));
+	}
+}
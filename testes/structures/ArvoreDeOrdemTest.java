@@ -0,0 +1,71 @@
+package structures;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ArvoreDeOrdemTest {
+
+	private ArvoreDeOrdem<Integer> arvore;
+	
+	@BeforeEach
+	void setUp() {
+		this.arvore = new ArvoreDeOrdem<>(Comparator.naturalOrder());
+		for (int i = 100; i > 0; i--) {
+			this.arvore.adiciona(i * 2);
+		}
+	}
+	
+	@Test
+	void testAdicionaSemDuplicar() {
+		assertEquals(100, this.arvore.tamanho());
+		assertFalse(this.arvore.adiciona(10));
+		assertTrue(this.arvore.adiciona(11));
+		assertEquals(101, this.arvore.tamanho());
+	}
+	
+	@Test
+	void testPosicaoEBusca() {
+		for (int i = 0; i < 100; i++) {
+			assertEquals((i + 1) * 2, this.arvore.busca(i));
+			assertEquals(i, this.arvore.posicao((i + 1) * 2));
+		}
+		assertEquals(-1, this.arvore.posicao(3));
+		assertThrows(IndexOutOfBoundsException.class, () -> this.arvore.busca(100));
+	}
+	
+	@Test
+	void testRemove() {
+		assertTrue(this.arvore.remove(2));
+		assertFalse(this.arvore.remove(2));
+		assertEquals(4, this.arvore.busca(0));
+		assertEquals(99, this.arvore.tamanho());
+	}
+	
+	@Test
+	void testIteradorAPartirDe() {
+		Iterator<Integer> iterador = this.arvore.iteradorAPartirDe(97);
+		List<Integer> restantes = new ArrayList<>();
+		iterador.forEachRemaining(restantes::add);
+		assertEquals(List.of(196, 198, 200), restantes);
+		assertFalse(this.arvore.iteradorAPartirDe(100).hasNext());
+	}
+	
+	@Test
+	void testPosicaoDepoisDe() {
+		assertEquals(0, this.arvore.posicaoDepoisDe(1));
+		assertEquals(1, this.arvore.posicaoDepoisDe(2));
+		assertEquals(1, this.arvore.posicaoDepoisDe(3));
+		assertEquals(50, this.arvore.posicaoDepoisDe(100));
+		assertEquals(100, this.arvore.posicaoDepoisDe(500));
+	}
+}
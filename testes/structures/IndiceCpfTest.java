@@ -0,0 +1,60 @@
+package structures;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class IndiceCpfTest {
+
+	private IndiceCpf<String> indice;
+	
+	@BeforeEach
+	void setUp() {
+		this.indice = new IndiceCpf<>();
+	}
+	
+	@Test
+	void testAdicionaEBuscaCpfPontuado() {
+		assertNull(this.indice.adiciona("123.456.789-10", "Fulano"));
+		assertEquals("Fulano", this.indice.busca("123.456.789-10"));
+		assertEquals("Fulano", this.indice.adiciona("123.456.789-10", "Cicrano"));
+		assertEquals("Cicrano", this.indice.busca("123.456.789-10"));
+		assertEquals(1, this.indice.tamanho());
+	}
+	
+	@Test
+	void testFormatosDiferentesSaoCpfsDiferentes() {
+		this.indice.adiciona("123.456.789-10", "pontuado");
+		this.indice.adiciona("12345678910", "digitos");
+		this.indice.adiciona("123456789-10", "outro formato");
+		
+		assertEquals("pontuado", this.indice.busca("123.456.789-10"));
+		assertEquals("digitos", this.indice.busca("12345678910"));
+		assertEquals("outro formato", this.indice.busca("123456789-10"));
+		assertEquals(3, this.indice.tamanho());
+	}
+	
+	@Test
+	void testAdicionaSeAusente() {
+		assertNull(this.indice.adicionaSeAusente("cpf", "primeiro"));
+		assertEquals("primeiro", this.indice.adicionaSeAusente("cpf", "segundo"));
+		assertEquals("primeiro", this.indice.busca("cpf"));
+		assertFalse(this.indice.contem(null));
+	}
+	
+	@Test
+	void testMuitosCpfs() {
+		for (int i = 0; i < 10_000; i++) {
+			this.indice.adiciona(String.format("%011d", i), "valor" + i);
+		}
+		for (int i = 0; i < 10_000; i++) {
+			assertEquals("valor" + i, this.indice.busca(String.format("%011d", i)));
+		}
+		assertTrue(this.indice.contem("00000000000"));
+		assertFalse(this.indice.contem("00000010000"));
+	}
+}
@@ -0,0 +1,78 @@
+package structures;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class IndiceInvertidoTest {
+
+	private IndiceInvertido indice;
+	
+	@BeforeEach
+	void setUp() {
+		this.indice = new IndiceInvertido();
+	}
+	
+	@Test
+	void testTokenizaIgnoraAcentosEPalavrasComuns() {
+		assertEquals(List.of("monitoria", "calculo", "ii"), IndiceInvertido.tokeniza("Monitoria de Cálculo II"));
+		assertEquals(List.of("estagio", "2024"), IndiceInvertido.tokeniza("  ESTÁGIO, em 2024!"));
+	}
+	
+	@Test
+	void testBuscaIgnoraAcentos() {
+		this.indice.adiciona(1, "Dicas para a seleção de monitoria");
+		this.indice.adiciona(2, "Como conseguir um estágio");
+		
+		assertArrayEquals(new int[] {1}, this.indice.busca("selecao", 5));
+		assertArrayEquals(new int[] {2}, this.indice.busca("ESTAGIO", 5));
+		assertArrayEquals(new int[0], this.indice.busca("intercâmbio", 5));
+		assertArrayEquals(new int[0], this.indice.busca("de para", 5));
+	}
+	
+	@Test
+	void testBuscaOrdenaPorRelevancia() {
+		this.indice.adiciona(1, "projeto de extensão");
+		this.indice.adiciona(2, "pesquisa e projeto de pesquisa");
+		this.indice.adiciona(3, "monitoria");
+		this.indice.adiciona(3, "projeto de monitoria");
+		
+		assertArrayEquals(new int[] {2, 1}, this.indice.busca("pesquisa extensão", 5));
+		assertArrayEquals(new int[] {1, 2}, this.indice.busca("projeto", 2));
+		assertArrayEquals(new int[] {3, 1}, this.indice.busca("monitoria projeto", 2));
+	}
+	
+	@Test
+	void testBuscaComMuitosDocumentosEIdentificadoresGrandes() {
+		for (int documento = 1; documento <= 500; documento++) {
+			this.indice.adiciona(documento, "calendário acadêmico");
+		}
+		this.indice.adiciona(Integer.MAX_VALUE, "calendário calendário");
+		
+		assertArrayEquals(new int[] {Integer.MAX_VALUE, 1, 2}, this.indice.busca("calendario", 3));
+		assertEquals(501, this.indice.busca("calendario", 1000).length);
+	}
+	
+	@Test
+	void testMelhoresEmOrdemDePontuacaoEIdentificador() {
+		for (int documento = 1; documento <= 200; documento++) {
+			this.indice.adiciona(documento, "prova " + "revisão ".repeat(documento % 7));
+		}
+		int[] todos = this.indice.busca("revisao", 1000);
+		assertEquals(172, todos.length);
+		for (int i = 1; i < todos.length; i++) {
+			int anterior = todos[i - 1] % 7;
+			int atual = todos[i] % 7;
+			assertEquals(true, anterior > atual || (anterior == atual && todos[i - 1] < todos[i]));
+		}
+		for (int limite : new int[] {1, 5, 29, 30, 171}) {
+			assertArrayEquals(Arrays.copyOf(todos, limite), this.indice.busca("revisao", limite));
+		}
+		assertArrayEquals(new int[0], this.indice.busca("revisao", 0));
+	}
+}
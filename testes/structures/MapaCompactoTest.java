@@ -0,0 +1,81 @@
+package structures;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Iterator;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MapaCompactoTest {
+
+	private MapaCompacto<String, Integer> mapa;
+
+	@BeforeEach
+	void setUp() {
+		this.mapa = new MapaCompacto<>();
+	}
+
+	@Test
+	void testAdicionaEBusca() {
+		assertTrue(this.mapa.isEmpty());
+		assertNull(this.mapa.put("a", 1));
+		assertNull(this.mapa.put("b", 2));
+		assertEquals(1, this.mapa.put("a", 3));
+
+		assertEquals(2, this.mapa.size());
+		assertEquals(3, this.mapa.get("a"));
+		assertTrue(this.mapa.containsKey("b"));
+		assertFalse(this.mapa.containsKey("c"));
+	}
+
+	@Test
+	void testRemove() {
+		this.mapa.put("a", 1);
+		this.mapa.put("b", 2);
+		this.mapa.put("c", 3);
+
+		assertEquals(1, this.mapa.remove("a"));
+		assertNull(this.mapa.remove("a"));
+		assertEquals(2, this.mapa.size());
+		assertEquals(2, this.mapa.get("b"));
+		assertEquals(3, this.mapa.get("c"));
+	}
+
+	@Test
+	void testRemovePeloIterador() {
+		for (int i = 0; i < 5; i++) {
+			this.mapa.put("k" + i, i);
+		}
+		Iterator<Map.Entry<String, Integer>> iterador = this.mapa.entrySet().iterator();
+		while (iterador.hasNext()) {
+			if (iterador.next().getValue() % 2 == 0) {
+				iterador.remove();
+			}
+		}
+
+		assertEquals(2, this.mapa.size());
+		assertEquals(1, this.mapa.get("k1"));
+		assertEquals(3, this.mapa.get("k3"));
+	}
+
+	@Test
+	void testExpandeAlemDoLimite() {
+		for (int i = 0; i < 20; i++) {
+			this.mapa.put("k" + i, i);
+		}
+
+		assertEquals(20, this.mapa.size());
+		int soma = 0;
+		for (int valor : this.mapa.values()) {
+			soma += valor;
+		}
+		assertEquals(190, soma);
+		assertEquals(19, this.mapa.remove("k19"));
+		assertEquals(19, this.mapa.size());
+	}
+}
@@ -0,0 +1,130 @@
+package validators;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import interfaces.VerificadorSenha;
+
+class VerificadorSenhaComCacheTest {
+
+	private VerificadorContador lento;
+	private RelogioAjustavel relogio;
+
+	@BeforeEach
+	void setup() {
+		this.lento = new VerificadorContador();
+		this.relogio = new RelogioAjustavel();
+	}
+
+	@Test
+	void testLembraCredencialConferida() {
+		VerificadorSenhaComCache verificador = new VerificadorSenhaComCache(this.lento, 10, Duration.ofMinutes(5), this.relogio);
+		assertTrue(verificador.verifica("1234", "protegida:1234"));
+		assertTrue(verificador.verifica("1234", "protegida:1234"));
+		assertEquals(1, this.lento.verificacoes);
+	}
+
+	@Test
+	void testSenhaErradaNaoELembrada() {
+		VerificadorSenhaComCache verificador = new VerificadorSenhaComCache(this.lento, 10, Duration.ofMinutes(5), this.relogio);
+		assertTrue(verificador.verifica("1234", "protegida:1234"));
+		assertFalse(verificador.verifica("4321", "protegida:1234"));
+		assertFalse(verificador.verifica("4321", "protegida:1234"));
+		assertEquals(3, this.lento.verificacoes);
+		assertFalse(verificador.verifica(null, "protegida:1234"));
+		assertFalse(verificador.verifica("1234", null));
+	}
+
+	@Test
+	void testCredencialExpira() {
+		VerificadorSenhaComCache verificador = new VerificadorSenhaComCache(this.lento, 10, Duration.ofMinutes(5), this.relogio);
+		assertTrue(verificador.verifica("1234", "protegida:1234"));
+		this.relogio.avanca(Duration.ofMinutes(4));
+		assertTrue(verificador.verifica("1234", "protegida:1234"));
+		assertEquals(1, this.lento.verificacoes);
+		this.relogio.avanca(Duration.ofMinutes(1));
+		assertTrue(verificador.verifica("1234", "protegida:1234"));
+		assertEquals(2, this.lento.verificacoes);
+	}
+
+	@Test
+	void testDescartaCredencialUsadaHaMaisTempo() {
+		VerificadorSenhaComCache verificador = new VerificadorSenhaComCache(this.lento, 2, Duration.ofMinutes(5), this.relogio);
+		verificador.verifica("1111", "protegida:1111");
+		verificador.verifica("2222", "protegida:2222");
+		verificador.verifica("1111", "protegida:1111");
+		verificador.verifica("3333", "protegida:3333");
+		assertEquals(3, this.lento.verificacoes);
+		
+		verificador.verifica("1111", "protegida:1111");
+		assertEquals(3, this.lento.verificacoes);
+		verificador.verifica("2222", "protegida:2222");
+		assertEquals(4, this.lento.verificacoes);
+	}
+
+	@Test
+	void testTrocaDeSenhaInvalidaCredencialLembrada() {
+		VerificadorSenhaComCache verificador = new VerificadorSenhaComCache(this.lento, 10, Duration.ofMinutes(5), this.relogio);
+		assertTrue(verificador.verifica("1234", "protegida:1234"));
+		assertFalse(verificador.verifica("1234", "protegida:4321"));
+	}
+
+	@Test
+	void testSenhaMalformadaComPbkdf2() {
+		VerificadorSenhaComCache verificador = new VerificadorSenhaComCache(
+				new VerificadorSenhaPbkdf2(VerificadorSenhaPbkdf2.ITERACOES_MINIMAS), 10, Duration.ofMinutes(5), this.relogio);
+		assertFalse(verificador.verifica("1234", "pbkdf2$mil$sal$hash"));
+		assertTrue(verificador.verifica("1234", verificador.protege("1234")));
+	}
+
+	private static class VerificadorContador implements VerificadorSenha {
+		private int verificacoes;
+
+		@Override
+		public String protege(String senha) {
+			return "protegida:" + senha;
+		}
+
+		@Override
+		public boolean verifica(String senha, String senhaProtegida) {
+			this.verificacoes++;
+			return senhaProtegida.equals(protege(senha));
+		}
+
+		@Override
+		public boolean reconhece(String senhaProtegida) {
+			return senhaProtegida != null && senhaProtegida.startsWith("protegida:");
+		}
+	}
+
+	private static class RelogioAjustavel extends Clock {
+		private Instant agora = Instant.parse("2024-01-01T10:00:00Z");
+
+		void avanca(Duration duracao) {
+			this.agora = this.agora.plus(duracao);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zona) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return this.agora;
+		}
+	}
+}
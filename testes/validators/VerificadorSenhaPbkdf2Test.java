@@ -0,0 +1,51 @@
+package validators;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class VerificadorSenhaPbkdf2Test {
+
+	private static final VerificadorSenhaPbkdf2 VERIFICADOR = new VerificadorSenhaPbkdf2(VerificadorSenhaPbkdf2.ITERACOES_MINIMAS);
+	private static final String PROTEGIDA = VERIFICADOR.protege("1234");
+
+	@Test
+	void testConfereSenhaProtegida() {
+		assertTrue(PROTEGIDA.startsWith("pbkdf2$1000$"));
+		assertTrue(VERIFICADOR.verifica("1234", PROTEGIDA));
+		assertFalse(VERIFICADOR.verifica("4321", PROTEGIDA));
+		assertFalse(VERIFICADOR.verifica(null, PROTEGIDA));
+		assertFalse(VERIFICADOR.verifica("1234", null));
+	}
+
+	@Test
+	void testSalDiferenteACadaProtecao() {
+		assertNotEquals(PROTEGIDA, VERIFICADOR.protege("1234"));
+	}
+
+	@Test
+	void testSenhaProtegidaMalformadaNaoConfere() {
+		String[] partes = PROTEGIDA.split("\\$");
+		assertFalse(VERIFICADOR.verifica("1234", "1234"));
+		assertFalse(VERIFICADOR.verifica("1234", "sha1$1000$" + partes[2] + "$" + partes[3]));
+		assertFalse(VERIFICADOR.verifica("1234", "pbkdf2$mil$" + partes[2] + "$" + partes[3]));
+		assertFalse(VERIFICADOR.verifica("1234", "pbkdf2$1000$%%%$" + partes[3]));
+		assertFalse(VERIFICADOR.verifica("1234", "pbkdf2$1000$" + partes[2] + "$curto"));
+		assertFalse(VERIFICADOR.verifica("1234", "pbkdf2$1000$$" + partes[3]));
+		assertFalse(VERIFICADOR.verifica("1234", PROTEGIDA + "$"));
+	}
+
+	@Test
+	void testIteracoesForaDoIntervaloNaoConferem() {
+		String[] partes = PROTEGIDA.split("\\$");
+		assertFalse(VERIFICADOR.verifica("1234", "pbkdf2$2000000000$" + partes[2] + "$" + partes[3]));
+		assertFalse(VERIFICADOR.verifica("1234", "pbkdf2$1$" + partes[2] + "$" + partes[3]));
+		assertFalse(VERIFICADOR.verifica("1234", "pbkdf2$-1000$" + partes[2] + "$" + partes[3]));
+	}
+
+	@Test
+	void testIteracoesDoConstrutor() {
+		assertThrows(IllegalArgumentException.class, () -> new VerificadorSenhaPbkdf2(999));
+		assertThrows(IllegalArgumentException.class, () -> new VerificadorSenhaPbkdf2(VerificadorSenhaPbkdf2.ITERACOES_MAXIMAS + 1));
+	}
+}